@@ -0,0 +1,46 @@
+/*
+ * BenchmarkMain.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum.bench;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks.  The command-line arguments are the usual JMH
+ * options; in addition, the GC profiler is always enabled, so that the
+ * allocation rate per operation is reported along with the throughput and
+ * average time.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class BenchmarkMain {
+
+	/**
+	 * Runs the benchmarks.
+	 * 
+	 * @param args JMH command-line options.
+	 * @throws CommandLineOptionException If the options are invalid.
+	 * @throws RunnerException If a benchmark fails.
+	 * @throws IOException If JMH cannot write its output.
+	 */
+	public static void main(String[] args) 
+			throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListProfilers()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		new Runner(new OptionsBuilder().parent(cmd).addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * FastBenchmark.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks for the algorithms whose running times are in O(n lg n) or
+ * O(n).  New algorithms of this kind can be benchmarked by adding them to
+ * the algorithm parameter, or by naming them with the -p option, e.g.,
+ * <tt>-p algorithm=MaxSumBU,MaxSumFJ</tt>.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class FastBenchmark extends MaxSumBenchmark {
+
+	/**
+	 * The algorithm being benchmarked.
+	 */
+	@Param({"MaxSumDC", "MaxSumBU", "MaxSumFJ", "MaxSumLDC", "MaxSumVector",
+		"MaxSumLongBU", "MaxSumLongDC", "MaxSumChecked", "MaxSumTDMemo"})
+	public String algorithm;
+
+	/**
+	 * The number of elements in the data set.
+	 */
+	@Param({"1000", "100000", "10000000"})
+	public int size;
+
+	/**
+	 * Sets up the algorithm and data set.
+	 * 
+	 * @throws ReflectiveOperationException If the algorithm cannot be
+	 *                                      instantiated.
+	 */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		setUp(algorithm, size);
+	}
+
+	/**
+	 * Runs the algorithm on the data set.
+	 * 
+	 * @return The maximum subsequence sum.
+	 */
+	@Benchmark
+	public long maxSum() {
+		return alg.maxSumLong(data);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * MaxSumBenchmark.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.ksu.cis.maxsum.DataGenerator;
+import edu.ksu.cis.maxsum.MaxSumInterface;
+
+/**
+ * Common state for the benchmarks of the maximum subsequence sum algorithms.
+ * The data set is generated by {@link DataGenerator} exactly as by the
+ * "Generate Data..." button of {@link edu.ksu.cis.maxsum.MaxSum}, so that a
+ * given size, max, seed, and choice of generator produce the same data set in
+ * both.  Subclasses choose the algorithms and
+ * sizes appropriate to the algorithms' running times.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xss1g")
+public abstract class MaxSumBenchmark {
+
+	/**
+	 * The upper limit on values generated, as in the "Max absolute value"
+	 * field of the Generate Data dialog.  The smaller value avoids overflow;
+	 * the larger is the largest allowed.  Because sums of the larger values
+	 * overflow an int, the benchmarks call
+	 * {@link MaxSumInterface#maxSumLong(int[])}: the algorithms that check
+	 * for overflow throw an ArithmeticException from maxSum, but are exact
+	 * with maxSumLong.
+	 */
+	@Param({"10000", "1073741823"})
+	public int max;
+
+	/**
+	 * The seed for the random number generator.
+	 */
+	@Param({"7"})
+	public int seed;
+
+	/**
+	 * <tt>true</tt> iff the data set is generated sequentially using
+	 * java.util.Random, as by earlier versions.
+	 */
+	@Param({"false"})
+	public boolean compatible;
+
+	/**
+	 * The algorithm being benchmarked.
+	 */
+	protected MaxSumInterface alg;
+
+	/**
+	 * The data set.
+	 */
+	protected int[] data;
+
+	/**
+	 * Instantiates the given algorithm and generates a data set of the given
+	 * size.
+	 * 
+	 * @param algorithm The simple name of a class in edu.ksu.cis.maxsum
+	 *                  implementing MaxSumInterface.
+	 * @param size      The number of elements in the data set.
+	 * @throws ReflectiveOperationException If the algorithm cannot be
+	 *                                      instantiated.
+	 */
+	protected void setUp(String algorithm, int size) throws ReflectiveOperationException {
+		alg = (MaxSumInterface) Class.forName("edu.ksu.cis.maxsum." + algorithm)
+				.getDeclaredConstructor().newInstance();
+		if (compatible) data = DataGenerator.generate(size, max, new Random(seed));
+		else data = DataGenerator.generate(size, max, seed);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * QuadraticBenchmark.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks for the algorithms whose running times are in O(n^2).
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class QuadraticBenchmark extends MaxSumBenchmark {
+
+	/**
+	 * The algorithm being benchmarked.
+	 */
+	@Param({"MaxSumOpt", "MaxSumTD"})
+	public String algorithm;
+
+	/**
+	 * The number of elements in the data set.
+	 */
+	@Param({"1000", "2000", "4000", "8000"})
+	public int size;
+
+	/**
+	 * Sets up the algorithm and data set.
+	 * 
+	 * @throws ReflectiveOperationException If the algorithm cannot be
+	 *                                      instantiated.
+	 */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		setUp(algorithm, size);
+	}
+
+	/**
+	 * Runs the algorithm on the data set.
+	 * 
+	 * @return The maximum subsequence sum.
+	 */
+	@Benchmark
+	public int maxSum() {
+		return alg.maxSum(data);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * ArrayDataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * A {@link Dataset} view of an int array, so that code written for data sets
+ * can also be used on arrays.  The elements are not copied, and closing the
+ * data set has no effect.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class ArrayDataset implements StoredDataset {
+
+	/**
+	 * The elements.
+	 */
+	private int[] data;
+
+	/**
+	 * Constructs a data set viewing the given array.
+	 *
+	 * @param a The array of elements.
+	 */
+	public ArrayDataset(int[] a) {
+		data = a;
+	}
+
+	public long size() {
+		return data.length;
+	}
+
+	public int get(long i) {
+		return data[(int) i];
+	}
+
+	public int chunkCount() {
+		return (int) ((data.length + (long) CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+	}
+
+	public IntBuffer chunk(int k) {
+		int lo = k << CHUNK_SHIFT;
+		return IntBuffer.wrap(data, lo, Math.min(CHUNK_SIZE, data.length - lo)).slice();
+	}
+
+	public void close() {
+		// Nothing to release
+	}
+
+}
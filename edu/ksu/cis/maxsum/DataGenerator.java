@@ -0,0 +1,141 @@
+/*
+ * DataGenerator.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generates random data sets.  Two generators are provided.  The first uses
+ * a java.util.Random to generate the elements in order, as earlier versions
+ * of this program did, so that data sets generated with a given seed can be
+ * reproduced.  The second divides the data set into blocks of BLOCK_SIZE
+ * elements, each generated by its own SplittableRandom whose seed is derived
+ * from the given seed and the block number.  The blocks are filled in
+ * parallel, and because each block's contents depend only on the seed and
+ * the block number, the data set is the same regardless of the number of
+ * threads.  This class uses no GUI classes, so that it can be used by
+ * programs that run without a display.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DataGenerator {
+
+	/**
+	 * The number of elements generated by each SplittableRandom.  This is the
+	 * size of a segment of a {@link Dataset}, so that a
+	 * {@link GeneratedDataset} can generate any segment independently.
+	 */
+	public static final int BLOCK_SIZE = Dataset.SEGMENT_SIZE;
+
+	/**
+	 * The increment of the SplitMix64 generator, used to spread block
+	 * numbers across the seeds.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * Generates a data set whose elements are uniformly distributed between
+	 * -max and max, inclusive.
+	 * 
+	 * @param n   The number of elements.
+	 * @param max The upper limit on values generated.  Must be positive and
+	 *            no more than GenerateDialog.MAX_MAX.
+	 * @param r   The random number generator.
+	 * @return    The data set.
+	 */
+	public static int[] generate(int n, int max, Random r) {
+		int lim = 2*max + 1;
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) {
+			a[i] = r.nextInt(lim) - max;
+		}
+		return a;
+	}
+
+	/**
+	 * Generates a data set whose elements are uniformly distributed between
+	 * -max and max, inclusive, filling blocks of the array in parallel.  The
+	 * result depends only on n, max, and seed.
+	 * 
+	 * @param n    The number of elements.
+	 * @param max  The upper limit on values generated.  Must be positive and
+	 *             no more than GenerateDialog.MAX_MAX.
+	 * @param seed The seed.
+	 * @return     The data set.
+	 */
+	public static int[] generate(int n, int max, long seed) {
+		int[] a = new int[n];
+		int blocks = (int) (((long) n + BLOCK_SIZE - 1) / BLOCK_SIZE);
+		IntStream.range(0, blocks).parallel().forEach(b -> {
+			int lo = b * BLOCK_SIZE;
+			fill(a, lo, Math.min(n, lo + BLOCK_SIZE), max, blockRandom(seed, b));
+		});
+		return a;
+	}
+
+	/**
+	 * Fills a[lo..hi-1] with values uniformly distributed between -max and
+	 * max, inclusive.
+	 * 
+	 * @param a   The array to fill.
+	 * @param lo  The index of the first element to fill.
+	 * @param hi  One more than the index of the last element to fill.
+	 * @param max The upper limit on values generated.
+	 * @param r   The random number generator.
+	 */
+	static void fill(int[] a, int lo, int hi, int max, SplittableRandom r) {
+		int lim = 2*max + 1;
+		for (int i = lo; i < hi; i++) {
+			a[i] = r.nextInt(lim) - max;
+		}
+	}
+
+	/**
+	 * Fills elements lo..hi-1 of b with values uniformly distributed between
+	 * -max and max, inclusive.
+	 * 
+	 * @param b   The buffer to fill.
+	 * @param lo  The index of the first element to fill.
+	 * @param hi  One more than the index of the last element to fill.
+	 * @param max The upper limit on values generated.
+	 * @param r   The random number generator.
+	 */
+	static void fill(IntBuffer b, int lo, int hi, int max, SplittableRandom r) {
+		int lim = 2*max + 1;
+		for (int i = lo; i < hi; i++) {
+			b.put(i, r.nextInt(lim) - max);
+		}
+	}
+
+	/**
+	 * Returns the random number generator for the given block.
+	 * 
+	 * @param seed  The seed for the data set.
+	 * @param block The block number.
+	 * @return      The random number generator for the block.
+	 */
+	static SplittableRandom blockRandom(long seed, long block) {
+		return new SplittableRandom(mix(seed + mix(block * GOLDEN_GAMMA)));
+	}
+
+	/**
+	 * Scrambles the bits of the given value, using the finalizer of the
+	 * SplitMix64 generator.
+	 * 
+	 * @param z The value to scramble.
+	 * @return  The scrambled value.
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
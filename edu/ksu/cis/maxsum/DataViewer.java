@@ -0,0 +1,613 @@
+/*
+ * DataViewer.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.awt.*;
+import java.awt.event.*;
+import java.util.concurrent.ExecutionException;
+import javax.swing.*;
+
+/**
+ * Window listing the elements of a data set, with their indices.  Only the
+ * rows that are visible are read from the data set, and nothing is
+ * allocated for the others, so that the window opens in constant time and
+ * space regardless of the size of the data set.  The user may jump to a
+ * given index and highlight a subsequence having the maximum subsequence
+ * sum; the search runs in the background, holding a reference to the data
+ * set so that it is not closed while being read.  Because Swing components are limited to int coordinates, the rows
+ * are drawn by a custom component, and the scroll bar moves in steps of
+ * several rows when there are more than SCROLL_LIMIT rows.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DataViewer extends JFrame {
+
+	/**
+	 * The version of the serialized form.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The largest number of steps used by the scroll bar.
+	 */
+	private static final long SCROLL_LIMIT = 1L << 30;
+
+	/**
+	 * The number of rows initially visible.
+	 */
+	private static final int VISIBLE_ROWS = 25;
+
+	/**
+	 * The data set displayed.
+	 */
+	private Dataset data;
+
+	/**
+	 * The shared data set, from which background searches acquire references.
+	 */
+	private SharedDataset shared;
+
+	/**
+	 * The number of rows represented by each step of the scroll bar.
+	 */
+	private long scale;
+
+	/**
+	 * The index of the first row shown.
+	 */
+	private long first = 0;
+
+	/**
+	 * The index of the row most recently jumped to, or -1 if there is none.
+	 */
+	private long mark = -1;
+
+	/**
+	 * The index of the first highlighted row.
+	 */
+	private long highlightStart = 0;
+
+	/**
+	 * One more than the index of the last highlighted row.
+	 */
+	private long highlightEnd = 0;
+
+	/**
+	 * <tt>true</tt> while the scroll bar is being updated to match first.
+	 */
+	private boolean adjusting = false;
+
+	/**
+	 * The component showing the rows.
+	 */
+	private DataPanel panel = new DataPanel(this);
+
+	/**
+	 * The scroll bar.
+	 */
+	private JScrollBar bar = new JScrollBar(JScrollBar.VERTICAL);
+
+	/**
+	 * The text field for obtaining an index to jump to.
+	 */
+	private JTextField indexField = new JTextField(12);
+
+	/**
+	 * The button for highlighting a subsequence having the maximum sum.
+	 */
+	private JButton highlightButton = new JButton("Highlight Max Sum");
+
+	/**
+	 * The label describing the highlighted rows.
+	 */
+	private JLabel statusLabel = new JLabel(" ");
+
+	/**
+	 * Constructs a new window showing the given data set.
+	 *
+	 * @param title The title of the window.
+	 * @param d     The data set to display.  The caller must hold a reference
+	 *              to it until the window is disposed.
+	 */
+	public DataViewer(String title, SharedDataset d) {
+		super(title);
+		shared = d;
+		data = d.get();
+		scale = Math.max(1, (data.size() + SCROLL_LIMIT - 1) / SCROLL_LIMIT);
+
+		Container content = getContentPane();
+		JPanel p = new JPanel();
+		p.add(new JLabel("Go to index:"));
+		GoToListener go = new GoToListener(this);
+		indexField.addActionListener(go);
+		p.add(indexField);
+		JButton b = new JButton("Go");
+		b.addActionListener(go);
+		p.add(b);
+		highlightButton.addActionListener(new HighlightListener(this));
+		p.add(highlightButton);
+		content.add(p, BorderLayout.NORTH);
+
+		panel.setPreferredSize(new Dimension(panel.getPreferredSize().width,
+				VISIBLE_ROWS * panel.getRowHeight()));
+		panel.addMouseWheelListener(new ViewWheelListener(this));
+		panel.addComponentListener(new ViewResizeListener(this));
+		content.add(panel, BorderLayout.CENTER);
+		bar.addAdjustmentListener(new ViewScrollListener(this));
+		content.add(bar, BorderLayout.EAST);
+		content.add(statusLabel, BorderLayout.SOUTH);
+		setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+		pack();
+	}
+
+	/**
+	 * Returns the data set displayed.
+	 * @return The data set displayed.
+	 */
+	public Dataset getData() {
+		return data;
+	}
+
+	/**
+	 * Returns the index of the first row shown.
+	 * @return The index of the first row shown.
+	 */
+	public long getFirst() {
+		return first;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the given row is highlighted.
+	 *
+	 * @param i The index of the row.
+	 * @return  <tt>true</tt> iff row i is highlighted.
+	 */
+	public boolean isHighlighted(long i) {
+		return i >= highlightStart && i < highlightEnd;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the given row is the one most recently jumped
+	 * to.
+	 *
+	 * @param i The index of the row.
+	 * @return  <tt>true</tt> iff row i is marked.
+	 */
+	public boolean isMarked(long i) {
+		return i == mark;
+	}
+
+	/**
+	 * Shows the rows beginning with the given index, or the last page of rows
+	 * if there are too few after it.
+	 *
+	 * @param i The index of the first row to show.
+	 */
+	void scrollTo(long i) {
+		int rows = panel.getVisibleRows();
+		first = Math.max(0, Math.min(i, data.size() - rows));
+		adjusting = true;
+		long steps = (data.size() + scale - 1) / scale;
+		int extent = (int) Math.min(steps, Math.max(1, rows / scale));
+		bar.setValues((int) (first / scale), extent, 0, (int) steps);
+		bar.setUnitIncrement(1);
+		bar.setBlockIncrement(extent);
+		adjusting = false;
+		panel.repaint();
+	}
+
+	/**
+	 * Scrolls by the given number of rows.
+	 *
+	 * @param rows The number of rows by which to scroll (negative to scroll
+	 *             up).
+	 */
+	void scrollBy(long rows) {
+		scrollTo(first + rows);
+	}
+
+	/**
+	 * Updates the rows shown to match the scroll bar.
+	 */
+	void scrollBarMoved() {
+		if (!adjusting) {
+			scrollTo(bar.getValue() * scale);
+		}
+	}
+
+	/**
+	 * Updates the scroll bar after the number of visible rows changes.
+	 */
+	void resized() {
+		scrollTo(first);
+	}
+
+	/**
+	 * Jumps to the index given in the text field.
+	 */
+	void goToIndex() {
+		long i;
+		try {
+			i = Long.parseLong(indexField.getText().trim());
+		}
+		catch (NumberFormatException e) {
+			i = -1;
+		}
+		if (i < 0 || i >= data.size()) {
+			JOptionPane.showMessageDialog(this,
+					"The index must be a nonnegative integer less than " + data.size() + ".",
+					"Input Error", JOptionPane.WARNING_MESSAGE);
+			indexField.requestFocus();
+			return;
+		}
+		mark = i;
+		scrollTo(i - panel.getVisibleRows() / 2);
+	}
+
+	/**
+	 * Starts finding a subsequence having the maximum subsequence sum in the
+	 * background.  This takes time proportional to the size of the data set,
+	 * so the window remains responsive meanwhile; when the search finishes,
+	 * {@link #showMaxSum(long, long, long)} highlights the subsequence.
+	 */
+	void highlightMaxSum() {
+		if (!shared.acquire()) {
+			// The data set has been replaced, and this window is being closed
+			return;
+		}
+		highlightButton.setEnabled(false);
+		setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+		statusLabel.setText("Finding the maximum subsequence sum...");
+		new HighlightWorker(this, shared).execute();
+	}
+
+	/**
+	 * Highlights the given subsequence, which has the maximum subsequence
+	 * sum, and scrolls to its beginning.
+	 *
+	 * @param m     The maximum subsequence sum.
+	 * @param start The index of the first element of the subsequence.
+	 * @param end   One more than the index of the last element of the
+	 *              subsequence.
+	 */
+	void showMaxSum(long m, long start, long end) {
+		highlightButton.setEnabled(true);
+		setCursor(Cursor.getDefaultCursor());
+		highlightStart = start;
+		highlightEnd = end;
+		if (highlightStart < highlightEnd) {
+			statusLabel.setText("Max sum = " + m + " at indices " + highlightStart + " through "
+					+ (highlightEnd - 1) + ".");
+			scrollTo(highlightStart);
+		}
+		else {
+			statusLabel.setText("Max sum = 0, the sum of the empty subsequence.");
+			panel.repaint();
+		}
+	}
+
+	/**
+	 * Reports that the search for the maximum subsequence sum failed.
+	 *
+	 * @param e The error thrown by the search.
+	 */
+	void showMaxSumError(Throwable e) {
+		highlightButton.setEnabled(true);
+		setCursor(Cursor.getDefaultCursor());
+		statusLabel.setText("The search failed: " + e);
+	}
+}
+
+/**
+ * The component drawing the visible rows of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class DataPanel extends JComponent {
+
+	/**
+	 * The version of the serialized form.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The space in pixels around the text of each row.
+	 */
+	private static final int MARGIN = 4;
+
+	/**
+	 * The DataViewer containing this component.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new component.
+	 *
+	 * @param p The DataViewer containing this component.
+	 */
+	public DataPanel(DataViewer p) {
+		parent = p;
+		setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+		setOpaque(true);
+		setBackground(UIManager.getColor("List.background"));
+		setForeground(UIManager.getColor("List.foreground"));
+		FontMetrics fm = getFontMetrics(getFont());
+		setPreferredSize(new Dimension(fm.charWidth('0') * 36 + 2 * MARGIN, getRowHeight()));
+	}
+
+	/**
+	 * Returns the height of a row in pixels.
+	 * @return The height of a row in pixels.
+	 */
+	public int getRowHeight() {
+		return getFontMetrics(getFont()).getHeight();
+	}
+
+	/**
+	 * Returns the number of rows that fit in the component.
+	 * @return The number of rows that fit in the component.
+	 */
+	public int getVisibleRows() {
+		return Math.max(1, getHeight() / getRowHeight());
+	}
+
+	/**
+	 * Draws the rows beginning with the parent's first row.
+	 *
+	 * @param g The graphics context.
+	 */
+	protected void paintComponent(Graphics g) {
+		g.setColor(getBackground());
+		g.fillRect(0, 0, getWidth(), getHeight());
+		Dataset d = parent.getData();
+		FontMetrics fm = g.getFontMetrics();
+		int h = fm.getHeight();
+		int indexWidth = fm.stringWidth(Long.toString(Math.max(0, d.size() - 1)));
+		Color highlight = UIManager.getColor("List.selectionBackground");
+		long first = parent.getFirst();
+		int rows = getHeight() / h + 1;
+		for (int r = 0; r < rows && first + r < d.size(); r++) {
+			long i = first + r;
+			int y = r * h;
+			if (parent.isHighlighted(i)) {
+				g.setColor(highlight);
+				g.fillRect(0, y, getWidth(), h);
+			}
+			if (parent.isMarked(i)) {
+				g.setColor(getForeground());
+				g.drawRect(0, y, getWidth() - 1, h - 1);
+			}
+			String index = Long.toString(i);
+			g.setColor(Color.GRAY);
+			g.drawString(index, MARGIN + indexWidth - fm.stringWidth(index), y + fm.getAscent());
+			g.setColor(getForeground());
+			g.drawString(Integer.toString(d.get(i)), 3 * MARGIN + indexWidth, y + fm.getAscent());
+		}
+	}
+}
+
+/**
+ * Event handler for the scroll bar of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class ViewScrollListener implements AdjustmentListener {
+
+	/**
+	 * The DataViewer containing the scroll bar.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The DataViewer containing the scroll bar.
+	 */
+	public ViewScrollListener(DataViewer p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by updating the rows shown.
+	 */
+	public void adjustmentValueChanged(AdjustmentEvent e) {
+		parent.scrollBarMoved();
+	}
+}
+
+/**
+ * Event handler for the mouse wheel over the rows of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class ViewWheelListener implements MouseWheelListener {
+
+	/**
+	 * The DataViewer containing the rows.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The DataViewer containing the rows.
+	 */
+	public ViewWheelListener(DataViewer p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by scrolling the rows.
+	 */
+	public void mouseWheelMoved(MouseWheelEvent e) {
+		parent.scrollBy(e.getUnitsToScroll());
+	}
+}
+
+/**
+ * Event handler for changes in the size of the rows of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class ViewResizeListener extends ComponentAdapter {
+
+	/**
+	 * The DataViewer containing the rows.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The DataViewer containing the rows.
+	 */
+	public ViewResizeListener(DataViewer p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by updating the scroll bar.
+	 */
+	public void componentResized(ComponentEvent e) {
+		parent.resized();
+	}
+}
+
+/**
+ * Event handler for the "Go" button and the index field of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class GoToListener implements ActionListener {
+
+	/**
+	 * The DataViewer containing the button.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The DataViewer containing the button.
+	 */
+	public GoToListener(DataViewer p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by jumping to the index given.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.goToIndex();
+	}
+}
+
+/**
+ * Event handler for the "Highlight Max Sum" button of a DataViewer.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class HighlightListener implements ActionListener {
+
+	/**
+	 * The DataViewer containing the button.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The DataViewer containing the button.
+	 */
+	public HighlightListener(DataViewer p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by highlighting a subsequence with the maximum sum.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.highlightMaxSum();
+	}
+}
+
+/**
+ * The background search for a subsequence of the data set in a DataViewer
+ * having the maximum subsequence sum.  The search holds a reference to the
+ * data set, which it releases when it finishes.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class HighlightWorker extends SwingWorker<Long, Void> {
+
+	/**
+	 * The DataViewer requesting the search.
+	 */
+	private DataViewer parent;
+
+	/**
+	 * The data set searched, to which a reference has been acquired.
+	 */
+	private SharedDataset data;
+
+	/**
+	 * The index of the first element of the subsequence found, followed by
+	 * one more than the index of its last element.
+	 */
+	private long[] range = new long[2];
+
+	/**
+	 * Constructs a new search.
+	 *
+	 * @param p The DataViewer requesting the search.
+	 * @param d The data set to search, to which the caller has acquired a
+	 *          reference that the search will release.
+	 */
+	public HighlightWorker(DataViewer p, SharedDataset d) {
+		parent = p;
+		data = d;
+	}
+
+	/**
+	 * Finds the subsequence, then releases the data set.
+	 *
+	 * @return The maximum subsequence sum.
+	 */
+	protected Long doInBackground() {
+		try {
+			return MaxSumDatasetBU.maxSumRange(data.get(), range);
+		}
+		finally {
+			data.release();
+		}
+	}
+
+	/**
+	 * Shows the result in the DataViewer.
+	 */
+	protected void done() {
+		try {
+			parent.showMaxSum(get(), range[0], range[1]);
+		}
+		catch (ExecutionException e) {
+			parent.showMaxSumError(e.getCause());
+		}
+		catch (InterruptedException e) {
+			parent.showMaxSumError(e);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Dataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.Closeable;
+import java.nio.IntBuffer;
+
+/**
+ * A sequence of ints that may be too large for a Java array, and that
+ * therefore uses long indices.  Algorithms that read the elements in order
+ * read them a segment of SEGMENT_SIZE elements at a time, using int indices
+ * within each segment.  This works for data sets that do not store their
+ * elements, such as {@link GeneratedDataset}; data sets that do store them
+ * implement {@link StoredDataset}, which also gives access to the chunks in
+ * which they are stored.  A data set may hold resources, such as memory
+ * outside the heap or a mapped file, which are released when it is closed;
+ * it must not be used afterwards.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public interface Dataset extends Closeable {
+
+	/**
+	 * The base-2 logarithm of the number of elements in a segment.
+	 */
+	public static final int SEGMENT_SHIFT = 16;
+
+	/**
+	 * The number of elements in each segment except possibly the last.
+	 */
+	public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return The number of elements.
+	 */
+	public long size();
+
+	/**
+	 * Returns the element at the given index.
+	 * 
+	 * @param i The index of the element.
+	 * @return  The element at index i.
+	 */
+	public int get(long i);
+
+	/**
+	 * Returns elements lo through hi - 1, which must be in the same segment
+	 * (i.e., lo >> SEGMENT_SHIFT == (hi - 1) >> SEGMENT_SHIFT).  Element i of
+	 * the returned buffer is element lo + i of the data set, and the buffer's
+	 * limit is hi - lo.  Data sets that store their elements return a view of
+	 * a chunk; others may place the elements in the given array.
+	 * 
+	 * @param lo  The index of the first element.
+	 * @param hi  One more than the index of the last element.
+	 * @param buf An array of length at least SEGMENT_SIZE that may be used to
+	 *            hold the elements, or null if one should be allocated when
+	 *            needed.
+	 * @return    Elements lo through hi - 1.
+	 */
+	public IntBuffer segment(long lo, long hi, int[] buf);
+
+}
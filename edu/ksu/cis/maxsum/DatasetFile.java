@@ -0,0 +1,436 @@
+/*
+ * DatasetFile.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A data set saved in a file, so that exactly the same data can be used on
+ * different occasions or machines.  The file begins with a header of
+ * HEADER_SIZE bytes giving the parameters with which the data set was
+ * generated and a CRC-32C checksum of the elements; the elements follow as
+ * little-endian 32-bit integers, compressed with the deflate algorithm if
+ * the COMPRESSED flag is set.  All values in the header are little-endian:
+ * <pre>
+ *  0  int   MAGIC
+ *  4  int   VERSION
+ *  8  int   flags (COMPRESSED, SEED_GIVEN, COMPATIBLE)
+ * 12  int   the number of bytes in an element (4)
+ * 16  long  the number of elements
+ * 24  long  the seed
+ * 32  int   the max
+ * 36  int   the checksum of the uncompressed elements
+ * </pre>
+ * Files are read and written through a FileChannel using direct buffers, so
+ * that the elements are never converted one at a time.  Any data set may be
+ * written, including one whose elements are not stored.  An uncompressed file
+ * can also be mapped into memory without reading it.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DatasetFile {
+
+	/**
+	 * The first four bytes of every data set file ("MSDS").
+	 */
+	public static final int MAGIC = 0x5344534d;
+
+	/**
+	 * The version of the file format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The number of bytes in the header.
+	 */
+	public static final int HEADER_SIZE = 40;
+
+	/**
+	 * Flag indicating that the elements are compressed.
+	 */
+	public static final int COMPRESSED = 1;
+
+	/**
+	 * Flag indicating that the seed was given by the user.
+	 */
+	public static final int SEED_GIVEN = 2;
+
+	/**
+	 * Flag indicating that the data set was generated as by earlier versions.
+	 */
+	public static final int COMPATIBLE = 4;
+
+	/**
+	 * The size in bytes of the buffers used for reading and writing.
+	 */
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	/**
+	 * The file.
+	 */
+	private final Path file;
+
+	/**
+	 * The flags.
+	 */
+	private final int flags;
+
+	/**
+	 * The number of elements.
+	 */
+	private final long size;
+
+	/**
+	 * The seed.
+	 */
+	private final long seed;
+
+	/**
+	 * The max.
+	 */
+	private final int max;
+
+	/**
+	 * The checksum of the elements.
+	 */
+	private final int checksum;
+
+	/**
+	 * Reads the header of the given file.
+	 *
+	 * @param file The file.
+	 * @throws IOException If the file cannot be read or is not a data set
+	 *                     file.
+	 */
+	public DatasetFile(Path file) throws IOException {
+		this.file = file;
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			boolean complete = true;
+			while (complete && h.hasRemaining()) {
+				complete = ch.read(h) >= 0;
+			}
+			h.flip();
+			if (!complete || h.getInt() != MAGIC) {
+				throw new IOException(file + " is not a data set file.");
+			}
+			int version = h.getInt();
+			if (version != VERSION) {
+				throw new IOException(file + " has unsupported version " + version + ".");
+			}
+			flags = h.getInt();
+			int width = h.getInt();
+			if (width != Integer.BYTES) {
+				throw new IOException(file + " has unsupported element width " + width + ".");
+			}
+			size = h.getLong();
+			seed = h.getLong();
+			max = h.getInt();
+			checksum = h.getInt();
+			if (size < 0 || (!isCompressed() && ch.size() != HEADER_SIZE + size * Integer.BYTES)) {
+				throw new IOException(file + " has the wrong length.");
+			}
+		}
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the given file begins with MAGIC.
+	 *
+	 * @param file The file.
+	 * @return     <tt>true</tt> iff the file appears to be a data set file.
+	 * @throws IOException If the file cannot be read.
+	 */
+	public static boolean isDatasetFile(Path file) throws IOException {
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer h = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			while (h.hasRemaining()) {
+				if (ch.read(h) < 0) {
+					return false;
+				}
+			}
+			return h.getInt(0) == MAGIC;
+		}
+	}
+
+	/**
+	 * Writes the given data set to the given file, replacing its contents.
+	 *
+	 * @param file  The file.
+	 * @param d     The data set.
+	 * @param max   The max with which the data set was generated.
+	 * @param seed  The seed with which the data set was generated.
+	 * @param flags The flags - any combination of COMPRESSED, SEED_GIVEN, and
+	 *              COMPATIBLE.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public static void write(Path file, Dataset d, int max, long seed, int flags)
+			throws IOException {
+		Deflater deflater = (flags & COMPRESSED) != 0 ? new Deflater(Deflater.BEST_SPEED) : null;
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			IntBuffer ints = buf.asIntBuffer();
+			ByteBuffer out = deflater != null ? ByteBuffer.allocateDirect(BUFFER_SIZE) : null;
+			CRC32C crc = new CRC32C();
+			ch.position(HEADER_SIZE);
+			int[] segment = new int[Dataset.SEGMENT_SIZE];
+			int len = 0;
+			for (long lo = 0; lo < d.size(); lo += Dataset.SEGMENT_SIZE) {
+				IntBuffer c = d.segment(lo, Math.min(d.size(), lo + Dataset.SEGMENT_SIZE), segment);
+				ints.put(len, c, 0, c.limit());
+				len += c.limit();
+				if (len == ints.capacity() || lo + Dataset.SEGMENT_SIZE >= d.size()) {
+					buf.clear().limit(len * Integer.BYTES);
+					crc.update(buf);
+					buf.flip();
+					if (deflater == null) {
+						writeFully(ch, buf);
+					}
+					else {
+						deflater.setInput(buf);
+						while (!deflater.needsInput()) {
+							deflate(ch, deflater, out);
+						}
+					}
+					len = 0;
+				}
+			}
+			if (deflater != null) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					deflate(ch, deflater, out);
+				}
+			}
+			ByteBuffer h = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			h.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(Integer.BYTES);
+			h.putLong(d.size()).putLong(seed).putInt(max).putInt((int) crc.getValue());
+			h.flip();
+			ch.position(0);
+			writeFully(ch, h);
+		}
+		finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * @return The number of elements.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the max with which the data set was generated.
+	 * @return The max.
+	 */
+	public int getMax() {
+		return max;
+	}
+
+	/**
+	 * Returns the seed with which the data set was generated.
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the seed was given by the user.
+	 * @return <tt>true</tt> iff the SEED_GIVEN flag is set.
+	 */
+	public boolean isSeedGiven() {
+		return (flags & SEED_GIVEN) != 0;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the data set was generated as by earlier
+	 * versions.
+	 * @return <tt>true</tt> iff the COMPATIBLE flag is set.
+	 */
+	public boolean isCompatible() {
+		return (flags & COMPATIBLE) != 0;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the elements are compressed.
+	 * @return <tt>true</tt> iff the COMPRESSED flag is set.
+	 */
+	public boolean isCompressed() {
+		return (flags & COMPRESSED) != 0;
+	}
+
+	/**
+	 * Reads the elements into an array, verifying the checksum.
+	 *
+	 * @return The elements.
+	 * @throws IOException If the file cannot be read or is corrupt.
+	 */
+	public int[] readArray() throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException(file + " has too many elements for an array.");
+		}
+		int[] a = new int[(int) size];
+		read(new ArrayDataset(a));
+		return a;
+	}
+
+	/**
+	 * Reads the elements into memory outside the heap, verifying the checksum.
+	 *
+	 * @return The elements.
+	 * @throws IOException If the file cannot be read or is corrupt.
+	 */
+	public OffHeapDataset readOffHeap() throws IOException {
+		OffHeapDataset d = new OffHeapDataset(size);
+		try {
+			read(d);
+		}
+		catch (IOException | RuntimeException e) {
+			d.close();
+			throw e;
+		}
+		return d;
+	}
+
+	/**
+	 * Maps the elements into memory.  The checksum is not verified, as the
+	 * elements are not read.
+	 *
+	 * @return The elements.
+	 * @throws IOException If the file cannot be mapped or is compressed.
+	 */
+	public MappedIntFile map() throws IOException {
+		if (isCompressed()) {
+			throw new IOException(file + " is compressed, so it cannot be mapped.");
+		}
+		return new MappedIntFile(file, HEADER_SIZE);
+	}
+
+	/**
+	 * Reads the elements into the given data set, verifying the checksum.
+	 *
+	 * @param d The data set, whose size must be the number of elements.
+	 * @throws IOException If the file cannot be read or is corrupt.
+	 */
+	private void read(StoredDataset d) throws IOException {
+		Inflater inflater = isCompressed() ? new Inflater() : null;
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			IntBuffer ints = buf.asIntBuffer();
+			ByteBuffer in = inflater != null ? ByteBuffer.allocateDirect(BUFFER_SIZE) : null;
+			CRC32C crc = new CRC32C();
+			ch.position(HEADER_SIZE);
+			for (int k = 0; k < d.chunkCount(); k++) {
+				IntBuffer c = d.chunk(k);
+				for (int i = 0; i < c.limit(); i += ints.capacity()) {
+					int len = Math.min(ints.capacity(), c.limit() - i);
+					buf.clear().limit(len * Integer.BYTES);
+					readFully(ch, inflater, in, buf);
+					buf.flip();
+					crc.update(buf);
+					c.put(i, ints, 0, len);
+				}
+			}
+			if ((int) crc.getValue() != checksum) {
+				throw new IOException(file + " is corrupt: the checksum does not match.");
+			}
+		}
+		finally {
+			if (inflater != null) {
+				inflater.end();
+			}
+		}
+	}
+
+	/**
+	 * Fills the given buffer from the given channel.
+	 *
+	 * @param ch       The channel.
+	 * @param inflater The decompressor, or null if the data is not compressed.
+	 * @param in       The buffer holding compressed data not yet decompressed,
+	 *                 if inflater is not null.
+	 * @param dst      The buffer to fill.
+	 * @throws IOException If the channel cannot be read, it ends before dst is
+	 *                     full, or the compressed data is invalid.
+	 */
+	private static void readFully(FileChannel ch, Inflater inflater, ByteBuffer in, ByteBuffer dst)
+			throws IOException {
+		while (dst.hasRemaining()) {
+			if (inflater == null) {
+				if (ch.read(dst) < 0) {
+					throw new EOFException("The file is shorter than its header indicates.");
+				}
+			}
+			else if (inflater.finished()) {
+				throw new EOFException("The file is shorter than its header indicates.");
+			}
+			else if (inflater.needsInput()) {
+				in.clear();
+				if (ch.read(in) < 0) {
+					throw new EOFException("The file is shorter than its header indicates.");
+				}
+				in.flip();
+				inflater.setInput(in);
+			}
+			else {
+				try {
+					inflater.inflate(dst);
+				}
+				catch (DataFormatException e) {
+					throw new IOException("The compressed data is corrupt.", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes all of the given buffer to the given channel.
+	 *
+	 * @param ch  The channel.
+	 * @param src The buffer.
+	 * @throws IOException If the channel cannot be written.
+	 */
+	private static void writeFully(FileChannel ch, ByteBuffer src) throws IOException {
+		while (src.hasRemaining()) {
+			ch.write(src);
+		}
+	}
+
+	/**
+	 * Compresses as much of the deflater's input as fits in the given buffer,
+	 * and writes the result to the given channel.
+	 *
+	 * @param ch       The channel.
+	 * @param deflater The compressor.
+	 * @param out      The buffer for the compressed data.
+	 * @throws IOException If the channel cannot be written.
+	 */
+	private static void deflate(FileChannel ch, Deflater deflater, ByteBuffer out)
+			throws IOException {
+		out.clear();
+		deflater.deflate(out);
+		out.flip();
+		writeFully(ch, out);
+	}
+}
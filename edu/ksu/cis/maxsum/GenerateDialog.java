@@ -17,6 +17,11 @@ import javax.swing.*;
  *
  */
 public class GenerateDialog extends JDialog {
+
+	/**
+	 * The version of the serialized form.
+	 */
+	private static final long serialVersionUID = 1L;
 	
 	/**
 	 * The user closed the dialog by clicking "OK".
@@ -28,6 +33,21 @@ public class GenerateDialog extends JDialog {
 	 */
 	public static final int CANCEL = -1;
 	
+	/**
+	 * The data set is to be stored in an array.
+	 */
+	public static final int HEAP = 0;
+	
+	/**
+	 * The data set is to be stored outside the heap.
+	 */
+	public static final int OFF_HEAP = 1;
+	
+	/**
+	 * The data set is not to be stored; its elements are generated as needed.
+	 */
+	public static final int NOT_STORED = 2;
+	
 	/**
 	 * The maximum size of a data set or value of a seed.
 	 */
@@ -51,6 +71,21 @@ public class GenerateDialog extends JDialog {
 	private static final String SIZE_ERROR = 
 		"The size must be a nonnegative integer no more than " + MAX_SIZE + ".";
 	
+	/**
+	 * Error message to be displayed when an invalid entry is made in the "Size"
+	 * field for a data set not stored in an array.
+	 */
+	private static final String LARGE_SIZE_ERROR = 
+		"The size of a data set not stored in an array must be a nonnegative integer no more than " 
+		+ OffHeapDataset.MAX_SIZE + ".";
+	
+	/**
+	 * Error message to be displayed when a data set not stored in an array is
+	 * to be generated as by earlier versions.
+	 */
+	private static final String LARGE_COMPATIBLE_ERROR = 
+		"A data set not stored in an array cannot be generated as by earlier versions.";
+	
 	/**
 	 * Error message to be displayed when an invalid entry is made in the "Max"
 	 * field.
@@ -83,7 +118,7 @@ public class GenerateDialog extends JDialog {
 	/**
 	 * The number of elements in the data set.
 	 */
-	private int size;
+	private long size;
 	
 	/**
 	 * The upper limit of values to be generated.  The lower limit is the negative of
@@ -101,6 +136,28 @@ public class GenerateDialog extends JDialog {
 	 */
 	private int seed;
 	
+	/**
+	 * The check box for choosing the generator used by earlier versions.
+	 */
+	private JCheckBox compatibleBox = new JCheckBox("Compatible with earlier versions");
+	
+	/**
+	 * <tt>true</tt> iff the data set is to be generated as by earlier versions.
+	 */
+	private boolean compatible;
+	
+	/**
+	 * The component for choosing where the data set is stored.  The index of
+	 * each choice is HEAP, OFF_HEAP, or NOT_STORED.
+	 */
+	private JComboBox<String> storageBox = new JComboBox<>(new String[] {
+			"In an array", "Outside the heap", "Nowhere (generate as needed)"});
+	
+	/**
+	 * Where the data set is to be stored - HEAP, OFF_HEAP, or NOT_STORED.
+	 */
+	private int storage;
+	
 	/**
 	 * The exit status - either OK or CANCEL.
 	 */
@@ -113,20 +170,27 @@ public class GenerateDialog extends JDialog {
 	 * @param max  The default maximum value.
 	 * @param seedGiven <tt>true</tt> iff there is a default seed.
 	 * @param seed The default seed.
+	 * @param compatible <tt>true</tt> iff the data set is by default to be
+	 *                   generated as by earlier versions.
+	 * @param storage Where the data set is by default to be stored - HEAP,
+	 *                OFF_HEAP, or NOT_STORED.
 	 */
-	public GenerateDialog(MaxSum p, int size, int max, boolean seedGiven, int seed) {
+	public GenerateDialog(MaxSum p, long size, int max, boolean seedGiven, int seed,
+			boolean compatible, int storage) {
 		super(p, "Generate Data Set", true);
 		this.size = size;
 		this.max = max;
 		this.seedGiven = seedGiven;
 		this.seed = seed;
+		this.compatible = compatible;
+		this.storage = storage;
 		
 		Container content = getContentPane();
-		content.setLayout(new GridLayout(4,1));
+		content.setLayout(new GridLayout(6,1));
 		
 		JPanel pan = new JPanel();
 		pan.add(new Label("Size of array:"));
-		sizeField.setText(Integer.toString(size));
+		sizeField.setText(Long.toString(size));
 		pan.add(sizeField);
 		content.add(pan);
 		
@@ -144,6 +208,21 @@ public class GenerateDialog extends JDialog {
 		pan.add(seedField);
 		content.add(pan);
 		
+		pan = new JPanel();
+		compatibleBox.setSelected(compatible);
+		compatibleBox.setToolTipText("Generate sequentially using java.util.Random, "
+				+ "reproducing data sets from earlier versions");
+		pan.add(compatibleBox);
+		content.add(pan);
+		
+		pan = new JPanel();
+		pan.add(new Label("Store elements:"));
+		storageBox.setSelectedIndex(storage);
+		storageBox.setToolTipText("Allow data sets larger than the heap or than "
+				+ MAX_SIZE + " elements (only some algorithms can use them)");
+		pan.add(storageBox);
+		content.add(pan);
+		
 		pan = new JPanel();
 		JButton b = new JButton("OK");
 		b.addActionListener(new AcceptListener(this));
@@ -159,10 +238,11 @@ public class GenerateDialog extends JDialog {
 	}
 	
 	/**
-	 * Returns the specified size of the data set.
+	 * Returns the specified size of the data set.  If the data set is not to
+	 * be stored outside the heap, this is no more than MAX_SIZE.
 	 * @return The specified size.
 	 */
-	public int getNum() {
+	public long getNum() {
 		return size;
 	}
 	
@@ -198,6 +278,24 @@ public class GenerateDialog extends JDialog {
 		return seed;
 	}
 
+	/**
+	 * Returns <tt>true</tt> iff the data set is to be generated as by earlier
+	 * versions.
+	 * @return <tt>true</tt> iff the data set is to be generated sequentially
+	 *         using java.util.Random.
+	 */
+	public boolean isCompatible() {
+		return compatible;
+	}
+
+	/**
+	 * Returns where the data set is to be stored.
+	 * @return HEAP, OFF_HEAP, or NOT_STORED.
+	 */
+	public int getStorage() {
+		return storage;
+	}
+
 	/**
 	 * Check the input for validity and close dialog. If there is an invalid input
 	 * display a message and leave the dialog open.
@@ -205,8 +303,20 @@ public class GenerateDialog extends JDialog {
 	 */
 	void accept() {
 		try {
-			size = Integer.parseInt(sizeField.getText());
-			if (size < 0) {
+			size = Long.parseLong(sizeField.getText());
+			if (storageBox.getSelectedIndex() != HEAP) {
+				if (size < 0 || size > OffHeapDataset.MAX_SIZE) {
+					showError(LARGE_SIZE_ERROR);
+					sizeField.requestFocus();
+					return;
+				}
+				if (compatibleBox.isSelected()) {
+					showError(LARGE_COMPATIBLE_ERROR);
+					compatibleBox.requestFocus();
+					return;
+				}
+			}
+			else if (size < 0 || size > MAX_SIZE) {
 				showError(SIZE_ERROR);
 				sizeField.requestFocus();
 				return;
@@ -243,6 +353,8 @@ public class GenerateDialog extends JDialog {
 			sizeField.requestFocus();
 			return;
 		}
+		compatible = compatibleBox.isSelected();
+		storage = storageBox.getSelectedIndex();
 		exitStatus = OK;
 		dispose();
 	}
@@ -0,0 +1,116 @@
+/*
+ * GeneratedDataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * A data set whose elements are not stored, but are generated whenever they
+ * are read.  Because {@link DataGenerator} uses a separate random number
+ * generator for each block of {@link DataGenerator#BLOCK_SIZE} elements,
+ * seeded from the seed and the index of the block, any segment can be
+ * generated without generating the elements preceding it.  The elements are
+ * the same as those generated by
+ * {@link DataGenerator#generate(int, int, long)} with the same max and seed,
+ * so the size of a data set is limited only by the time needed to read it,
+ * and reading it in segments uses O(SEGMENT_SIZE) space.
+ * <p>
+ * Because the elements are not stored, this is not a {@link StoredDataset};
+ * algorithms read the elements using {@link #segment(long, long, int[])}
+ * or {@link #get(long)}.  Reading a
+ * single element generates its entire segment, so get is fast only when
+ * successive elements are in the same segment.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class GeneratedDataset implements Dataset {
+
+	/**
+	 * The number of elements.
+	 */
+	private final long size;
+
+	/**
+	 * The upper limit on values generated.
+	 */
+	private final int max;
+
+	/**
+	 * The seed.
+	 */
+	private final long seed;
+
+	/**
+	 * The segment most recently generated by get.
+	 */
+	private final int[] cache = new int[SEGMENT_SIZE];
+
+	/**
+	 * The index of the segment in cache, or -1 if there is none.
+	 */
+	private long cached = -1;
+
+	/**
+	 * Constructs a data set whose elements are uniformly distributed between
+	 * -max and max, inclusive.
+	 *
+	 * @param n    The number of elements.  Must be nonnegative and no more
+	 *             than OffHeapDataset.MAX_SIZE.
+	 * @param max  The upper limit on values generated.
+	 * @param seed The seed.
+	 */
+	public GeneratedDataset(long n, int max, long seed) {
+		if (n < 0 || n > OffHeapDataset.MAX_SIZE) {
+			throw new IllegalArgumentException("Invalid size: " + n);
+		}
+		size = n;
+		this.max = max;
+		this.seed = seed;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public synchronized int get(long i) {
+		long s = i >>> SEGMENT_SHIFT;
+		if (s != cached) {
+			cached = -1;
+			generate(s, cache);
+			cached = s;
+		}
+		return cache[(int) i & (SEGMENT_SIZE - 1)];
+	}
+
+	public IntBuffer segment(long lo, long hi, int[] buf) {
+		if (buf == null || buf.length < SEGMENT_SIZE) {
+			buf = new int[SEGMENT_SIZE];
+		}
+		long s = lo >>> SEGMENT_SHIFT;
+		generate(s, buf);
+		return IntBuffer.wrap(buf, (int) (lo - (s << SEGMENT_SHIFT)), (int) (hi - lo)).slice();
+	}
+
+	/**
+	 * Has no effect, as no resources are held.
+	 */
+	public void close() {
+	}
+
+	/**
+	 * Generates the given segment.
+	 *
+	 * @param s   The index of the segment.
+	 * @param buf The array in which the elements are placed.
+	 */
+	private void generate(long s, int[] buf) {
+		long first = s << SEGMENT_SHIFT;
+		int len = (int) Math.min(SEGMENT_SIZE, size - first);
+		DataGenerator.fill(buf, 0, len, max, DataGenerator.blockRandom(seed, s));
+	}
+}
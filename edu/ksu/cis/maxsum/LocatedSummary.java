@@ -0,0 +1,235 @@
+/*
+ * LocatedSummary.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * Operations on summaries of array segments that, unlike
+ * {@link SegmentSummary}, also record the locations of the maximum prefix,
+ * maximum suffix, and maximum subsequence, so that algorithms combining
+ * summaries can report where a maximum subsequence lies.  To avoid
+ * allocating an object per summary, a summary occupies SIZE consecutive
+ * locations of a long array, at the offsets given below.  Ties are broken as
+ * by {@link MaxSumLongBU#maxSumRange(int[], MaxSumResult)}: the shortest
+ * maximum prefix and suffix are recorded, and the maximum subsequence ending
+ * first, then starting last, so that combining the summaries of the pieces
+ * of an array in any grouping locates the same subsequence as a single pass.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+final class LocatedSummary {
+
+	/**
+	 * The offsets of the components of a summary.  PREFIX_END is one more
+	 * than the last location of the maximum prefix, SUFFIX_START is the first
+	 * location of the maximum suffix, and BEST_START and BEST_END delimit the
+	 * maximum subsequence.
+	 */
+	static final int TOTAL = 0, PREFIX = 1, PREFIX_END = 2, SUFFIX = 3,
+			SUFFIX_START = 4, BEST = 5, BEST_START = 6, BEST_END = 7;
+
+	/**
+	 * The number of array locations used by a summary.
+	 */
+	static final int SIZE = 8;
+
+	/**
+	 * This class is not meant to be instantiated.
+	 */
+	private LocatedSummary() {
+	}
+
+	/**
+	 * Stores the summary of a[lo..hi-1] in s[d..d+SIZE-1].  It must be the
+	 * case that lo &lt;= hi.
+	 *
+	 * @param a  The array containing the segment.
+	 * @param lo The index of the first element in the segment.
+	 * @param hi One more than the index of the last element in the segment.
+	 * @param s  The array in which the summary is stored.
+	 * @param d  The location in s at which the summary is stored.
+	 */
+	static void summarize(int[] a, int lo, int hi, long[] s, int d) {
+		long sum = 0;
+		long mpre = 0;
+		long msuf = 0;
+		long m = 0;
+		int prefixEnd = lo;
+		int suffixStart = lo;
+		int start = lo;
+		int end = lo;
+		// Invariant: sum is the sum of a[lo..i-1]; mpre is its maximum prefix
+		//            sum, and is the sum of a[lo..prefixEnd-1]; msuf is its
+		//            maximum suffix sum, and is the sum of
+		//            a[suffixStart..i-1]; m is its maximum subsequence sum, and
+		//            is the sum of a[start..end-1]
+		for (int i = lo; i < hi; i++) {
+			int x = a[i];
+			sum += x;
+			if (sum > mpre) {
+				mpre = sum;
+				prefixEnd = i + 1;
+			}
+			msuf += x;
+			if (msuf <= 0) {
+				msuf = 0;
+				suffixStart = i + 1;
+			}
+			else if (msuf > m) {
+				m = msuf;
+				start = suffixStart;
+				end = i + 1;
+			}
+		}
+		s[d + TOTAL] = sum;
+		s[d + PREFIX] = mpre;
+		s[d + PREFIX_END] = prefixEnd;
+		s[d + SUFFIX] = msuf;
+		s[d + SUFFIX_START] = suffixStart;
+		s[d + BEST] = m;
+		s[d + BEST_START] = start;
+		s[d + BEST_END] = end;
+	}
+
+	/**
+	 * Stores the summary of the elements of the given buffer, from index 0
+	 * up to its limit, in s[d..d+SIZE-1], as
+	 * {@link #summarize(int[], int, int, long[], int)} does.  The locations
+	 * recorded are those in a sequence in which element i of b has index
+	 * base + i.
+	 *
+	 * @param b    The buffer containing the segment.
+	 * @param base The index of element 0 of b.
+	 * @param s    The array in which the summary is stored.
+	 * @param d    The location in s at which the summary is stored.
+	 */
+	static void summarize(IntBuffer b, long base, long[] s, int d) {
+		long sum = 0;
+		long mpre = 0;
+		long msuf = 0;
+		long m = 0;
+		int n = b.limit();
+		int prefixEnd = 0;
+		int suffixStart = 0;
+		int start = 0;
+		int end = 0;
+		// Invariant: as in summarize(int[], int, int, long[], int), with
+		//            indices relative to base
+		for (int i = 0; i < n; i++) {
+			int x = b.get(i);
+			sum += x;
+			if (sum > mpre) {
+				mpre = sum;
+				prefixEnd = i + 1;
+			}
+			msuf += x;
+			if (msuf <= 0) {
+				msuf = 0;
+				suffixStart = i + 1;
+			}
+			else if (msuf > m) {
+				m = msuf;
+				start = suffixStart;
+				end = i + 1;
+			}
+		}
+		s[d + TOTAL] = sum;
+		s[d + PREFIX] = mpre;
+		s[d + PREFIX_END] = base + prefixEnd;
+		s[d + SUFFIX] = msuf;
+		s[d + SUFFIX_START] = base + suffixStart;
+		s[d + BEST] = m;
+		s[d + BEST_START] = base + start;
+		s[d + BEST_END] = base + end;
+	}
+
+	/**
+	 * Stores in s[d..d+SIZE-1] the summary of an empty segment beginning at
+	 * the given index.
+	 *
+	 * @param s  The array in which the summary is stored.
+	 * @param d  The location in s at which the summary is stored.
+	 * @param lo The index at which the segment begins.
+	 */
+	static void empty(long[] s, int d, int lo) {
+		s[d + TOTAL] = 0;
+		s[d + PREFIX] = 0;
+		s[d + PREFIX_END] = lo;
+		s[d + SUFFIX] = 0;
+		s[d + SUFFIX_START] = lo;
+		s[d + BEST] = 0;
+		s[d + BEST_START] = lo;
+		s[d + BEST_END] = lo;
+	}
+
+	/**
+	 * Stores in s[d..d+SIZE-1] the summary of the segment summarized in
+	 * l[cl..cl+SIZE-1] followed by the segment summarized in
+	 * r[cr..cr+SIZE-1].  The result may overwrite either of these.
+	 *
+	 * @param l  The array containing the summary of the first segment.
+	 * @param cl The location in l of the summary of the first segment.
+	 * @param r  The array containing the summary of the second segment.
+	 * @param cr The location in r of the summary of the second segment.
+	 * @param s  The array in which the summary is stored.
+	 * @param d  The location in s at which the summary is stored.
+	 */
+	static void combine(long[] l, int cl, long[] r, int cr, long[] s, int d) {
+		long total = l[cl + TOTAL] + r[cr + TOTAL];
+		long prefix = l[cl + PREFIX];
+		long prefixEnd = l[cl + PREFIX_END];
+		if (l[cl + TOTAL] + r[cr + PREFIX] > prefix) {
+			prefix = l[cl + TOTAL] + r[cr + PREFIX];
+			prefixEnd = r[cr + PREFIX_END];
+		}
+		long suffix = r[cr + SUFFIX];
+		long suffixStart = r[cr + SUFFIX_START];
+		if (l[cl + SUFFIX] + r[cr + TOTAL] > suffix) {
+			suffix = l[cl + SUFFIX] + r[cr + TOTAL];
+			suffixStart = l[cl + SUFFIX_START];
+		}
+		long best = l[cl + BEST];
+		long bestStart = l[cl + BEST_START];
+		long bestEnd = l[cl + BEST_END];
+		long cross = l[cl + SUFFIX] + r[cr + PREFIX];
+		if (cross > best) {
+			best = cross;
+			bestStart = l[cl + SUFFIX_START];
+			bestEnd = r[cr + PREFIX_END];
+		}
+		long rbest = r[cr + BEST];
+		if (rbest > best || (rbest == best && r[cr + BEST_END] == bestEnd
+				&& r[cr + BEST_START] > bestStart)) {
+			best = rbest;
+			bestStart = r[cr + BEST_START];
+			bestEnd = r[cr + BEST_END];
+		}
+		s[d + TOTAL] = total;
+		s[d + PREFIX] = prefix;
+		s[d + PREFIX_END] = prefixEnd;
+		s[d + SUFFIX] = suffix;
+		s[d + SUFFIX_START] = suffixStart;
+		s[d + BEST] = best;
+		s[d + BEST_START] = bestStart;
+		s[d + BEST_END] = bestEnd;
+	}
+
+	/**
+	 * Stores the maximum subsequence sum and its location from the summary
+	 * in s[d..d+SIZE-1] in the given holder.
+	 *
+	 * @param s The array containing the summary.
+	 * @param d The location in s of the summary.
+	 * @param r The holder in which the result is stored.
+	 * @return  r.
+	 */
+	static MaxSumResult result(long[] s, int d, MaxSumResult r) {
+		return r.set(s[d + BEST], (int) s[d + BEST_START], (int) s[d + BEST_END]);
+	}
+}
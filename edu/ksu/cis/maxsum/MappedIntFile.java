@@ -0,0 +1,114 @@
+/*
+ * MappedIntFile.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only data set backed by a file of little-endian 32-bit integers,
+ * mapped into memory.  Because a single mapping is limited to 2^31 - 1 bytes,
+ * each chunk of the data set is mapped separately.  The number of elements is
+ * therefore limited only by the address space.  No data is copied onto the
+ * heap; the operating system's page cache supplies the data on demand.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MappedIntFile implements StoredDataset {
+
+	/**
+	 * The number of bytes in an element.
+	 */
+	private static final int BYTES = Integer.BYTES;
+
+	/**
+	 * The channel from which the file is mapped.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * The mapped chunks.
+	 */
+	private final IntBuffer[] chunks;
+
+	/**
+	 * The number of elements in the file.
+	 */
+	private final long size;
+
+	/**
+	 * Maps the given file.
+	 * 
+	 * @param file The file to be mapped.  Its length must be a multiple of 4.
+	 * @throws IOException If the file cannot be mapped or its length is not
+	 *                     a multiple of 4.
+	 */
+	public MappedIntFile(Path file) throws IOException {
+		this(file, 0);
+	}
+
+	/**
+	 * Maps the given file, skipping the given number of bytes at its
+	 * beginning.
+	 * 
+	 * @param file   The file to be mapped.  Its length must exceed offset by
+	 *               a multiple of 4.
+	 * @param offset The number of bytes preceding the first element.
+	 * @throws IOException If the file cannot be mapped or its length does
+	 *                     not exceed offset by a multiple of 4.
+	 */
+	public MappedIntFile(Path file, long offset) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long bytes = channel.size() - offset;
+			if (bytes < 0 || bytes % BYTES != 0) {
+				throw new IOException(file + " does not contain a whole number of ints.");
+			}
+			size = bytes / BYTES;
+			chunks = new IntBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+			for (int k = 0; k < chunks.length; k++) {
+				long first = (long) k << CHUNK_SHIFT;
+				long len = Math.min(CHUNK_SIZE, size - first);
+				chunks[k] = channel.map(FileChannel.MapMode.READ_ONLY, offset + first * BYTES, 
+						len * BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public int get(long i) {
+		return chunks[(int) (i >>> CHUNK_SHIFT)].get((int) i & (CHUNK_SIZE - 1));
+	}
+
+	public int chunkCount() {
+		return chunks.length;
+	}
+
+	public IntBuffer chunk(int k) {
+		return chunks[k];
+	}
+
+	/**
+	 * Closes the underlying channel.  The mappings themselves are released
+	 * when the chunks are garbage collected.
+	 */
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -12,7 +12,6 @@ import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
 import javax.swing.*;
-import javax.swing.event.*;
 
 /**
  * A class containing a GUI for comparing algorithms for finding the maximum
@@ -25,11 +24,37 @@ import javax.swing.event.*;
  */
 public class MaxSum extends JFrame {
 
+  /**
+   * The version of the serialized form.
+   */
+  private static final long serialVersionUID = 1L;
+
   /**
    * The algorithms to be tested.
    */
   private static MaxSumInterface[] algorithms = new MaxSumInterface[] {
-    new MaxSumIter(), new MaxSumOpt(), new MaxSumTD(), new MaxSumDC(), new MaxSumBU()};
+    new MaxSumIter(), new MaxSumOpt(), new MaxSumTD(), new MaxSumDC(), new MaxSumBU(),
+    new MaxSumFJ(), new MaxSumLDC(), new MaxSumVector(), new MaxSumLongBU(),
+    new MaxSumLongDC(), new MaxSumChecked(), new MaxSumTDMemo()};
+  
+  /**
+   * The algorithms to be used when the data set is not stored in an array
+   * (i.e., it is stored outside the heap or not stored at all).  Element i is
+   * the version of algorithms[i] for such data sets, or null if there is no
+   * such version.
+   */
+  private static MaxSumDatasetInterface[] datasetAlgorithms = new MaxSumDatasetInterface[] {
+    null, null, null, new MaxSumDatasetDC(), new MaxSumDatasetBU(), 
+    new MaxSumDatasetFJ(), null, null, null, null, null, null};
+  
+  /**
+   * The instrumented versions of the algorithms, which count the operations
+   * they perform.  Element i is the instrumented version of algorithms[i],
+   * or null if there is no such version.
+   */
+  private static MaxSumCountedInterface[] countedAlgorithms = new MaxSumCountedInterface[] {
+    new MaxSumIterCounted(), new MaxSumOptCounted(), new MaxSumTDCounted(), 
+    new MaxSumDCCounted(), new MaxSumBUCounted(), null, null, null, null, null, null, null};
   
   /**
    * The cursor to use when a potentially long operation is being performed.
@@ -47,6 +72,24 @@ public class MaxSum extends JFrame {
    */
   private int[] data = new int[0];
   
+  /**
+   * The data set if it is not stored in an array, or null if it is stored in
+   * data.  This object holds a reference to it, which is released when it is
+   * replaced; runs still using it hold their own references.
+   */
+  private SharedDataset dataset = null;
+  
+  /**
+   * Where the data set is stored - GenerateDialog.HEAP, OFF_HEAP, or
+   * NOT_STORED.
+   */
+  private int storage = GenerateDialog.HEAP;
+  
+  /**
+   * The windows that have been opened to view the current data set.
+   */
+  private ArrayList<DataViewer> viewers = new ArrayList<>();
+  
   /**
    * The maximum value allowed in the data set. The minimum is the negative of this value.
    */
@@ -62,22 +105,56 @@ public class MaxSum extends JFrame {
    */
   private int seed;
   
+  /**
+   * <tt>true</tt> iff the data set was generated as by earlier versions.
+   */
+  private boolean compatible = false;
+  
   /**
    * The number of the current data set.
    */
   private int dataNum = 0;
   
+  /**
+   * The cache of data sets and results.
+   */
+  private MaxSumCache cache = new MaxSumCache();
+  
+  /**
+   * The id of the current data set in the cache.
+   */
+  private int dataId = cache.getId(0, max, 0, false);
+  
   /**
    * The text field for displaying the size of the current data set.
    */
   private JTextField sizeField = new JTextField("0", 10);
   
+  /**
+   * The text field for obtaining the time limit for running an algorithm.
+   */
+  private JTextField limitField = new JTextField("0", 6);
+  
+  /**
+   * The check box for choosing to show cached results rather than rerunning
+   * an algorithm.
+   */
+  private JCheckBox cachedBox = new JCheckBox("Use cached results", true);
+  
+  /**
+   * The check box for choosing to run the instrumented version of an
+   * algorithm, counting the operations it performs.
+   */
+  private JCheckBox countBox = new JCheckBox("Count operations", false);
+  
   /**
    * The component displaying the possible algorithms to run.
    */
   private JComboBox<String> choices 
   	= new JComboBox<>(new String[] {"MaxSumIter", "MaxSumOpt", "MaxSumTD", "MaxSumDC", 
-  									"MaxSumBU"});
+  									"MaxSumBU", "MaxSumFJ", "MaxSumLDC",
+  									"MaxSumVector", "MaxSumLongBU", "MaxSumLongDC",
+  									"MaxSumChecked", "MaxSumTDMemo"});
   
   /**
    * Constructs a new GUI.
@@ -94,7 +171,7 @@ public class MaxSum extends JFrame {
   	}
   	
   	Container content = getContentPane();
-  	content.setLayout(new GridLayout(3, 1));
+  	content.setLayout(new GridLayout(4, 1));
   	
   	JPanel p = new JPanel();
   	p.add(new Label("Size of array:"));
@@ -107,10 +184,27 @@ public class MaxSum extends JFrame {
   	p.add(choices);
   	content.add(p);
   	
+  	p = new JPanel();
+  	p.add(new Label("Time limit in seconds (0 for none):"));
+  	p.add(limitField);
+  	cachedBox.setToolTipText("Show the result of an earlier run of the same algorithm on "
+  			+ "the same data instead of running it again");
+  	p.add(cachedBox);
+  	countBox.setToolTipText("Run a version of the algorithm that counts the element reads, "
+  			+ "additions, comparisons, and recursion depth (which makes it slower)");
+  	p.add(countBox);
+  	content.add(p);
+  	
   	p = new JPanel();
   	JButton b = new JButton("Generate Data...");
   	b.addActionListener(new NewDataListener(this));
   	p.add(b);
+  	b = new JButton("Load Data...");
+  	b.addActionListener(new LoadListener(this));
+  	p.add(b);
+  	b = new JButton("Save Data...");
+  	b.addActionListener(new SaveListener(this));
+  	p.add(b);
   	b = new JButton("View Data...");
   	b.addActionListener(new ViewListener(this));
   	p.add(b);
@@ -132,55 +226,156 @@ public class MaxSum extends JFrame {
   }
   
   /**
-   * Runs the currently-selected algorithm on the current data set.
+   * Runs the currently-selected algorithm on the current data set in the
+   * background, showing its progress.
    *
    */
   void run() {
-	setCursor(BUSY_CURSOR);
-  	MaxSumInterface alg = algorithms[choices.getSelectedIndex()];
-  	long start = System.currentTimeMillis();
+  	double limit;
   	try {
-  		int ms = alg.maxSum(data);
-  	  	long time = System.currentTimeMillis() - start;
-  	  	setCursor(NORMAL_CURSOR);
-  	  	JOptionPane.showMessageDialog(this, "Max sum = " + ms + "; time = " 
-  	  			                      + (time/1000.0) + " seconds.", "Summary", 
-									  JOptionPane.INFORMATION_MESSAGE);
+  		limit = Double.parseDouble(limitField.getText());
+  	}
+  	catch (NumberFormatException e) {
+  		limit = -1;
+  	}
+  	if (!(limit >= 0)) {
+  		showError("The time limit must be a nonnegative number.");
+  		limitField.requestFocus();
+  		return;
+  	}
+  	int i = choices.getSelectedIndex();
+  	if (countBox.isSelected()) {
+  		runCounted(i, limit);
+  		return;
+  	}
+  	if (cachedBox.isSelected() && cache.hasResult(dataId, i)) {
+  		showSummary(cache.getSum(dataId, i), cache.getTime(dataId, i), " (cached result)");
+  		return;
+  	}
+  	RunDialog d;
+  	if (dataset == null) {
+  		d = new RunDialog(this, choices.getItemAt(i), algorithms[i], data, limit);
+  	}
+  	else if (datasetAlgorithms[i] != null) {
+  		d = new RunDialog(this, choices.getItemAt(i), datasetAlgorithms[i], dataset, limit);
+  	}
+  	else {
+  		showError(choices.getItemAt(i) + " cannot be run on a data set not stored in an array.");
+  		return;
+  	}
+  	d.setVisible(true);
+  	switch (d.status()) {
+  	case RunDialog.OK:
+  		cache.putResult(dataId, i, d.getResult(), d.getTime());
+  		showSummary(d.getResult(), d.getTime(), "");
+  	  	break;
+  	case RunDialog.ERROR:
+  		showError(d.getError());
+  		break;
+  	default:
+  		showStopped(d, limit);
   	}
-  	catch (Throwable e) {
-  	  	setCursor(NORMAL_CURSOR);
-  		showError(e);
+  }
+  
+  /**
+   * Runs the instrumented version of the given algorithm on the current data
+   * set in the background, showing its progress, then shows the operation
+   * counts with the result.  Instrumented runs are neither cached nor taken
+   * from the cache, as their times include the cost of counting.
+   * 
+   * @param i     The index of the algorithm.
+   * @param limit The time limit in seconds, or 0 if there is no limit.
+   */
+  private void runCounted(int i, double limit) {
+  	if (countedAlgorithms[i] == null) {
+  		showError(choices.getItemAt(i) + " cannot count its operations.");
+  		return;
+  	}
+  	if (dataset != null) {
+  		showError("Operations can be counted only on a data set stored in an array.");
+  		return;
+  	}
+  	OperationCounts counts = new OperationCounts();
+  	RunDialog d = new RunDialog(this, choices.getItemAt(i), countedAlgorithms[i], data, 
+  			counts, limit);
+  	d.setVisible(true);
+  	switch (d.status()) {
+  	case RunDialog.OK:
+  		showSummary(d.getResult(), d.getTime(), " (counting operations);\n" + counts);
+  	  	break;
+  	case RunDialog.ERROR:
+  		showError(d.getError());
+  		break;
+  	default:
+  		showStopped(d, limit);
   	}
   }
   
+  /**
+   * Reports a run that was canceled by the user or exceeded the time limit,
+   * saying whether it continues in the background because the algorithm
+   * cannot be interrupted.
+   * 
+   * @param d     The dialog of the run.
+   * @param limit The time limit in seconds, or 0 if there is no limit.
+   */
+  private void showStopped(RunDialog d, double limit) {
+  	String msg = d.status() == RunDialog.TIMEOUT 
+  		? "The time limit of " + limit + " seconds was exceeded." : null;
+  	if (d.isAbandoned()) {
+  		msg = (msg == null ? "The run was canceled." : msg) + "\nThis algorithm cannot be "
+  			+ "interrupted, so it continues in the background until it finishes.";
+  	}
+  	if (msg != null) showError(msg);
+  }
+  
   /**
    * Generates a new data set using parameters obtained from the user.
    *
    */
   void newData() {
-  	GenerateDialog d = new GenerateDialog(this, data.length, max, seedGiven, seed);
+  	GenerateDialog d = new GenerateDialog(this, dataSize(), max, seedGiven, seed, 
+  			compatible, storage);
   	d.setVisible(true);
   	if (d.status() == GenerateDialog.OK) {
   		try {
   			// Don't save anything permanently until we've generated the entire data set
   			// (in case something goes wrong)
-  			int n = d.getNum();
+  			long n = d.getNum();
   			int max = d.getMax();
   			boolean seedGiven = d.isSeedGiven();
   			int seed = d.getSeed();
-  			Random r = seedGiven ? new Random(seed) : new Random();
-  			int lim = 2*max + 1;
+  			boolean compatible = d.isCompatible();
   			setCursor(BUSY_CURSOR);
-  			int[] a = new int[n];
-  			dataNum++;
-  			for (int i = 0; i < n; i++) {
-  				a[i] = r.nextInt(lim) - max;
+  			int[] a = new int[0];
+  			Dataset o = null;
+  			int id;
+  			if (!seedGiven && compatible) {
+  				a = DataGenerator.generate((int) n, max, new Random());
+  				id = cache.newId();
+  			}
+  			else {
+  				// The data set is determined by its parameters, so it may be cached
+  				long s = seedGiven ? seed : new Random().nextLong();
+  				if (d.getStorage() == GenerateDialog.OFF_HEAP) {
+  					// Free the old data set first, so that both need not fit at once
+  					discardData();
+  					o = OffHeapDataset.generate(n, max, s);
+  				}
+  				else if (d.getStorage() == GenerateDialog.NOT_STORED) {
+  					o = new GeneratedDataset(n, max, s);
+  				}
+  				else {
+  					a = cache.generate((int) n, max, s, compatible);
+  				}
+  				id = cache.getId(n, max, s, compatible);
   			}
-  			sizeField.setText(Integer.toString(n));
-  			data = a;
+  			replaceData(a, o, id);
+  			storage = d.getStorage();
   			this.max = max;
   			this.seedGiven = seedGiven;
   			this.seed = seed;
+  			this.compatible = compatible;
   			setCursor(NORMAL_CURSOR);
   		}
   		catch (Throwable e) {
@@ -190,6 +385,130 @@ public class MaxSum extends JFrame {
   	}
   }
   
+  /**
+   * Saves the current data set to a file chosen by the user.
+   *
+   */
+  void save() {
+  	JFileChooser chooser = new JFileChooser();
+  	JCheckBox compress = new JCheckBox("Compress");
+  	compress.setToolTipText("Make the file smaller, but slower to save and load");
+  	chooser.setAccessory(compress);
+  	if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+  		try {
+  			setCursor(BUSY_CURSOR);
+  			int flags = (compress.isSelected() ? DatasetFile.COMPRESSED : 0) 
+  				| (seedGiven ? DatasetFile.SEED_GIVEN : 0) 
+  				| (compatible ? DatasetFile.COMPATIBLE : 0);
+  			DatasetFile.write(chooser.getSelectedFile().toPath(), 
+  					dataset == null ? new ArrayDataset(data) : dataset.get(), max, seed, flags);
+  			setCursor(NORMAL_CURSOR);
+  		}
+  		catch (Throwable e) {
+  			setCursor(NORMAL_CURSOR);
+  			showError(e);
+  		}
+  	}
+  }
+  
+  /**
+   * Replaces the current data set with one loaded from a file chosen by the
+   * user.  The data set is stored outside the heap if it is too large for an
+   * array.
+   *
+   */
+  void load() {
+  	JFileChooser chooser = new JFileChooser();
+  	if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
+  		try {
+  			setCursor(BUSY_CURSOR);
+  			DatasetFile f = new DatasetFile(chooser.getSelectedFile().toPath());
+  			int[] a = new int[0];
+  			Dataset o = null;
+  			if (f.getSize() <= GenerateDialog.MAX_SIZE) {
+  				a = f.readArray();
+  			}
+  			else {
+  				// Free the old data set first, so that both need not fit at once
+  				discardData();
+  				o = f.readOffHeap();
+  			}
+  			storage = o == null ? GenerateDialog.HEAP : GenerateDialog.OFF_HEAP;
+  			replaceData(a, o, f.isSeedGiven() 
+  					? cache.getId(f.getSize(), f.getMax(), f.getSeed(), f.isCompatible()) 
+  					: cache.newId());
+  			max = f.getMax();
+  			seedGiven = f.isSeedGiven();
+  			seed = (int) f.getSeed();
+  			compatible = f.isCompatible();
+  			setCursor(NORMAL_CURSOR);
+  		}
+  		catch (Throwable e) {
+  			setCursor(NORMAL_CURSOR);
+  			showError(e);
+  		}
+  	}
+  }
+  
+  /**
+   * Replaces the current data set with the given one, closing any windows
+   * viewing the current data set.
+   * 
+   * @param a  The new data set, if it is stored in an array.
+   * @param o  The new data set, if it is not stored in an array; otherwise,
+   *           null.
+   * @param id The id of the new data set in the cache.
+   */
+  private void replaceData(int[] a, Dataset o, int id) {
+  	dataNum++;
+  	dataId = id;
+  	data = a;
+  	for (DataViewer v : viewers) {
+  		v.dispose();
+  	}
+  	viewers.clear();
+  	if (dataset != null) {
+  		// Release the memory now rather than waiting for the garbage collector,
+  		// or, if abandoned runs are still using it, as soon as the last finishes
+  		dataset.release();
+  	}
+  	dataset = o == null ? null : new SharedDataset(o);
+  	sizeField.setText(Long.toString(dataSize()));
+  }
+  
+  /**
+   * Replaces the current data set with an empty one, so that its memory can
+   * be released before a new data set is allocated.  The empty data set
+   * remains if the new one cannot be allocated.
+   */
+  private void discardData() {
+  	if (dataset != null) {
+  		replaceData(new int[0], null, cache.newId());
+  		storage = GenerateDialog.HEAP;
+  		seedGiven = false;
+  	}
+  }
+  
+  /**
+   * Returns the number of elements in the current data set.
+   * @return The number of elements in the current data set.
+   */
+  private long dataSize() {
+  	return dataset == null ? data.length : dataset.get().size();
+  }
+  
+  /**
+   * Displays the result of a run.
+   * 
+   * @param sum  The maximum subsequence sum.
+   * @param time The running time in nanoseconds.
+   * @param note Text to be appended to the message.
+   */
+  private void showSummary(long sum, long time, String note) {
+  	JOptionPane.showMessageDialog(this, "Max sum = " + sum + "; time = " + (time/1e9) 
+  			+ " seconds" + note + ".", "Summary", JOptionPane.INFORMATION_MESSAGE);
+  }
+  
   /**
    * Displays the given object as an error message.
    * @param msg The message to be displayed.
@@ -201,27 +520,16 @@ public class MaxSum extends JFrame {
   }
   
   /**
-   * Displays the data in a scrolling list in a new window.
+   * Displays the data in a new window.  The window reads the elements as
+   * they are shown, so it opens quickly even for a large data set.  It is
+   * closed when the data set is replaced.
    *
    */
   void view() {
-  	try {
-  		setCursor(BUSY_CURSOR);
-  		JFrame d = new JFrame("Data Set " + dataNum);
-  		Container content = d.getContentPane();
-  		JList<Integer> lst = new JList<>(new DisplayModel(data));
-  		lst.setSelectionMode(ListSelectionModel.SINGLE_INTERVAL_SELECTION);
-  		JScrollPane p = new JScrollPane(lst, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS, 
-  				JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
-  		content.add(p);
-  		d.pack();
-  		d.setVisible(true);
-  		setCursor(NORMAL_CURSOR);
-  	}
-  	catch (Throwable e) {
-  		setCursor(NORMAL_CURSOR);
-  		showError(e);
-  	}
+  	SharedDataset d = dataset == null ? new SharedDataset(new ArrayDataset(data)) : dataset;
+  	DataViewer v = new DataViewer("Data Set " + dataNum, d);
+  	viewers.add(v);
+  	v.setVisible(true);
   }
 }
 
@@ -289,14 +597,14 @@ class StartButtonListener implements ActionListener {
 }
 
 /**
- * Event handler for the "View Data..." button.
+ * Event handler for the "Load Data..." button.
  * 
  *
  * @author Rod Howell
  *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
  *
  */
-class ViewListener implements ActionListener {
+class LoadListener implements ActionListener {
 	
 	/**
 	 * The MaxSum that contains the button.
@@ -308,59 +616,78 @@ class ViewListener implements ActionListener {
 	 * 
 	 * @param p The MaxSum that contains the button.
 	 */
-	public ViewListener(MaxSum p) {
+	public LoadListener(MaxSum p) {
 		parent = p;
 	}
 	
 	/**
-	 * Handles the event by asking the MaxSum to display the data.
+	 * Handles the event by asking the MaxSum to load a data set.
 	 */
 	public void actionPerformed(ActionEvent e) {
-		parent.view();
+		parent.load();
 	}
 }
 
 /**
- * A ListModel for displaying an int array that won't change.
+ * Event handler for the "Save Data..." button.
  * 
  *
  * @author Rod Howell
  *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
  *
- *
  */
-class DisplayModel implements ListModel<Integer> {
+class SaveListener implements ActionListener {
 	
 	/**
-	 * The list values.
+	 * The MaxSum that contains the button.
 	 */
-	private Integer[] data;
+	private MaxSum parent;
 	
 	/**
-	 * Constructs a new DisplayModel.
+	 * Constructs a new event handler.
 	 * 
-	 * @param d The array of values to display.
+	 * @param p The MaxSum that contains the button.
 	 */
-	public DisplayModel(int[] d) {
-		data = new Integer[d.length];
-		for (int i = 0; i < d.length; i++) {
-			data[i] = Integer.valueOf(d[i]);
-		}
+	public SaveListener(MaxSum p) {
+		parent = p;
 	}
 	
-	public void addListDataListener(ListDataListener l) {
-		// Data won't change, so we'll ignore this.
+	/**
+	 * Handles the event by asking the MaxSum to save the data set.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.save();
 	}
+}
+
+/**
+ * Event handler for the "View Data..." button.
+ * 
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class ViewListener implements ActionListener {
 	
-	public Integer getElementAt(int index) {
-		return data[index];
-	}
+	/**
+	 * The MaxSum that contains the button.
+	 */
+	private MaxSum parent;
 	
-	public int getSize() {
-		return data.length;
+	/**
+	 * Constructs a new event handler.
+	 * 
+	 * @param p The MaxSum that contains the button.
+	 */
+	public ViewListener(MaxSum p) {
+		parent = p;
 	}
 	
-	public void removeListDataListener(ListDataListener l) {
-		// Data won't change, so we'll ignore this.
+	/**
+	 * Handles the event by asking the MaxSum to display the data.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.view();
 	}
 }
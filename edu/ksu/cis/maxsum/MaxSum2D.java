@@ -0,0 +1,291 @@
+/*
+ * MaxSum2D.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class implementing an algorithm for the maximum sum of a rectangular
+ * submatrix of a matrix of integers.  For each pair of rows top &lt;= bottom,
+ * the sums of the columns of rows top..bottom are accumulated in a strip, and
+ * the bottom-up algorithm finds the best range of columns for those rows.  If
+ * there are more rows than columns, pairs of columns are considered instead,
+ * and the strip holds the sums of the rows of a range of columns.  The
+ * running time is therefore in O(min(r, c)<sup>2</sup> max(r, c)) for an
+ * r x c matrix.  The matrix is read in place in either case, whether it is
+ * given as an array of rows or as a single array in row-major order, so it
+ * is never copied.
+ * <p>
+ * The choices of the first row (or column) are divided among tasks running
+ * on a ForkJoinPool.  Each task reuses a single strip for all of its choices,
+ * so the only space used is O(min(r, c)) per task.  The strip and the sums
+ * along it are computed with 64-bit accumulators; as the matrix has fewer
+ * than 2<sup>31</sup> elements, they cannot overflow.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSum2D {
+
+	/**
+	 * The largest number of strip updates performed by a single task.
+	 */
+	private static final long GRAIN = 1 << 16;
+
+	/**
+	 * The pool on which the computation runs.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs an instance using the common pool.
+	 */
+	public MaxSum2D() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an instance using the given pool.
+	 *
+	 * @param pool The pool on which the computation runs.
+	 */
+	public MaxSum2D(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Computes the maximum sum of a rectangular submatrix of the given matrix.
+	 *
+	 * @param m The matrix, whose rows must all have the same length.
+	 * @return  The maximum sum and the location of a submatrix having that
+	 *          sum.
+	 */
+	public MaxSumRectangle maxSum(int[][] m) {
+		int rows = m.length;
+		int cols = rows == 0 ? 0 : m[0].length;
+		for (int[] row : m) {
+			if (row.length != cols) {
+				throw new IllegalArgumentException("The rows must all have the same length.");
+			}
+		}
+		return maxSum(null, m, rows, cols);
+	}
+
+	/**
+	 * Computes the maximum sum of a rectangular submatrix of the given matrix,
+	 * stored in row-major order.
+	 *
+	 * @param a    The elements of the matrix, with the element in row i and
+	 *             column j at index i * cols + j.
+	 * @param rows The number of rows.
+	 * @param cols The number of columns.
+	 * @return     The maximum sum and the location of a submatrix having that
+	 *             sum.
+	 */
+	public MaxSumRectangle maxSum(int[] a, int rows, int cols) {
+		if (rows < 0 || cols < 0 || (long) rows * cols != a.length) {
+			throw new IllegalArgumentException("The array does not have " + rows + " rows and "
+					+ cols + " columns.");
+		}
+		return maxSum(a, null, rows, cols);
+	}
+
+	/**
+	 * Computes the maximum sum of a rectangular submatrix of the matrix given
+	 * either in row-major order or as an array of rows, by considering each
+	 * pair of rows, or of columns if there are fewer columns.
+	 *
+	 * @param a    The elements of the matrix in row-major order, or null.
+	 * @param m    The rows of the matrix, or null if a is given.
+	 * @param rows The number of rows.
+	 * @param cols The number of columns.
+	 * @return     The maximum sum and the location of a submatrix having that
+	 *             sum.
+	 */
+	private MaxSumRectangle maxSum(int[] a, int[][] m, int rows, int cols) {
+		boolean byColumns = rows > cols;
+		int lines = byColumns ? cols : rows;
+		int length = byColumns ? rows : cols;
+		StripTask t = new StripTask(a, m, cols, byColumns, lines, length, 0, lines);
+		MaxSumRectangle r;
+		if (StripTask.work(lines, length, 0, lines) <= GRAIN) r = t.compute();
+		else r = pool.invoke(t);
+		if (byColumns) {
+			// The lines were columns, and the strip ran along the rows
+			r.set(r.getSum(), r.getLeft(), r.getRight(), r.getTop(), r.getBottom());
+		}
+		return r;
+	}
+
+	/**
+	 * A task computing the maximum sum of a rectangular submatrix whose first
+	 * line (row, or column if the matrix is considered by columns) is within
+	 * a given range.  The result gives the lines as its rows and the
+	 * positions along the strip as its columns.
+	 */
+	private static class StripTask extends RecursiveTask<MaxSumRectangle> {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The elements of the matrix in row-major order, or null if the matrix
+		 * is given as an array of rows.
+		 */
+		private final int[] a;
+
+		/**
+		 * The rows of the matrix, or null if it is given in row-major order.
+		 */
+		private final int[][] m;
+
+		/**
+		 * The number of columns.
+		 */
+		private final int cols;
+
+		/**
+		 * <tt>true</tt> iff the lines are columns rather than rows.
+		 */
+		private final boolean byColumns;
+
+		/**
+		 * The number of lines.
+		 */
+		private final int lines;
+
+		/**
+		 * The length of each line, and of the strip.
+		 */
+		private final int length;
+
+		/**
+		 * The first line considered as the first line of a submatrix.
+		 */
+		private final int lo;
+
+		/**
+		 * One more than the last line considered as the first line of a
+		 * submatrix.
+		 */
+		private final int hi;
+
+		/**
+		 * Constructs a task to consider the submatrices whose first line is in
+		 * lo..hi-1.
+		 *
+		 * @param a         The elements of the matrix in row-major order, or
+		 *                  null.
+		 * @param m         The rows of the matrix, or null if a is given.
+		 * @param cols      The number of columns.
+		 * @param byColumns <tt>true</tt> iff the lines are columns.
+		 * @param lines     The number of lines.
+		 * @param length    The length of each line.
+		 * @param lo        The first line considered.
+		 * @param hi        One more than the last line considered.
+		 */
+		StripTask(int[] a, int[][] m, int cols, boolean byColumns, int lines, int length, 
+				int lo, int hi) {
+			this.a = a;
+			this.m = m;
+			this.cols = cols;
+			this.byColumns = byColumns;
+			this.lines = lines;
+			this.length = length;
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		/**
+		 * Returns the number of strip updates needed for the first lines in
+		 * lo..hi-1.
+		 *
+		 * @param lines  The number of lines.
+		 * @param length The length of each line.
+		 * @param lo     The first line considered.
+		 * @param hi     One more than the last line considered.
+		 * @return       The number of strip updates.
+		 */
+		static long work(int lines, int length, int lo, int hi) {
+			// The sum of lines - t for t in lo..hi-1, times length
+			return ((long) (2 * lines - lo - hi + 1) * (hi - lo) / 2) * length;
+		}
+
+		protected MaxSumRectangle compute() {
+			if (hi - lo == 1 || work(lines, length, lo, hi) <= GRAIN) return scan();
+			else {
+				int mid = (lo + hi) >>> 1;
+				StripTask first = new StripTask(a, m, cols, byColumns, lines, length, lo, mid);
+				first.fork();
+				MaxSumRectangle second = new StripTask(a, m, cols, byColumns, lines, length, 
+						mid, hi).compute();
+				MaxSumRectangle r = first.join();
+				// Prefer the earlier first line, so that the result does not depend
+				// on how the work was divided
+				return second.getSum() > r.getSum() ? second : r;
+			}
+		}
+
+		/**
+		 * Adds the given line to the strip.
+		 *
+		 * @param line  The index of the line.
+		 * @param strip The strip.
+		 */
+		private void add(int line, long[] strip) {
+			if (!byColumns) {
+				int[] row = m != null ? m[line] : a;
+				int base = m != null ? 0 : line * cols;
+				for (int j = 0; j < length; j++) {
+					strip[j] += row[base + j];
+				}
+			}
+			else if (m != null) {
+				for (int i = 0; i < length; i++) {
+					strip[i] += m[i][line];
+				}
+			}
+			else {
+				for (int i = 0, k = line; i < length; i++, k += cols) {
+					strip[i] += a[k];
+				}
+			}
+		}
+
+		/**
+		 * Considers the first lines in lo..hi-1 sequentially.
+		 *
+		 * @return The maximum sum and the location of a submatrix having that
+		 *         sum, among those whose first line is in lo..hi-1.
+		 */
+		private MaxSumRectangle scan() {
+			MaxSumRectangle best = new MaxSumRectangle();
+			MaxSumResult r = new MaxSumResult();
+			long[] strip = new long[length];
+			for (int first = lo; first < hi; first++) {
+				Arrays.fill(strip, 0);
+				// Invariant: strip[j] is the sum of position j of lines
+				//            first..last-1, and best is the maximum over the
+				//            submatrices whose first line is in lo..first and
+				//            whose last line precedes last if their first line
+				//            is first
+				for (int last = first; last < lines; last++) {
+					add(last, strip);
+					MaxSumLongBU.maxSumRange(strip, r);
+					if (r.getSum() > best.getSum()) {
+						best.set(r.getSum(), first, last + 1, r.getStart(), r.getEnd());
+					}
+				}
+			}
+			return best;
+		}
+	}
+}
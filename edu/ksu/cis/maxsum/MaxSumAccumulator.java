@@ -0,0 +1,152 @@
+/*
+ * MaxSumAccumulator.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * An accumulator computing the maximum subsequence sum of a sequence whose
+ * elements are supplied one at a time or in chunks.  It maintains the same
+ * maximum sum and maximum suffix sum as {@link MaxSumBU}, together with the
+ * total and maximum prefix sum needed to combine accumulators for adjacent
+ * parts of a sequence.  It therefore uses O(1) space, and each element is
+ * processed in O(1) time.  The maximum subsequence sum of an IntStream,
+ * including a parallel one, can be computed by {@link #maxSum(IntStream)}.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumAccumulator implements IntConsumer {
+
+	/**
+	 * The sum of the elements accepted so far.
+	 */
+	private int sum;
+
+	/**
+	 * The maximum prefix sum of the elements accepted so far.
+	 */
+	private int mpre;
+
+	/**
+	 * The maximum suffix sum of the elements accepted so far.
+	 */
+	private int msuf;
+
+	/**
+	 * The maximum subsequence sum of the elements accepted so far.
+	 */
+	private int m;
+
+	/**
+	 * Appends the given element to the sequence.
+	 * 
+	 * @param x The element to append.
+	 */
+	public void accept(int x) {
+		sum += x;
+		mpre = Math.max(mpre, sum);
+		msuf = Math.max(0, msuf + x);
+		m = Math.max(m, msuf);
+	}
+
+	/**
+	 * Appends the elements of the given array to the sequence.
+	 * 
+	 * @param a The elements to append.
+	 */
+	public void accept(int[] a) {
+		accept(a, 0, a.length);
+	}
+
+	/**
+	 * Appends a[lo..hi-1] to the sequence.
+	 * 
+	 * @param a  The array containing the elements to append.
+	 * @param lo The index of the first element to append.
+	 * @param hi One more than the index of the last element to append.
+	 */
+	public void accept(int[] a, int lo, int hi) {
+		// The state is kept in locals rather than passed to
+		// MaxSumBU.summarize, which would need an array allocated per chunk
+		int sum = this.sum;
+		int mpre = this.mpre;
+		int msuf = this.msuf;
+		int m = this.m;
+		// Invariant: sum, mpre, msuf, and m are the total, maximum prefix
+		//            sum, maximum suffix sum, and maximum subsequence sum of
+		//            the elements accepted before, followed by a[lo..i-1]
+		for (int i = lo; i < hi; i++) {
+			int x = a[i];
+			sum += x;
+			mpre = Math.max(mpre, sum);
+			msuf = Math.max(0, msuf + x);
+			m = Math.max(m, msuf);
+		}
+		this.sum = sum;
+		this.mpre = mpre;
+		this.msuf = msuf;
+		this.m = m;
+	}
+
+	/**
+	 * Appends the sequence accumulated by the given accumulator to this
+	 * sequence.  The given accumulator is not changed.
+	 * 
+	 * @param right The accumulator for the elements following those accepted
+	 *              by this accumulator.
+	 */
+	public void combine(MaxSumAccumulator right) {
+		m = Math.max(Math.max(m, right.m), msuf + right.mpre);
+		msuf = Math.max(right.msuf, right.sum + msuf);
+		mpre = Math.max(mpre, sum + right.mpre);
+		sum += right.sum;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the elements accepted so far.
+	 * 
+	 * @return The maximum subsequence sum of the elements accepted so far.
+	 */
+	public int maxSum() {
+		return m;
+	}
+
+	/**
+	 * Returns a summary of the elements accepted so far.
+	 * 
+	 * @return A summary of the elements accepted so far.
+	 */
+	public SegmentSummary summary() {
+		return new SegmentSummary(sum, mpre, msuf, m);
+	}
+
+	/**
+	 * Discards all elements accepted so far.
+	 */
+	public void reset() {
+		sum = 0;
+		mpre = 0;
+		msuf = 0;
+		m = 0;
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of the given stream.  If the stream
+	 * is parallel, the accumulators for its parts are combined in encounter
+	 * order.
+	 * 
+	 * @param s The stream over which the maximum subsequence sum is to be
+	 *          computed.  It must be ordered.
+	 * @return  The maximum subsequence sum of s.
+	 */
+	public static int maxSum(IntStream s) {
+		return s.collect(MaxSumAccumulator::new, MaxSumAccumulator::accept,
+				MaxSumAccumulator::combine).maxSum();
+	}
+}
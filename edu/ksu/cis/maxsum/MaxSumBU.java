@@ -17,15 +17,98 @@ package edu.ksu.cis.maxsum;
 public class MaxSumBU implements MaxSumInterface {
 	
 	public int maxSum(int[] a) {
+		return maxSum(a, 0, a.length);
+	}
+	
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		// The same loop with 64-bit accumulators, so that the sum reported is
+		// exact even where maxSum(int[]) overflows
+		return MaxSumLongBU.maxSumRange(a, r);
+	}
+	
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi-1].  This is the loop
+	 * used by every algorithm that computes the maximum subsequence sum of a
+	 * range of an int array in a single pass with 32-bit accumulators.
+	 * 
+	 * @param a  The array containing the elements.
+	 * @param lo The index of the first element considered.
+	 * @param hi One more than the index of the last element considered.
+	 * @return   The maximum subsequence sum of a[lo..hi-1].
+	 */
+	static int maxSum(int[] a, int lo, int hi) {
 		int m = 0;
 		int msuf = 0;
-		// Invariant: m is the maximum subsequence sum for a[0..i-1],
-		//            msuf is the maximum suffix sum for a[0..i-1]
-		for (int i = 0; i < a.length; i++) {
+		// Invariant: m is the maximum subsequence sum for a[lo..i-1],
+		//            msuf is the maximum suffix sum for a[lo..i-1]
+		for (int i = lo; i < hi; i++) {
 			msuf = Math.max(0, msuf + a[i]);
 			m = Math.max(m, msuf);
 		}
 		return m;
 	}
 	
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi-1] as
+	 * {@link #maxSum(int[], int, int)} does, but detects overflow.
+	 * 
+	 * @param a  The array containing the elements.
+	 * @param lo The index of the first element considered.
+	 * @param hi One more than the index of the last element considered.
+	 * @return   The maximum subsequence sum of a[lo..hi-1], or -1 if a sum
+	 *           computed overflowed.
+	 */
+	static int maxSumChecked(int[] a, int lo, int hi) {
+		int m = 0;
+		int msuf = 0;
+		int overflow = 0;
+		// Invariant: m is the maximum subsequence sum for a[lo..i-1],
+		//            msuf is the maximum suffix sum for a[lo..i-1], and
+		//            overflow is negative iff computing one of these overflowed
+		for (int i = lo; i < hi; i++) {
+			int x = a[i];
+			int s = msuf + x;
+			// Because msuf >= 0, the sum can only overflow when x >= 0, and it
+			// overflows iff the result is negative.
+			overflow |= s & ~x;
+			msuf = Math.max(0, s);
+			m = Math.max(m, msuf);
+		}
+		return overflow < 0 ? -1 : m;
+	}
+	
+	/**
+	 * Extends a summary by the elements a[lo..hi-1].  The summary is stored in
+	 * s[d..d+3], which contain the total, the maximum prefix sum, the maximum
+	 * suffix sum, and the maximum subsequence sum of some sequence; on return,
+	 * they contain the same values for that sequence followed by a[lo..hi-1].
+	 * Starting from four zeros therefore gives the summary of a[lo..hi-1].
+	 * 
+	 * @param a  The array containing the elements.
+	 * @param lo The index of the first element to append.
+	 * @param hi One more than the index of the last element to append.
+	 * @param s  The array containing the summary.
+	 * @param d  The location in s of the summary.
+	 */
+	static void summarize(int[] a, int lo, int hi, int[] s, int d) {
+		int sum = s[d];
+		int mpre = s[d + 1];
+		int msuf = s[d + 2];
+		int m = s[d + 3];
+		// Invariant: sum, mpre, msuf, and m are the total, maximum prefix
+		//            sum, maximum suffix sum, and maximum subsequence sum of
+		//            the original sequence followed by a[lo..i-1]
+		for (int i = lo; i < hi; i++) {
+			int x = a[i];
+			sum += x;
+			mpre = Math.max(mpre, sum);
+			msuf = Math.max(0, msuf + x);
+			m = Math.max(m, msuf);
+		}
+		s[d] = sum;
+		s[d + 1] = mpre;
+		s[d + 2] = msuf;
+		s[d + 3] = m;
+	}
+	
 }
@@ -0,0 +1,37 @@
+/*
+ * MaxSumBUCounted.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The algorithm of {@link MaxSumBU}, instrumented to count the reads,
+ * additions, and comparisons it performs.  Each element costs one read, one
+ * addition, and two comparisons.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumBUCounted extends MaxSumBU implements MaxSumCountedInterface {
+
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p) {
+		long reads = 0;
+		long additions = 0;
+		long comparisons = 0;
+		int m = 0;
+		int msuf = 0;
+		// Invariant: m is the maximum subsequence sum for a[0..i-1],
+		//            msuf is the maximum suffix sum for a[0..i-1]
+		for (int i = 0; i < a.length; i++) {
+			msuf = Math.max(0, msuf + a[i]);
+			m = Math.max(m, msuf);
+			reads++;
+			additions++;
+			comparisons += 2;
+		}
+		c.add(reads, additions, comparisons);
+		return m;
+	}
+}
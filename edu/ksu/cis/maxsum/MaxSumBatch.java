@@ -0,0 +1,357 @@
+/*
+ * MaxSumBatch.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A command-line program that times maximum subsequence sum algorithms on
+ * data sets of increasing size, without using a GUI.  For each algorithm, it
+ * follows the procedure recommended in README.md: starting with a given size,
+ * the size is multiplied by 10 as long as the running time is no more than a
+ * first time limit, then by 2 as long as the running time is no more than a
+ * second time limit; once the size has been doubled, it is never again
+ * multiplied by 10.  Before the first timed run, each algorithm is run once,
+ * untimed, on the first data set, so that the class is loaded and
+ * initialized before timing begins.  Each data set is generated by {@link DataGenerator} as
+ * by the "Generate Data..." button of {@link MaxSum}.  One row is written for each run, in either CSV
+ * or JSON Lines format.  Optionally, the instrumented version of each
+ * algorithm (see {@link MaxSumCountedInterface}) is run instead, and the
+ * operation counts are added to each row.
+ * <p>
+ * Usage:
+ * <pre>
+ * java edu.ksu.cis.maxsum.MaxSumBatch [options] [algorithm ...]
+ * </pre>
+ * where each algorithm is the simple name of a class in this package
+ * implementing {@link MaxSumInterface} (by default, the five algorithms from
+ * the book), and the options are:
+ * <ul>
+ * <li><tt>-max</tt> <i>m</i>: the max absolute value (default 10000)</li>
+ * <li><tt>-seed</tt> <i>s</i>: the seed (default: chosen randomly and reported)</li>
+ * <li><tt>-start</tt> <i>n</i>: the initial size (default 1000)</li>
+ * <li><tt>-grow</tt> <i>t</i>: multiply the size by 10 while the time in
+ *     seconds is at most t (default 0.1)</li>
+ * <li><tt>-limit</tt> <i>t</i>: then multiply the size by 2 while the time in
+ *     seconds is at most t (default 15)</li>
+ * <li><tt>-compat</tt> <tt>true</tt>|<tt>false</tt>: whether to generate
+ *     data sets sequentially using java.util.Random, as earlier versions did
+ *     (default false)</li>
+ * <li><tt>-count</tt> <tt>true</tt>|<tt>false</tt>: whether to run the
+ *     instrumented version of each algorithm, whose name is that of the
+ *     algorithm followed by "Counted", and report its operation counts
+ *     (default false)</li>
+ * <li><tt>-format</tt> <tt>csv</tt>|<tt>json</tt>: the output format
+ *     (default csv)</li>
+ * <li><tt>-out</tt> <i>file</i>: the output file (default: standard output)</li>
+ * </ul>
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumBatch {
+
+	/**
+	 * The algorithms run when none are given.
+	 */
+	private static final String[] DEFAULT_ALGORITHMS = 
+		{"MaxSumIter", "MaxSumOpt", "MaxSumTD", "MaxSumDC", "MaxSumBU"};
+
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * The usage message.
+	 */
+	private static final String USAGE = 
+		"Usage: java edu.ksu.cis.maxsum.MaxSumBatch [-max m] [-seed s] [-start n]\n"
+		+ "           [-grow seconds] [-limit seconds] [-compat true|false]\n"
+		+ "           [-count true|false] [-format csv|json] [-out file]\n"
+		+ "           [algorithm ...]";
+
+	/**
+	 * The names of the algorithms to run.
+	 */
+	private List<String> algorithms = new ArrayList<>();
+
+	/**
+	 * The upper limit on values generated.
+	 */
+	private int max = 10000;
+
+	/**
+	 * The seed for the random number generator.
+	 */
+	private int seed = new Random().nextInt();
+
+	/**
+	 * The initial size of the data sets.
+	 */
+	private int start = 1000;
+
+	/**
+	 * The running time in seconds up to which the size is multiplied by 10.
+	 */
+	private double grow = 0.1;
+
+	/**
+	 * The running time in seconds up to which the size is multiplied by 2.
+	 */
+	private double limit = 15;
+
+	/**
+	 * <tt>true</tt> iff data sets are generated as by earlier versions.
+	 */
+	private boolean compatible = false;
+
+	/**
+	 * <tt>true</tt> iff the instrumented versions of the algorithms are run.
+	 */
+	private boolean count = false;
+
+	/**
+	 * <tt>true</tt> iff output is in JSON Lines format rather than CSV.
+	 */
+	private boolean json = false;
+
+	/**
+	 * The name of the output file, or null for standard output.
+	 */
+	private String outFile = null;
+
+	/**
+	 * The data sets generated, so that each size is generated only once for
+	 * all of the algorithms.  Results are not cached, as they are being timed.
+	 */
+	private MaxSumCache cache = new MaxSumCache();
+
+	/**
+	 * Runs the program.
+	 * 
+	 * @param args The command-line arguments, as described above.
+	 * @throws IOException If the output file cannot be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		MaxSumBatch batch = new MaxSumBatch();
+		try {
+			batch.parse(args);
+		}
+		catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(2);
+		}
+		if (batch.outFile == null) {
+			PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out, 
+					StandardCharsets.UTF_8));
+			batch.run(out);
+			out.flush();
+		}
+		else {
+			try (PrintWriter out = new PrintWriter(new OutputStreamWriter(
+					new FileOutputStream(batch.outFile), StandardCharsets.UTF_8))) {
+				batch.run(out);
+			}
+		}
+	}
+
+	/**
+	 * Sets the parameters from the command-line arguments.
+	 * 
+	 * @param args The command-line arguments.
+	 * @throws IllegalArgumentException If an argument is invalid.
+	 */
+	private void parse(String[] args) {
+		int i = 0;
+		try {
+			for (; i < args.length; i++) {
+				String a = args[i];
+				if (!a.startsWith("-")) {
+					if (!isIdentifier(a)) {
+						throw new IllegalArgumentException("Invalid algorithm name: " + a);
+					}
+					algorithms.add(a);
+				}
+				else if (i + 1 == args.length) {
+					throw new IllegalArgumentException("Missing value for " + a);
+				}
+				else {
+					String v = args[++i];
+					switch (a) {
+					case "-max":
+						max = Integer.parseInt(v);
+						if (max <= 0 || max > GenerateDialog.MAX_MAX) {
+							throw new IllegalArgumentException("The max must be a positive integer no more than " 
+									+ GenerateDialog.MAX_MAX + ".");
+						}
+						break;
+					case "-seed":
+						seed = Integer.parseInt(v);
+						break;
+					case "-start":
+						start = Integer.parseInt(v);
+						if (start <= 0) {
+							throw new IllegalArgumentException("The start size must be positive.");
+						}
+						break;
+					case "-grow":
+						grow = Double.parseDouble(v);
+						break;
+					case "-limit":
+						limit = Double.parseDouble(v);
+						break;
+					case "-compat":
+						compatible = Boolean.parseBoolean(v);
+						break;
+					case "-count":
+						count = Boolean.parseBoolean(v);
+						break;
+					case "-format":
+						if (v.equals("json")) json = true;
+						else if (v.equals("csv")) json = false;
+						else throw new IllegalArgumentException("Unknown format: " + v);
+						break;
+					case "-out":
+						outFile = v;
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown option: " + a);
+					}
+				}
+			}
+		}
+		catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid number: " + args[i]);
+		}
+		if (algorithms.isEmpty()) {
+			for (String name : DEFAULT_ALGORITHMS) {
+				algorithms.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Determines whether the given string is a Java identifier, and hence
+	 * may be the simple name of a class.  Because such names contain no
+	 * quotes, backslashes, or commas, they can be written to the output
+	 * without escaping.
+	 * 
+	 * @param s The string.
+	 * @return  <tt>true</tt> iff s is a Java identifier.
+	 */
+	private static boolean isIdentifier(String s) {
+		if (s.isEmpty() || !Character.isJavaIdentifierStart(s.charAt(0))) return false;
+		for (int i = 1; i < s.length(); i++) {
+			// Invariant: s[0..i-1] is a Java identifier.
+			if (!Character.isJavaIdentifierPart(s.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Runs each algorithm on data sets of increasing size, writing a row for
+	 * each run.
+	 * 
+	 * @param out The destination for the rows.
+	 */
+	private void run(PrintWriter out) {
+		if (!json) {
+			out.println("algorithm,n,max,seed,result,nanos,status" 
+					+ (count ? "," + OperationCounts.CSV_HEADER : ""));
+		}
+		for (String name : algorithms) {
+			MaxSumInterface alg = null;
+			MaxSumCountedInterface countedAlg = null;
+			try {
+				String prefix = getClass().getPackage().getName() + ".";
+				if (count) {
+					countedAlg = (MaxSumCountedInterface) Class.forName(prefix + name + "Counted")
+							.getDeclaredConstructor().newInstance();
+				}
+				else {
+					alg = (MaxSumInterface) Class.forName(prefix + name)
+							.getDeclaredConstructor().newInstance();
+				}
+			}
+			catch (ReflectiveOperationException | ClassCastException e) {
+				writeRow(out, name, 0, 0, 0, 
+						count ? "unknown or uninstrumented algorithm" : "unknown algorithm", null);
+				continue;
+			}
+			long n = start;
+			boolean warmedUp = false;
+			boolean doubling = false;
+			while (n <= Integer.MAX_VALUE) {
+				long ms = 0;
+				long time = 0;
+				String status = "ok";
+				OperationCounts counts = count ? new OperationCounts() : null;
+				try {
+					int[] data = cache.generate((int) n, max, seed, compatible);
+					if (!warmedUp) {
+						if (count) countedAlg.maxSumCounted(data, new OperationCounts(), new Progress());
+						else alg.maxSumLong(data);
+						warmedUp = true;
+					}
+					long t0 = System.nanoTime();
+					if (count) ms = countedAlg.maxSumCounted(data, counts, new Progress());
+					else ms = alg.maxSumLong(data);
+					time = System.nanoTime() - t0;
+				}
+				catch (Throwable e) {
+					status = e.getClass().getSimpleName();
+					counts = null;
+				}
+				writeRow(out, name, n, ms, time, status, counts);
+				if (!status.equals("ok")) break;
+				double seconds = time / NANOS_PER_SECOND;
+				if (!doubling && seconds <= grow) n *= 10;
+				else if (seconds <= limit) {
+					doubling = true;
+					n *= 2;
+				}
+				else break;
+			}
+		}
+	}
+
+	/**
+	 * Writes a row of output.
+	 * 
+	 * @param out    The destination for the row.
+	 * @param name   The name of the algorithm.
+	 * @param n      The size of the data set.
+	 * @param result The maximum subsequence sum computed.
+	 * @param nanos  The running time in nanoseconds.
+	 * @param status "ok", or a description of the error that occurred.
+	 * @param counts The operation counts, or null if they are not known.
+	 */
+	private void writeRow(PrintWriter out, String name, long n, long result, 
+			long nanos, String status, OperationCounts counts) {
+		if (json) {
+			out.println("{\"algorithm\":\"" + name + "\",\"n\":" + n + ",\"max\":" + max
+					+ ",\"seed\":" + seed + ",\"result\":" + result + ",\"nanos\":" + nanos
+					+ ",\"status\":\"" + status + "\""
+					+ (counts == null ? "" : "," + counts.toJsonMembers()) + "}");
+		}
+		else {
+			out.println(name + "," + n + "," + max + "," + seed + "," + result + "," 
+					+ nanos + "," + status 
+					+ (!count ? "" : counts == null ? ",,,," : "," + counts.toCsv()));
+		}
+		out.flush();
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * MaxSumBounded.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class implementing an algorithm for the maximum sum of a subsequence whose
+ * length is between given bounds L and U, inclusive.  With the prefix sums
+ * p[0..n], the sum of a[i..j-1] is p[j] - p[i], so the best subsequence
+ * ending at j starts at a minimum of p[j-U..j-L].  These windows move right
+ * as j increases, so a deque of starts whose prefix sums increase from front
+ * to back gives each minimum in O(1) amortized time: the front is the
+ * minimum, starts leaving the window are removed from the front, and a start
+ * entering the window removes from the back all starts whose prefix sums are
+ * no smaller.  The running time is therefore in O(n), and the only space
+ * used is the deque, which holds at most U - L + 1 starts in primitive
+ * arrays.
+ * <p>
+ * If L is 0, the empty subsequence is allowed, as in the other algorithms;
+ * otherwise, the result may be negative.  If L is 0 and U is at least n, the
+ * bounds do not restrict the subsequences, and the computation is done by
+ * {@link MaxSumBU} (or by {@link MaxSumLongBU} for a 64-bit result).
+ * Otherwise, sums are computed using 64-bit accumulators, so they cannot
+ * overflow, and {@link #maxSum(int[])} throws an ArithmeticException if the
+ * result does not fit in an int; {@link #maxSumLong(int[])} returns it in
+ * full.  Of subsequences having the maximum sum, the one ending first, then
+ * starting last, is found, as by {@link MaxSumBU}.
+ * <p>
+ * In parallel mode, the possible ends are divided into chunks, which are
+ * processed by tasks running on a ForkJoinPool.  Because only differences of
+ * prefix sums are used, each chunk can compute its prefix sums starting from
+ * any point, so it starts U elements before its first end to fill its deque;
+ * chunks are made at least U elements long, so that this adds at most n to
+ * the total work.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumBounded implements MaxSumInterface {
+
+	/**
+	 * The smallest length allowed.
+	 */
+	private final int minLength;
+
+	/**
+	 * The largest length allowed.
+	 */
+	private final int maxLength;
+
+	/**
+	 * The smallest number of ends processed by a single task in parallel
+	 * mode.
+	 */
+	private final int grain;
+
+	/**
+	 * The pool on which the computation runs in parallel mode, or null for
+	 * sequential mode.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs an instance that runs sequentially.
+	 *
+	 * @param minLength The smallest length allowed.  Must be nonnegative.
+	 * @param maxLength The largest length allowed.  Must be no smaller than
+	 *                  minLength.
+	 */
+	public MaxSumBounded(int minLength, int maxLength) {
+		this(minLength, maxLength, MaxSumFJ.DEFAULT_GRAIN, null);
+	}
+
+	/**
+	 * Constructs an instance that runs in parallel on the given pool.
+	 *
+	 * @param minLength The smallest length allowed.  Must be nonnegative.
+	 * @param maxLength The largest length allowed.  Must be no smaller than
+	 *                  minLength.
+	 * @param grain     The smallest number of ends to be processed by a
+	 *                  single task.  Must be positive.
+	 * @param pool      The pool on which the computation runs, or null to run
+	 *                  sequentially.
+	 */
+	public MaxSumBounded(int minLength, int maxLength, int grain, ForkJoinPool pool) {
+		if (minLength < 0 || maxLength < minLength) {
+			throw new IllegalArgumentException("Invalid length bounds: " + minLength + ".."
+					+ maxLength);
+		}
+		if (grain <= 0) {
+			throw new IllegalArgumentException("The grain size must be positive.");
+		}
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.grain = grain;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the maximum sum of a subsequence of the given array whose length
+	 * is within the bounds.
+	 *
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum sum.  If L is 0 and U is at least the length of
+	 *          a, this is computed by {@link MaxSumBU}, with its overflow
+	 *          behavior.
+	 * @throws  IllegalArgumentException If a has fewer than L elements.
+	 * @throws  ArithmeticException If the bounds restrict the subsequences
+	 *          and the maximum sum does not fit in an int.
+	 */
+	public int maxSum(int[] a) {
+		if (unbounded(a)) return new MaxSumBU().maxSum(a);
+		else return Math.toIntExact(maxSum(a, new MaxSumResult()).getSum());
+	}
+
+	public long maxSumLong(int[] a) {
+		return maxSum(a, new MaxSumResult()).getSum();
+	}
+
+	/**
+	 * Computes the maximum sum of a subsequence of the given array whose
+	 * length is within the bounds, together with the location of such a
+	 * subsequence having that sum, and stores them in the given holder.  The
+	 * sum is computed using 64-bit accumulators.
+	 *
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param r The holder in which the result is stored.
+	 * @return  r.
+	 * @throws  IllegalArgumentException If a has fewer than L elements.
+	 */
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		if (a.length < minLength) {
+			throw new IllegalArgumentException("No subsequence has at least " + minLength
+					+ " elements.");
+		}
+		if (unbounded(a)) return new MaxSumLongBU().maxSum(a, r);
+		int upper = Math.min(maxLength, a.length);
+		int ends = a.length + 1;
+		if (pool == null || ends <= 2 * chunk(upper)) {
+			return scan(a, minLength, upper, 0, ends, r);
+		}
+		else {
+			MaxSumResult m = pool.invoke(new ScanTask(a, minLength, upper, 0, ends, chunk(upper)));
+			return r.set(m.getSum(), m.getStart(), m.getEnd());
+		}
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the bounds do not restrict the subsequences
+	 * of the given array.
+	 *
+	 * @param a The array.
+	 * @return  <tt>true</tt> iff L is 0 and U is at least the length of a.
+	 */
+	private boolean unbounded(int[] a) {
+		return minLength == 0 && maxLength >= a.length;
+	}
+
+	/**
+	 * Returns the smallest number of ends processed by a single task.
+	 *
+	 * @param upper The largest length allowed, no larger than the length of
+	 *              the array.
+	 * @return      The larger of the grain size and upper.
+	 */
+	private int chunk(int upper) {
+		return Math.max(grain, upper);
+	}
+
+	/**
+	 * Finds the maximum sum of a subsequence a[i..j-1] with
+	 * lower &lt;= j - i &lt;= upper and lo &lt;= j &lt; hi.
+	 *
+	 * @param a     The array.
+	 * @param lower The smallest length allowed.
+	 * @param upper The largest length allowed, no larger than the length of
+	 *              a.
+	 * @param lo    The first end considered.
+	 * @param hi    One more than the last end considered.
+	 * @param r     The holder in which the result is stored.
+	 * @return      r, or null if no end in lo..hi-1 is at least lower.
+	 */
+	static MaxSumResult scan(int[] a, int lower, int upper, int lo, int hi, MaxSumResult r) {
+		int from = Math.max(0, lo - upper);
+		// The deque of starts, in a circular buffer
+		int capacity = upper - lower + 1;
+		int[] starts = new int[capacity];
+		long[] sums = new long[capacity];
+		int head = 0;
+		int count = 0;
+		boolean found = false;
+		long best = 0;
+		int start = 0;
+		int end = 0;
+		// Prefix sums relative to element from, at j and at i = j - lower
+		long pj = 0;
+		for (int k = from; k < from + lower; k++) {
+			pj += a[k];
+		}
+		long pi = 0;
+		// Invariant: the deque contains the starts in max(from, j-upper)..i-1
+		//            whose prefix sums are smaller than those of all later
+		//            starts in that range, in increasing order; best is the
+		//            maximum for the ends in lo..j-1 and is the sum of
+		//            a[start..end-1], unless found is false, in which case
+		//            there are no such ends
+		for (int j = from + lower, i = from; j < hi; j++, i++) {
+			if (j > from + lower) {
+				pj += a[j - 1];
+				pi += a[i - 1];
+			}
+			while (count > 0 && starts[head] < j - upper) {
+				head = head + 1 == capacity ? 0 : head + 1;
+				count--;
+			}
+			int back = head + count;
+			if (back >= capacity) {
+				back -= capacity;
+			}
+			while (count > 0) {
+				int last = back == 0 ? capacity - 1 : back - 1;
+				if (sums[last] < pi) {
+					break;
+				}
+				back = last;
+				count--;
+			}
+			starts[back] = i;
+			sums[back] = pi;
+			count++;
+			if (j >= lo && (!found || pj - sums[head] > best)) {
+				found = true;
+				best = pj - sums[head];
+				start = starts[head];
+				end = j;
+			}
+		}
+		return found ? r.set(best, start, end) : null;
+	}
+
+	/**
+	 * A task finding the maximum sum of a subsequence whose length is within
+	 * the bounds and whose end is within a given range.
+	 */
+	private static class ScanTask extends RecursiveTask<MaxSumResult> {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The array.
+		 */
+		private final int[] a;
+
+		/**
+		 * The smallest length allowed.
+		 */
+		private final int lower;
+
+		/**
+		 * The largest length allowed, no larger than the length of a.
+		 */
+		private final int upper;
+
+		/**
+		 * The first end considered.
+		 */
+		private final int lo;
+
+		/**
+		 * One more than the last end considered.
+		 */
+		private final int hi;
+
+		/**
+		 * The largest number of ends to be processed sequentially.
+		 */
+		private final int chunk;
+
+		/**
+		 * Constructs a task to consider the ends in lo..hi-1.
+		 *
+		 * @param a     The array.
+		 * @param lower The smallest length allowed.
+		 * @param upper The largest length allowed, no larger than the length
+		 *              of a.
+		 * @param lo    The first end considered.
+		 * @param hi    One more than the last end considered.
+		 * @param chunk The largest number of ends to be processed
+		 *              sequentially.
+		 */
+		ScanTask(int[] a, int lower, int upper, int lo, int hi, int chunk) {
+			this.a = a;
+			this.lower = lower;
+			this.upper = upper;
+			this.lo = lo;
+			this.hi = hi;
+			this.chunk = chunk;
+		}
+
+		protected MaxSumResult compute() {
+			if (hi - lo <= chunk) return scan(a, lower, upper, lo, hi, new MaxSumResult());
+			else {
+				int mid = (lo + hi) >>> 1;
+				ScanTask left = new ScanTask(a, lower, upper, lo, mid, chunk);
+				left.fork();
+				MaxSumResult right = new ScanTask(a, lower, upper, mid, hi, chunk).compute();
+				MaxSumResult l = left.join();
+				// On ties, the earlier end is kept
+				if (l == null || (right != null && right.getSum() > l.getSum())) return right;
+				else return l;
+			}
+		}
+	}
+}
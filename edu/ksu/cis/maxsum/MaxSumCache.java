@@ -0,0 +1,383 @@
+/*
+ * MaxSumCache.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Random;
+
+/**
+ * A cache of generated data sets and of the results of running algorithms
+ * on them, so that repeated comparisons need neither regenerate a data set
+ * nor rerun an algorithm whose answer is already known.
+ * <p>
+ * A data set generated with a given seed is determined by its size, max,
+ * seed, and whether it was generated as by earlier versions; each such
+ * combination is given a data set id, which remains the same for as long as
+ * the cache exists.  Data sets without a known seed are given a new id each
+ * time.  Arrays are kept in least-recently-used order, and the least
+ * recently used are evicted whenever their total size exceeds the memory
+ * budget.  Results, which are small, are never evicted; they are kept in an
+ * open-addressing hash table whose keys combine the data set id and the
+ * index of the algorithm into a single long, so that no objects are
+ * allocated for them.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumCache {
+
+	/**
+	 * The key marking an unused slot of the result table.
+	 */
+	private static final long EMPTY = -1;
+
+	/**
+	 * The initial number of slots in the result table (a power of 2).
+	 */
+	private static final int INITIAL_SLOTS = 64;
+
+	/**
+	 * The largest total number of bytes of arrays to keep.
+	 */
+	private final long budget;
+
+	/**
+	 * The total number of bytes of the arrays kept.
+	 */
+	private long used = 0;
+
+	/**
+	 * The arrays kept, in least-recently-used order.
+	 */
+	private final LinkedHashMap<DataKey, int[]> arrays = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The ids of the data sets generated with known seeds.
+	 */
+	private final HashMap<DataKey, Integer> ids = new HashMap<>();
+
+	/**
+	 * The next data set id to be assigned.
+	 */
+	private int nextId = 0;
+
+	/**
+	 * The keys of the result table, each combining a data set id and an
+	 * algorithm index, or EMPTY.
+	 */
+	private long[] keys = newKeys(INITIAL_SLOTS);
+
+	/**
+	 * The maximum subsequence sums in the result table.
+	 */
+	private long[] sums = new long[INITIAL_SLOTS];
+
+	/**
+	 * The running times in nanoseconds in the result table.
+	 */
+	private long[] times = new long[INITIAL_SLOTS];
+
+	/**
+	 * The number of results in the result table.
+	 */
+	private int count = 0;
+
+	/**
+	 * Constructs an empty cache that keeps arrays totaling about a quarter of
+	 * the maximum heap size.
+	 */
+	public MaxSumCache() {
+		this(Runtime.getRuntime().maxMemory() / 4);
+	}
+
+	/**
+	 * Constructs an empty cache with the given memory budget.
+	 *
+	 * @param budget The largest total number of bytes of arrays to keep.
+	 */
+	public MaxSumCache(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Returns the id of the data set generated with the given parameters,
+	 * assigning a new id if there is none.
+	 *
+	 * @param n          The number of elements.
+	 * @param max        The upper limit on values generated.
+	 * @param seed       The seed.
+	 * @param compatible <tt>true</tt> iff the data set is generated as by
+	 *                   earlier versions.
+	 * @return           The id of the data set.
+	 */
+	public int getId(long n, int max, long seed, boolean compatible) {
+		DataKey k = new DataKey(n, max, seed, compatible);
+		Integer id = ids.get(k);
+		if (id == null) {
+			id = nextId++;
+			ids.put(k, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns a new id for a data set whose parameters are not known.
+	 *
+	 * @return A new data set id.
+	 */
+	public int newId() {
+		return nextId++;
+	}
+
+	/**
+	 * Returns the data set generated with the given parameters, if it is
+	 * kept.
+	 *
+	 * @param n          The number of elements.
+	 * @param max        The upper limit on values generated.
+	 * @param seed       The seed.
+	 * @param compatible <tt>true</tt> iff the data set is generated as by
+	 *                   earlier versions.
+	 * @return           The data set, or null if it is not kept.  It must not
+	 *                   be modified.
+	 */
+	public int[] getData(long n, int max, long seed, boolean compatible) {
+		return arrays.get(new DataKey(n, max, seed, compatible));
+	}
+
+	/**
+	 * Keeps the given data set, generated with the given parameters, evicting
+	 * the least recently used data sets as necessary to stay within the
+	 * memory budget.  A data set larger than the budget is not kept.
+	 *
+	 * @param n          The number of elements.
+	 * @param max        The upper limit on values generated.
+	 * @param seed       The seed.
+	 * @param compatible <tt>true</tt> iff the data set is generated as by
+	 *                   earlier versions.
+	 * @param a          The data set, which must not be modified afterwards.
+	 */
+	public void putData(long n, int max, long seed, boolean compatible, int[] a) {
+		long bytes = bytes(a);
+		if (bytes > budget) {
+			return;
+		}
+		int[] old = arrays.put(new DataKey(n, max, seed, compatible), a);
+		used += bytes - (old == null ? 0 : bytes(old));
+		Iterator<int[]> it = arrays.values().iterator();
+		while (used > budget) {
+			used -= bytes(it.next());
+			it.remove();
+		}
+	}
+
+	/**
+	 * Returns the data set generated with the given parameters, generating
+	 * and keeping it if it is not already kept.
+	 *
+	 * @param n          The number of elements.
+	 * @param max        The upper limit on values generated.
+	 * @param seed       The seed.
+	 * @param compatible <tt>true</tt> iff the data set is generated as by
+	 *                   earlier versions.
+	 * @return           The data set.  It must not be modified.
+	 */
+	public int[] generate(int n, int max, long seed, boolean compatible) {
+		int[] a = getData(n, max, seed, compatible);
+		if (a == null) {
+			a = compatible ? DataGenerator.generate(n, max, new Random(seed))
+					: DataGenerator.generate(n, max, seed);
+			putData(n, max, seed, compatible, a);
+		}
+		return a;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff a result is known for the given data set and
+	 * algorithm.
+	 *
+	 * @param id  The data set id.
+	 * @param alg The index of the algorithm.
+	 * @return    <tt>true</tt> iff a result is known.
+	 */
+	public boolean hasResult(int id, int alg) {
+		return keys[slot(key(id, alg))] != EMPTY;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum computed by the given algorithm on
+	 * the given data set.
+	 *
+	 * @param id  The data set id.
+	 * @param alg The index of the algorithm.
+	 * @return    The maximum subsequence sum, if a result is known.
+	 */
+	public long getSum(int id, int alg) {
+		return sums[slot(key(id, alg))];
+	}
+
+	/**
+	 * Returns the time the given algorithm took on the given data set.
+	 *
+	 * @param id  The data set id.
+	 * @param alg The index of the algorithm.
+	 * @return    The running time in nanoseconds, if a result is known.
+	 */
+	public long getTime(int id, int alg) {
+		return times[slot(key(id, alg))];
+	}
+
+	/**
+	 * Records the result of running the given algorithm on the given data set.
+	 *
+	 * @param id   The data set id.
+	 * @param alg  The index of the algorithm.
+	 * @param sum  The maximum subsequence sum.
+	 * @param time The running time in nanoseconds.
+	 */
+	public void putResult(int id, int alg, long sum, long time) {
+		if (2 * (count + 1) > keys.length) {
+			grow();
+		}
+		long k = key(id, alg);
+		int i = slot(k);
+		if (keys[i] == EMPTY) {
+			keys[i] = k;
+			count++;
+		}
+		sums[i] = sum;
+		times[i] = time;
+	}
+
+	/**
+	 * Returns the number of bytes used by the given array, ignoring its
+	 * header.
+	 *
+	 * @param a The array.
+	 * @return  The number of bytes used by a.
+	 */
+	private static long bytes(int[] a) {
+		return (long) a.length * Integer.BYTES;
+	}
+
+	/**
+	 * Returns the key of the result table for the given data set and
+	 * algorithm.
+	 *
+	 * @param id  The data set id.
+	 * @param alg The index of the algorithm.
+	 * @return    The key.
+	 */
+	private static long key(int id, int alg) {
+		return ((long) id << 32) | (alg & 0xffffffffL);
+	}
+
+	/**
+	 * Returns the slot of the result table containing the given key, or the
+	 * empty slot where it would be placed.
+	 *
+	 * @param k The key.
+	 * @return  The slot.
+	 */
+	private int slot(long k) {
+		int mask = keys.length - 1;
+		int i = Long.hashCode(k * 0x9e3779b97f4a7c15L) & mask;
+		while (keys[i] != EMPTY && keys[i] != k) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	/**
+	 * Doubles the number of slots in the result table.
+	 */
+	private void grow() {
+		long[] oldKeys = keys;
+		long[] oldSums = sums;
+		long[] oldTimes = times;
+		keys = newKeys(2 * oldKeys.length);
+		sums = new long[keys.length];
+		times = new long[keys.length];
+		for (int j = 0; j < oldKeys.length; j++) {
+			if (oldKeys[j] != EMPTY) {
+				int i = slot(oldKeys[j]);
+				keys[i] = oldKeys[j];
+				sums[i] = oldSums[j];
+				times[i] = oldTimes[j];
+			}
+		}
+	}
+
+	/**
+	 * Returns a key array with all slots unused.
+	 *
+	 * @param n The number of slots.
+	 * @return  The array.
+	 */
+	private static long[] newKeys(int n) {
+		long[] k = new long[n];
+		Arrays.fill(k, EMPTY);
+		return k;
+	}
+
+	/**
+	 * The parameters with which a data set is generated.
+	 */
+	private static class DataKey {
+
+		/**
+		 * The number of elements.
+		 */
+		private final long n;
+
+		/**
+		 * The upper limit on values generated.
+		 */
+		private final int max;
+
+		/**
+		 * The seed.
+		 */
+		private final long seed;
+
+		/**
+		 * <tt>true</tt> iff the data set is generated as by earlier versions.
+		 */
+		private final boolean compatible;
+
+		/**
+		 * Constructs a new key.
+		 *
+		 * @param n          The number of elements.
+		 * @param max        The upper limit on values generated.
+		 * @param seed       The seed.
+		 * @param compatible <tt>true</tt> iff the data set is generated as by
+		 *                   earlier versions.
+		 */
+		public DataKey(long n, int max, long seed, boolean compatible) {
+			this.n = n;
+			this.max = max;
+			this.seed = seed;
+			this.compatible = compatible;
+		}
+
+		public boolean equals(Object o) {
+			if (!(o instanceof DataKey)) {
+				return false;
+			}
+			DataKey k = (DataKey) o;
+			return n == k.n && max == k.max && seed == k.seed && compatible == k.compatible;
+		}
+
+		public int hashCode() {
+			return Long.hashCode(n * 31 + seed) * 31 + max * 2 + (compatible ? 1 : 0);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * MaxSumChecked.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Class implementing the bottom-up maximum subsequence sum algorithm of
+ * {@link MaxSumBU} using int accumulators, but with overflow detection.
+ * If an overflow occurs, the computation is repeated using
+ * {@link MaxSumLongBU}, so that the result is always correct.  Detecting
+ * overflow requires no branches in the loop, so when no overflow occurs, the
+ * cost is nearly the same as that of MaxSumBU.  The running time is in O(n),
+ * where n is the number of elements in the array.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumChecked implements MaxSumInterface {
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If the result does not fit in an int.
+	 */
+	public int maxSum(int[] a) {
+		return Math.toIntExact(maxSumLong(a));
+	}
+
+	public long maxSumLong(int[] a) {
+		int m = MaxSumBU.maxSumChecked(a, 0, a.length);
+		if (m < 0) return MaxSumLongBU.maxSum(a, 0, a.length);
+		else return m;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * MaxSumCountedInterface.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The interface for the instrumented versions of the maximum subsequence sum
+ * algorithms, which count the operations they perform.  Each is a subclass of
+ * the algorithm it instruments, so that the algorithm itself is unchanged
+ * and pays nothing for the instrumentation when it is not used.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public interface MaxSumCountedInterface {
+
+	/**
+	 * Returns the maximum subsequence sum of the given array, as computed by
+	 * the algorithm instrumented, adding the operations performed to the
+	 * given counts.  Progress is recorded and cancellation is checked as by
+	 * {@link MaxSumInterface#maxSumLong(int[], Progress)} for the algorithm
+	 * instrumented.
+	 *
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param c The counts to which the operations performed are added.
+	 * @param p The record of the progress of the computation.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  java.util.concurrent.CancellationException If the computation
+	 *          is cancelled.
+	 */
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p);
+
+}
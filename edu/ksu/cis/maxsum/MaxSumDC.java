@@ -16,6 +16,12 @@ package edu.ksu.cis.maxsum;
  */
 public class MaxSumDC implements MaxSumInterface {
 	
+	/**
+	 * The smallest segment for which progress is recorded and cancellation
+	 * is checked.
+	 */
+	static final int PROGRESS_GRAIN = 1 << 12;
+	
 	public int maxSum(int[] a) {
 		if (a.length == 0) return 0;
 		else return maxSum(a, 0, a.length-1);
@@ -42,6 +48,106 @@ public class MaxSumDC implements MaxSumInterface {
 		}
 	}
 	
+	public long maxSumLong(int[] a, Progress p) {
+		// The work for a segment of length len is the number of elements
+		// read, about len lg len.
+		p.start(a.length * (double) log(a.length));
+		if (a.length == 0) return 0;
+		else return maxSum(a, 0, a.length-1, p);
+	}
+	
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi], recording progress in
+	 * p and stopping if cancellation is requested. It must be the case that 
+	 * lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @param p  The record of the progress of the computation.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 */
+	private int maxSum(int[] a, int lo, int hi, Progress p) {
+		int len = hi - lo + 1;
+		if (len < PROGRESS_GRAIN) {
+			int m = maxSum(a, lo, hi);
+			p.advance(len * (double) log(len));
+			return m;
+		}
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			int sum1 = maxSum(a, lo, mid, p);
+			int sum2 = maxSum(a, mid1, hi, p);
+			int sum3 = maxSuffix(a, lo, mid) + maxPrefix(a, mid1, hi);
+			p.advance(len);
+			return Math.max(Math.max(sum1, sum2), sum3);
+		}
+	}
+	
+	/**
+	 * Computes the ceiling of the base-2 logarithm of the given positive
+	 * integer.
+	 * 
+	 * @param n The integer.
+	 * @return  The ceiling of lg n.
+	 */
+	static int log(int n) {
+		return n <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(n - 1);
+	}
+	
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		if (a.length == 0) return r.set(0, 0, 0);
+		else return maxSum(a, 0, a.length-1, r);
+	}
+	
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi], together with the
+	 * location of a subsequence having that sum, and stores them in r. It must
+	 * be the case that lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @param r  The holder in which the result is stored.
+	 * @return   r.
+	 */
+	private MaxSumResult maxSum(int[] a, int lo, int hi, MaxSumResult r) {
+		if (lo == hi) {
+			if (a[lo] > 0) return r.set(a[lo], lo, lo + 1);
+			else return r.set(0, lo, lo);
+		}
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			maxSum(a, lo, mid, r);
+			long sum1 = r.getSum();
+			int start1 = r.getStart();
+			int end1 = r.getEnd();
+			maxSum(a, mid1, hi, r);
+			long suf = 0;
+			int start3 = lo;
+			// Invariant: suf is the maximum suffix sum for a[lo..i-1], and is
+			//            the sum of a[start3..i-1]
+			for (int i = lo; i <= mid; i++) {
+				suf = Math.max(0, suf + a[i]);
+				if (suf == 0) start3 = i + 1;
+			}
+			long pre = 0;
+			int end3 = hi + 1;
+			// Invariant: pre is the maximum prefix sum for a[i+1..hi], and is
+			//            the sum of a[i+1..end3-1]
+			for (int i = hi; i >= mid1; i--) {
+				pre = Math.max(0, pre + a[i]);
+				if (pre == 0) end3 = i;
+			}
+			long sum3 = suf + pre;
+			if (sum1 >= r.getSum() && sum1 >= sum3) return r.set(sum1, start1, end1);
+			else if (r.getSum() >= sum3) return r;
+			else return r.set(sum3, start3, end3);
+		}
+	}
+	
 	/**
 	 * Computes the maximum suffix sum of a[lo..hi]. It must be the case that
 	 * lo <= hi.
@@ -0,0 +1,131 @@
+/*
+ * MaxSumDCCounted.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The algorithm of {@link MaxSumDC}, instrumented to count the reads,
+ * additions, and comparisons it performs and the depth of its recursion.
+ * Each level of the recursion reads each element once, adding it to a
+ * maximum suffix or prefix sum and comparing the result with 0, so that
+ * about n lg n of each are performed; the depth of recursion is about lg n.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumDCCounted extends MaxSumDC implements MaxSumCountedInterface {
+
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p) {
+		p.start(a.length * (double) log(a.length));
+		if (a.length == 0) return 0;
+		else return maxSum(a, 0, a.length-1, c, p);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi], counting the
+	 * operations performed, recording progress in p and stopping if
+	 * cancellation is requested.  It must be the case that lo <= hi.
+	 *
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @param c  The counts to which the operations performed are added.
+	 * @param p  The record of the progress of the computation.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 */
+	private int maxSum(int[] a, int lo, int hi, OperationCounts c, Progress p) {
+		int len = hi - lo + 1;
+		if (len < PROGRESS_GRAIN) {
+			int m = maxSum(a, lo, hi, c);
+			p.advance(len * (double) log(len));
+			return m;
+		}
+		else {
+			c.enter();
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			int sum1 = maxSum(a, lo, mid, c, p);
+			int sum2 = maxSum(a, mid1, hi, c, p);
+			int sum3 = maxSuffix(a, lo, mid, c) + maxPrefix(a, mid1, hi, c);
+			c.add(0, 1, 2);
+			p.advance(len);
+			c.exit();
+			return Math.max(Math.max(sum1, sum2), sum3);
+		}
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi], counting the
+	 * operations performed.  It must be the case that lo <= hi.
+	 *
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @param c  The counts to which the operations performed are added.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 */
+	private int maxSum(int[] a, int lo, int hi, OperationCounts c) {
+		c.enter();
+		int m;
+		if (lo == hi) {
+			m = Math.max(0, a[lo]);
+			c.add(1, 0, 1);
+		}
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			int sum1 = maxSum(a, lo, mid, c);
+			int sum2 = maxSum(a, mid1, hi, c);
+			int sum3 = maxSuffix(a, lo, mid, c) + maxPrefix(a, mid1, hi, c);
+			m = Math.max(Math.max(sum1, sum2), sum3);
+			c.add(0, 1, 2);
+		}
+		c.exit();
+		return m;
+	}
+
+	/**
+	 * Computes the maximum suffix sum of a[lo..hi], counting the operations
+	 * performed.  It must be the case that lo <= hi.
+	 *
+	 * @param a  The array over which the maximum suffix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @param c  The counts to which the operations performed are added.
+	 * @return   The maximum suffix sum of a[lo..hi].
+	 */
+	private static int maxSuffix(int[] a, int lo, int hi, OperationCounts c) {
+		int m = 0;
+		// Invariant: m is the maximum suffix sum for a[lo..i-1]
+		for (int i = lo; i <= hi; i++) {
+			m = Math.max(0, m + a[i]);
+		}
+		int len = hi - lo + 1;
+		c.add(len, len, len);
+		return m;
+	}
+
+	/**
+	 * Computes the maximum prefix sum of a[lo..hi], counting the operations
+	 * performed.  It must be the case that lo <= hi.
+	 *
+	 * @param a  The array over which the maximum prefix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @param c  The counts to which the operations performed are added.
+	 * @return   The maximum prefix sum of a[lo..hi].
+	 */
+	private static int maxPrefix(int[] a, int lo, int hi, OperationCounts c) {
+		int m = 0;
+		// Invariant: m is the maximum prefix sum for a[i+1..hi]
+		for (int i = hi; i >= lo; i--) {
+			m = Math.max(0, m + a[i]);
+		}
+		int len = hi - lo + 1;
+		c.add(len, len, len);
+		return m;
+	}
+}
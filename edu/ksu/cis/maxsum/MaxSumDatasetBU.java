@@ -0,0 +1,75 @@
+/*
+ * MaxSumDatasetBU.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * Class implementing the bottom-up maximum subsequence sum algorithm of
+ * {@link MaxSumBU} over a {@link Dataset}, reading a segment at a time, in
+ * place if the data set stores its elements.  The running time is in O(n),
+ * where n is the number of elements in the data set.  When run with a
+ * {@link Progress}, it records its progress and checks for cancellation after
+ * each segment.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumDatasetBU implements MaxSumDatasetInterface {
+
+	public long maxSum(Dataset d) {
+		long[] s = new long[4];
+		int[] buf = new int[Dataset.SEGMENT_SIZE];
+		for (long lo = 0; lo < d.size(); lo += Dataset.SEGMENT_SIZE) {
+			MaxSumLongBU.summarize(d.segment(lo, Math.min(d.size(), lo + Dataset.SEGMENT_SIZE), buf),
+					s, 0);
+		}
+		return s[3];
+	}
+
+	public long maxSum(Dataset d, Progress p) {
+		// The work is the number of elements read.
+		p.start(d.size());
+		long[] s = new long[4];
+		int[] buf = new int[Dataset.SEGMENT_SIZE];
+		for (long lo = 0; lo < d.size(); lo += Dataset.SEGMENT_SIZE) {
+			long hi = Math.min(d.size(), lo + Dataset.SEGMENT_SIZE);
+			MaxSumLongBU.summarize(d.segment(lo, hi, buf), s, 0);
+			p.advance(hi - lo);
+		}
+		return s[3];
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of the given data set, together
+	 * with the location of a subsequence having that sum.  The subsequence
+	 * is elements range[0] through range[1] - 1; if the maximum subsequence
+	 * sum is 0, it is empty.  Of the subsequences having the maximum sum, the
+	 * one ending first, then starting last, is found, as by {@link MaxSumBU}.
+	 *
+	 * @param d     The data set over which the maximum subsequence sum is to
+	 *              be computed.
+	 * @param range The array of length 2 in which the location is stored.
+	 * @return      The maximum subsequence sum of d.
+	 */
+	static long maxSumRange(Dataset d, long[] range) {
+		// The summary of the segments read so far, then that of the next
+		int next = LocatedSummary.SIZE;
+		long[] s = new long[2 * next];
+		LocatedSummary.empty(s, 0, 0);
+		int[] buf = new int[Dataset.SEGMENT_SIZE];
+		for (long base = 0; base < d.size(); base += Dataset.SEGMENT_SIZE) {
+			IntBuffer b = d.segment(base, Math.min(d.size(), base + Dataset.SEGMENT_SIZE), buf);
+			LocatedSummary.summarize(b, base, s, next);
+			LocatedSummary.combine(s, 0, s, next, s, 0);
+		}
+		range[0] = s[LocatedSummary.BEST_START];
+		range[1] = s[LocatedSummary.BEST_END];
+		return s[LocatedSummary.BEST];
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * MaxSumDatasetDC.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * Class implementing the divide-and-conquer maximum subsequence sum algorithm
+ * of {@link MaxSumDC} over a {@link Dataset}.  Once a segment of the
+ * recursion lies within a single segment of the data set, that segment is
+ * read once, and the recursion continues over it using int indices; the
+ * sums crossing the midpoint of larger segments are computed by reading the
+ * data set a segment at a time.  It therefore works for data sets that do
+ * not store their elements, such as {@link GeneratedDataset}, although the
+ * elements of such a data set are then generated O(lg n) times.  The running
+ * time is in O(n lg n), where n is the number of elements in the data set.
+ * As in {@link MaxSumLongDC}, the sums are computed using 64-bit
+ * accumulators.  When run with a {@link Progress}, it records its progress
+ * and checks for cancellation after each segment of the data set is
+ * processed and after each larger segment of the recursion is finished.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumDatasetDC implements MaxSumDatasetInterface {
+
+	public long maxSum(Dataset d) {
+		return maxSum(d, new Progress());
+	}
+
+	public long maxSum(Dataset d, Progress p) {
+		// The work is the number of elements read, about n lg n: each element
+		// is read once at each level of the recursion.
+		int levels = log(d.size());
+		p.start(d.size() * (double) levels);
+		if (d.size() == 0) return 0;
+		else return maxSum(d, 0, d.size()-1, new int[Dataset.SEGMENT_SIZE], p, levels);
+	}
+
+	/**
+	 * Computes the ceiling of the base-2 logarithm of the given positive
+	 * integer.
+	 * 
+	 * @param n The integer.
+	 * @return  The ceiling of lg n.
+	 */
+	private static int log(long n) {
+		return n <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(n - 1);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of d[lo..hi], recording progress in
+	 * p and stopping if cancellation is requested. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param d   The data set over which the maximum subsequence sum is to be
+	 *            found.
+	 * @param lo  The index of the first element in the segment considered.
+	 * @param hi  The index of the last element in the segment considered.
+	 * @param buf The array in which segments of d may be placed.
+	 * @param p   The record of the progress of the computation.
+	 * @param w   The work to be recorded for each element of d[lo..hi], one
+	 *            for each level of the recursion from this one down; it is
+	 *            at least lg (hi - lo + 1).
+	 * @return    The maximum subsequence sum of d[lo..hi].
+	 */
+	private long maxSum(Dataset d, long lo, long hi, int[] buf, Progress p, int w) {
+		long len = hi - lo + 1;
+		if (lo >>> Dataset.SEGMENT_SHIFT == hi >>> Dataset.SEGMENT_SHIFT) {
+			long m = maxSum(d.segment(lo, hi + 1, buf), 0, (int) (hi - lo));
+			p.advance(len * (double) w);
+			return m;
+		}
+		else {
+			long mid = (lo + hi) >>> 1;
+			long mid1 = mid + 1;
+			long sum1 = maxSum(d, lo, mid, buf, p, w - 1);
+			long sum2 = maxSum(d, mid1, hi, buf, p, w - 1);
+			long sum3 = maxSuffix(d, lo, mid, buf) + maxPrefix(d, mid1, hi, buf);
+			p.advance(len);
+			return Math.max(Math.max(sum1, sum2), sum3);
+		}
+	}
+
+	/**
+	 * Computes the maximum suffix sum of d[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param d   The data set over which the maximum suffix sum is to be found.
+	 * @param lo  The index of the first element of the segment considered.
+	 * @param hi  The index of the last element of the segment considered.
+	 * @param buf The array in which segments of d may be placed.
+	 * @return    The maximum suffix sum of d[lo..hi].
+	 */
+	private long maxSuffix(Dataset d, long lo, long hi, int[] buf) {
+		long m = 0;
+		for (long first = lo; first <= hi; ) {
+			long end = Math.min(hi + 1, ((first >>> Dataset.SEGMENT_SHIFT) + 1) << Dataset.SEGMENT_SHIFT);
+			IntBuffer b = d.segment(first, end, buf);
+			// Invariant: m is the maximum suffix sum for the elements from lo
+			//            up to element first+i, exclusive
+			for (int i = 0; i < b.limit(); i++) {
+				m = Math.max(0, m + b.get(i));
+			}
+			first = end;
+		}
+		return m;
+	}
+
+	/**
+	 * Computes the maximum prefix sum of d[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param d   The data set over which the maximum prefix sum is to be found.
+	 * @param lo  The index of the first element of the segment considered.
+	 * @param hi  The index of the last element of the segment considered.
+	 * @param buf The array in which segments of d may be placed.
+	 * @return    The maximum prefix sum of d[lo..hi].
+	 */
+	private long maxPrefix(Dataset d, long lo, long hi, int[] buf) {
+		long m = 0;
+		for (long last = hi; last >= lo; ) {
+			long first = Math.max(lo, (last >>> Dataset.SEGMENT_SHIFT) << Dataset.SEGMENT_SHIFT);
+			IntBuffer b = d.segment(first, last + 1, buf);
+			// Invariant: m is the maximum prefix sum for the elements after
+			//            element first+i, up to hi
+			for (int i = b.limit() - 1; i >= 0; i--) {
+				m = Math.max(0, m + b.get(i));
+			}
+			last = first - 1;
+		}
+		return m;
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of b[lo..hi]. It must be the case
+	 * that lo <= hi.
+	 * 
+	 * @param b  The buffer over which the maximum subsequence sum is to be
+	 *           found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @return   The maximum subsequence sum of b[lo..hi].
+	 */
+	private long maxSum(IntBuffer b, int lo, int hi) {
+		if (lo == hi) return Math.max(0, b.get(lo));
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			long sum1 = maxSum(b, lo, mid);
+			long sum2 = maxSum(b, mid1, hi);
+			long suf = 0;
+			// Invariant: suf is the maximum suffix sum for b[lo..i-1]
+			for (int i = lo; i <= mid; i++) {
+				suf = Math.max(0, suf + b.get(i));
+			}
+			long pre = 0;
+			// Invariant: pre is the maximum prefix sum for b[i+1..hi]
+			for (int i = hi; i >= mid1; i--) {
+				pre = Math.max(0, pre + b.get(i));
+			}
+			return Math.max(Math.max(sum1, sum2), suf + pre);
+		}
+	}
+
+}
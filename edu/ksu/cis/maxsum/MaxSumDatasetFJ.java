@@ -0,0 +1,148 @@
+/*
+ * MaxSumDatasetFJ.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class implementing the parallel divide-and-conquer maximum subsequence sum
+ * algorithm of {@link MaxSumFJ} over a {@link Dataset}.  The data set is split
+ * into segments of at most a given grain size, which are summarized on a
+ * ForkJoinPool, and the {@link SegmentSummary}s are combined in O(1) time
+ * each.  The total work is in O(n), where n is the number of elements in the
+ * data set.  When run with a {@link Progress}, each task checks for
+ * cancellation before summarizing its segment; because the segments are
+ * summarized on several threads, progress is not recorded.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumDatasetFJ implements MaxSumDatasetInterface {
+
+	/**
+	 * The default grain size.
+	 */
+	public static final int DEFAULT_GRAIN = 1 << 20;
+
+	/**
+	 * The largest segment to be summarized sequentially.
+	 */
+	private final int grain;
+
+	/**
+	 * The pool on which the computation runs.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs an instance using the default grain size and the common pool.
+	 */
+	public MaxSumDatasetFJ() {
+		this(DEFAULT_GRAIN, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an instance using the given grain size and pool.
+	 * 
+	 * @param grain The largest segment to be summarized sequentially.  Must be
+	 *              positive.
+	 * @param pool  The pool on which the computation runs.
+	 */
+	public MaxSumDatasetFJ(int grain, ForkJoinPool pool) {
+		if (grain <= 0) {
+			throw new IllegalArgumentException("The grain size must be positive.");
+		}
+		this.grain = grain;
+		this.pool = pool;
+	}
+
+	public long maxSum(Dataset d) {
+		return summarize(d).best;
+	}
+
+	public long maxSum(Dataset d, Progress p) {
+		return pool.invoke(new SummaryTask(d, 0, d.size(), grain, p)).best;
+	}
+
+	/**
+	 * Computes the summary of the given data set.
+	 * 
+	 * @param d The data set to be summarized.
+	 * @return  The summary of the elements of d.
+	 */
+	public SegmentSummary summarize(Dataset d) {
+		return pool.invoke(new SummaryTask(d, 0, d.size(), grain, new Progress()));
+	}
+
+	/**
+	 * A task computing the summary of a segment of a data set.
+	 */
+	private static class SummaryTask extends RecursiveTask<SegmentSummary> {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The data set containing the segment.
+		 */
+		private final Dataset d;
+
+		/**
+		 * The index of the first element in the segment.
+		 */
+		private final long lo;
+
+		/**
+		 * One more than the index of the last element in the segment.
+		 */
+		private final long hi;
+
+		/**
+		 * The largest segment to be summarized sequentially.
+		 */
+		private final int grain;
+
+		/**
+		 * The record checked for cancellation.
+		 */
+		private final Progress progress;
+
+		/**
+		 * Constructs a task to summarize elements lo..hi-1 of d.
+		 * 
+		 * @param d        The data set containing the segment.
+		 * @param lo       The index of the first element in the segment.
+		 * @param hi       One more than the index of the last element.
+		 * @param grain    The largest segment to be summarized sequentially.
+		 * @param progress The record checked for cancellation.
+		 */
+		SummaryTask(Dataset d, long lo, long hi, int grain, Progress progress) {
+			this.d = d;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+			this.progress = progress;
+		}
+
+		protected SegmentSummary compute() {
+			if (hi - lo <= grain) {
+				progress.checkCancelled();
+				return SegmentSummary.of(d, lo, hi);
+			}
+			else {
+				long mid = (lo + hi) >>> 1;
+				SummaryTask left = new SummaryTask(d, lo, mid, grain, progress);
+				left.fork();
+				SegmentSummary right = new SummaryTask(d, mid, hi, grain, progress).compute();
+				return left.join().combine(right);
+			}
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * MaxSumDatasetInterface.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The interface for the classes containing algorithms for the maximum
+ * subsequence sum of a {@link Dataset}.  Because a data set may have more
+ * than 2^31 elements, the sums are computed using 64-bit accumulators.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public interface MaxSumDatasetInterface {
+
+	/**
+	 * Returns the maximum subsequence sum of the given data set.
+	 * 
+	 * @param d The data set over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of d.
+	 */
+	public long maxSum(Dataset d);
+	
+	/**
+	 * Returns the maximum subsequence sum of the given data set, recording
+	 * the progress of the computation and stopping if cancellation is
+	 * requested.  By default, the result of {@link #maxSum(Dataset)} is
+	 * returned, and neither progress nor cancellation is supported.
+	 * 
+	 * @param d The data set over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param p The record of the progress of the computation.
+	 * @return  The maximum subsequence sum of d.
+	 * @throws  java.util.concurrent.CancellationException If the computation
+	 *          is cancelled.
+	 */
+	public default long maxSum(Dataset d, Progress p) {
+		return maxSum(d);
+	}
+	
+}
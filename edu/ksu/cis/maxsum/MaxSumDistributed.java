@@ -0,0 +1,711 @@
+/*
+ * MaxSumDistributed.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A command-line program that computes the maximum subsequence sum of a data
+ * set too large for one process by dividing it into shards, each summarized
+ * by a worker process, possibly on another machine.  Each worker computes the
+ * {@link SegmentSummary} of its shard - the total, maximum prefix, maximum
+ * suffix, and maximum subsequence sums - and sends it to the coordinator,
+ * which combines the summaries in shard order as {@link MaxSumDC} combines
+ * its two halves.  Only 32 bytes are sent per shard, so the data themselves
+ * never leave the workers.
+ * <p>
+ * A shard is either a range of a file accessible to the worker, which may be
+ * a raw file of little-endian 32-bit integers or an uncompressed saved data
+ * set (see {@link DatasetFile}), or a range of a data set generated from a
+ * seed, as by {@link GeneratedDataset}, so that each worker generates only
+ * its own elements.  Shards begin at multiples of
+ * {@link Dataset#SEGMENT_SIZE}, so that no segment is generated by two
+ * workers.
+ * <p>
+ * Usage:
+ * <pre>
+ * java edu.ksu.cis.maxsum.MaxSumDistributed worker [-bind address] [-root dir] port
+ * java edu.ksu.cis.maxsum.MaxSumDistributed coordinator [-stop] workers file
+ * java edu.ksu.cis.maxsum.MaxSumDistributed coordinator [-stop] workers -generate n max seed
+ * </pre>
+ * A worker listens on the given port, handling the connections on a fixed
+ * number of threads with a bounded queue; when both are full, the accepting
+ * thread handles a connection itself, so that no more are accepted until one
+ * finishes.  By default, a worker listens only on the loopback address, so
+ * that other machines can reach it only if it is given <tt>-bind</tt> with
+ * an address of this machine (or 0.0.0.0 for all of them).  It reads only
+ * files within the given root directory, by default its working directory.
+ * The coordinator is given a comma-separated list of workers, each in the
+ * form host:port, and divides the data set into one shard per entry; a
+ * worker may be listed more than once to give it several shards.  With
+ * <tt>-stop</tt>, the coordinator then tells each worker to exit.
+ * <p>
+ * If the environment variable MAXSUM_TOKEN is set, its value is a secret
+ * shared by the coordinator and the workers: the coordinator sends it with
+ * each request, and a worker refuses any request that does not carry the
+ * worker's own token.  A worker without a token accepts STOP only from its
+ * own machine.
+ * <p>
+ * Each connection carries one request and its response, written with
+ * {@link DataOutputStream}.  A request is a kind byte and the token (as by
+ * writeUTF, empty if there is none) followed by its parameters: for FILE, the
+ * path (as by writeUTF) and the first and last+1 indices (longs); for
+ * GENERATED, the size (long), max (int), seed (long), and the first and
+ * last+1 indices; for STOP, nothing.  A response is OK followed by the total,
+ * prefix, suffix, and best sums (longs), or, for STOP, by nothing; or it is
+ * ERROR followed by a message (as by writeUTF).
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumDistributed {
+
+	/**
+	 * The request kind telling a worker to exit.
+	 */
+	public static final byte STOP = 0;
+
+	/**
+	 * The request kind for a range of a file.
+	 */
+	public static final byte FILE = 1;
+
+	/**
+	 * The request kind for a range of a generated data set.
+	 */
+	public static final byte GENERATED = 2;
+
+	/**
+	 * The response status for a summary.
+	 */
+	public static final byte OK = 0;
+
+	/**
+	 * The response status for an error.
+	 */
+	public static final byte ERROR = 1;
+
+	/**
+	 * The environment variable holding the shared token.
+	 */
+	public static final String TOKEN_VARIABLE = "MAXSUM_TOKEN";
+
+	/**
+	 * The number of connections a worker handles at once.
+	 */
+	private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * The number of accepted connections a worker holds while all of its
+	 * threads are busy.
+	 */
+	private static final int QUEUE_SIZE = 64;
+
+	/**
+	 * The time in milliseconds a worker waits for a request to arrive, so
+	 * that an idle connection does not occupy a thread indefinitely.
+	 */
+	private static final int READ_TIMEOUT = 60000;
+
+	/**
+	 * The usage message.
+	 */
+	private static final String USAGE =
+		"Usage: java edu.ksu.cis.maxsum.MaxSumDistributed worker [-bind address] [-root dir] port\n"
+		+ "       java edu.ksu.cis.maxsum.MaxSumDistributed coordinator [-stop] host:port[,host:port...] file\n"
+		+ "       java edu.ksu.cis.maxsum.MaxSumDistributed coordinator [-stop] host:port[,host:port...]\n"
+		+ "           -generate n max seed";
+
+	/**
+	 * Runs the program.
+	 *
+	 * @param args The command-line arguments, as described above.
+	 * @throws IOException If a file cannot be read or a worker cannot be
+	 *                     reached.
+	 */
+	public static void main(String[] args) throws IOException {
+		try {
+			if (args.length >= 2 && args[0].equals("worker")) {
+				worker(args);
+				return;
+			}
+			if (args.length < 3 || !args[0].equals("coordinator")) {
+				throw new IllegalArgumentException("Missing arguments.");
+			}
+			int i = 1;
+			boolean stop = args[i].equals("-stop");
+			if (stop) {
+				i++;
+			}
+			List<InetSocketAddress> workers = parseWorkers(args[i++]);
+			long start = System.nanoTime();
+			SegmentSummary s;
+			if (args.length == i + 1) {
+				s = coordinate(workers, Paths.get(args[i]));
+			}
+			else if (args.length == i + 4 && args[i].equals("-generate")) {
+				s = coordinate(workers, Long.parseLong(args[i + 1]), Integer.parseInt(args[i + 2]),
+						Long.parseLong(args[i + 3]));
+			}
+			else {
+				throw new IllegalArgumentException("Invalid arguments.");
+			}
+			long time = System.nanoTime() - start;
+			System.out.println("max sum = " + s.best + "; shards = " + workers.size() + "; time = "
+					+ (time / 1e9) + " seconds.");
+			if (stop) {
+				for (InetSocketAddress w : workers) {
+					stop(w);
+				}
+			}
+		}
+		catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Runs a worker with the given command-line arguments.
+	 *
+	 * @param args The command-line arguments, beginning with "worker".
+	 * @throws IOException If the socket cannot be opened or the root
+	 *                     directory does not exist.
+	 * @throws IllegalArgumentException If the arguments are not valid.
+	 */
+	private static void worker(String[] args) throws IOException {
+		InetAddress address = InetAddress.getLoopbackAddress();
+		Path root = Paths.get("");
+		int i = 1;
+		// Invariant: args[1..i-1] are the options processed so far
+		while (i < args.length - 1) {
+			if (args[i].equals("-bind") && i + 2 < args.length) {
+				address = InetAddress.getByName(args[i + 1]);
+			}
+			else if (args[i].equals("-root") && i + 2 < args.length) {
+				root = Paths.get(args[i + 1]);
+			}
+			else {
+				throw new IllegalArgumentException("Invalid option: " + args[i]);
+			}
+			i += 2;
+		}
+		if (i != args.length - 1) {
+			throw new IllegalArgumentException("Missing port.");
+		}
+		int port = Integer.parseInt(args[i]);
+		try (ServerSocket server = new ServerSocket(port, 0, address)) {
+			serve(server, root, System.getenv(TOKEN_VARIABLE));
+		}
+	}
+
+	/**
+	 * Handles connections to the given server socket until a STOP request
+	 * is received.
+	 *
+	 * @param server The server socket.
+	 * @param root   The directory containing every file that may be read.
+	 * @param token  The token that each request must carry, or null if
+	 *               there is none.
+	 * @throws IOException If a connection cannot be accepted or the root
+	 *                     directory does not exist.
+	 */
+	public static void serve(ServerSocket server, Path root, String token) throws IOException {
+		Path dir = root.toRealPath();
+		ThreadPoolExecutor exec = new ThreadPoolExecutor(THREADS, THREADS, 0, 
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE), 
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		try {
+			while (true) {
+				exec.execute(new Connection(server, server.accept(), dir, token));
+			}
+		}
+		catch (IOException e) {
+			if (!server.isClosed()) {
+				throw e;
+			}
+		}
+		finally {
+			// Let the connections already accepted finish
+			exec.shutdown();
+		}
+	}
+
+	/**
+	 * Computes the summary of the given file, a raw file of little-endian
+	 * 32-bit integers or an uncompressed saved data set, using the given
+	 * workers, each of which must be able to read the file by the same path.
+	 *
+	 * @param workers The addresses of the workers, one per shard.
+	 * @param file    The file.
+	 * @return        The summary of the elements in the file.
+	 * @throws IOException If the file cannot be read or a worker fails.
+	 */
+	public static SegmentSummary coordinate(List<InetSocketAddress> workers, Path file)
+			throws IOException {
+		long n;
+		if (DatasetFile.isDatasetFile(file)) {
+			DatasetFile f = new DatasetFile(file);
+			if (f.isCompressed()) {
+				throw new IOException(file + " is compressed, so it cannot be divided into shards.");
+			}
+			n = f.getSize();
+		}
+		else {
+			n = Files.size(file) / Integer.BYTES;
+		}
+		return coordinate(workers, new Shard(FILE, file.toAbsolutePath().toString(), n, 0, 0));
+	}
+
+	/**
+	 * Computes the summary of the data set generated with the given
+	 * parameters, as by {@link GeneratedDataset}, using the given workers.
+	 *
+	 * @param workers The addresses of the workers, one per shard.
+	 * @param n       The number of elements.
+	 * @param max     The upper limit on values generated.
+	 * @param seed    The seed.
+	 * @return        The summary of the data set.
+	 * @throws IOException If a worker fails.
+	 */
+	public static SegmentSummary coordinate(List<InetSocketAddress> workers, long n, int max,
+			long seed) throws IOException {
+		if (n < 0 || n > OffHeapDataset.MAX_SIZE) {
+			throw new IllegalArgumentException("Invalid size: " + n);
+		}
+		return coordinate(workers, new Shard(GENERATED, null, n, max, seed));
+	}
+
+	/**
+	 * Tells the given worker to exit, sending the token from the environment.
+	 *
+	 * @param worker The address of the worker.
+	 * @throws IOException If the worker cannot be reached or refuses.
+	 */
+	public static void stop(InetSocketAddress worker) throws IOException {
+		try (Socket s = new Socket(worker.getHostString(), worker.getPort())) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+			out.writeByte(STOP);
+			writeToken(out);
+			out.flush();
+			DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+			if (in.readByte() != OK) {
+				throw new IOException("Worker " + worker.getHostString() + ":" + worker.getPort()
+						+ " refused to stop: " + in.readUTF());
+			}
+		}
+	}
+
+	/**
+	 * Writes the token from the environment, or an empty string if there is
+	 * none.
+	 *
+	 * @param out The stream to which the token is written.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private static void writeToken(DataOutputStream out) throws IOException {
+		String token = System.getenv(TOKEN_VARIABLE);
+		out.writeUTF(token == null ? "" : token);
+	}
+
+	/**
+	 * Divides the given data set into one shard per worker, has the workers
+	 * summarize the shards concurrently, and combines the summaries in order.
+	 *
+	 * @param workers The addresses of the workers, one per shard.
+	 * @param whole   The request for the entire data set.
+	 * @return        The summary of the data set.
+	 * @throws IOException If a worker fails.
+	 */
+	private static SegmentSummary coordinate(List<InetSocketAddress> workers, Shard whole)
+			throws IOException {
+		int k = workers.size();
+		if (k == 0) {
+			throw new IllegalArgumentException("There must be at least one worker.");
+		}
+		// The number of segments in each shard, except perhaps the last
+		long segments = (whole.size + Dataset.SEGMENT_SIZE - 1) / Dataset.SEGMENT_SIZE;
+		long per = (segments + k - 1) / k;
+		ExecutorService exec = Executors.newFixedThreadPool(k);
+		try {
+			List<Future<SegmentSummary>> results = new ArrayList<>();
+			for (int i = 0; i < k; i++) {
+				long lo = Math.min(whole.size, i * per * Dataset.SEGMENT_SIZE);
+				long hi = Math.min(whole.size, (i + 1) * per * Dataset.SEGMENT_SIZE);
+				results.add(exec.submit(new Request(workers.get(i), whole.range(lo, hi))));
+			}
+			SegmentSummary s = SegmentSummary.EMPTY;
+			for (int i = 0; i < k; i++) {
+				s = s.combine(results.get(i).get());
+			}
+			return s;
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+			else throw new IOException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for the workers.", e);
+		}
+		finally {
+			exec.shutdownNow();
+		}
+	}
+
+	/**
+	 * Parses a comma-separated list of worker addresses.
+	 *
+	 * @param s The list, with each address in the form host:port.
+	 * @return  The addresses.
+	 * @throws IllegalArgumentException If an address is not valid.
+	 */
+	private static List<InetSocketAddress> parseWorkers(String s) {
+		List<InetSocketAddress> workers = new ArrayList<>();
+		for (String w : s.split(",")) {
+			int colon = w.lastIndexOf(':');
+			if (colon <= 0) {
+				throw new IllegalArgumentException("Invalid worker address: " + w);
+			}
+			workers.add(InetSocketAddress.createUnresolved(w.substring(0, colon),
+					Integer.parseInt(w.substring(colon + 1))));
+		}
+		return workers;
+	}
+
+	/**
+	 * A description of a shard, as sent to a worker.
+	 */
+	private static class Shard {
+
+		/**
+		 * The kind of request: FILE or GENERATED.
+		 */
+		private final byte kind;
+
+		/**
+		 * The path of the file, or null for a generated data set.
+		 */
+		private final String path;
+
+		/**
+		 * The number of elements in the entire data set.
+		 */
+		private final long size;
+
+		/**
+		 * The upper limit on values generated, or 0 for a file.
+		 */
+		private final int max;
+
+		/**
+		 * The seed, or 0 for a file.
+		 */
+		private final long seed;
+
+		/**
+		 * The index of the first element of the shard.
+		 */
+		private long lo;
+
+		/**
+		 * One more than the index of the last element of the shard.
+		 */
+		private long hi;
+
+		/**
+		 * Constructs a description of an entire data set.
+		 *
+		 * @param kind The kind of request: FILE or GENERATED.
+		 * @param path The path of the file, or null for a generated data set.
+		 * @param size The number of elements.
+		 * @param max  The upper limit on values generated, or 0 for a file.
+		 * @param seed The seed, or 0 for a file.
+		 */
+		Shard(byte kind, String path, long size, int max, long seed) {
+			this.kind = kind;
+			this.path = path;
+			this.size = size;
+			this.max = max;
+			this.seed = seed;
+			hi = size;
+		}
+
+		/**
+		 * Returns a description of a range of the same data set.
+		 *
+		 * @param lo The index of the first element of the range.
+		 * @param hi One more than the index of the last element.
+		 * @return   The description of the range.
+		 */
+		Shard range(long lo, long hi) {
+			Shard s = new Shard(kind, path, size, max, seed);
+			s.lo = lo;
+			s.hi = hi;
+			return s;
+		}
+
+		/**
+		 * Writes this request.
+		 *
+		 * @param out The stream to which the request is written.
+		 * @throws IOException If an I/O error occurs.
+		 */
+		void write(DataOutputStream out) throws IOException {
+			out.writeByte(kind);
+			writeToken(out);
+			if (kind == FILE) {
+				out.writeUTF(path);
+			}
+			else {
+				out.writeLong(size);
+				out.writeInt(max);
+				out.writeLong(seed);
+			}
+			out.writeLong(lo);
+			out.writeLong(hi);
+		}
+
+		/**
+		 * Reads a FILE or GENERATED request whose kind and token have already
+		 * been read.
+		 *
+		 * @param kind The kind of request.
+		 * @param in   The stream from which the request is read.
+		 * @return     The request.
+		 * @throws IOException If an I/O error occurs or the kind is not
+		 *                     valid.
+		 */
+		static Shard read(byte kind, DataInputStream in) throws IOException {
+			Shard s;
+			if (kind == FILE) {
+				s = new Shard(kind, in.readUTF(), 0, 0, 0);
+			}
+			else if (kind == GENERATED) {
+				long size = in.readLong();
+				int max = in.readInt();
+				s = new Shard(kind, null, size, max, in.readLong());
+			}
+			else {
+				throw new IOException("Unknown request kind: " + kind);
+			}
+			s.lo = in.readLong();
+			s.hi = in.readLong();
+			return s;
+		}
+
+		/**
+		 * Computes the summary of this shard.
+		 *
+		 * @param root The directory containing every file that may be read,
+		 *             as a real path.
+		 * @return     The summary.
+		 * @throws IOException If the file cannot be read or is not within
+		 *                     root.
+		 */
+		SegmentSummary summarize(Path root) throws IOException {
+			try (Dataset d = open(root)) {
+				if (lo < 0 || lo > hi || hi > d.size()) {
+					throw new IOException("Invalid range " + lo + ".." + hi + " of " + d.size()
+							+ " elements.");
+				}
+				return SegmentSummary.of(d, lo, hi);
+			}
+		}
+
+		/**
+		 * Opens the data set containing this shard.
+		 *
+		 * @param root The directory containing every file that may be read,
+		 *             as a real path.
+		 * @return     The data set.
+		 * @throws IOException If the file cannot be read or is not within
+		 *                     root.
+		 */
+		private Dataset open(Path root) throws IOException {
+			if (kind == GENERATED) return new GeneratedDataset(size, max, seed);
+			// Resolve links and relative steps before checking, so that neither
+			// can lead outside root
+			Path p = root.resolve(path).toRealPath();
+			if (!p.startsWith(root)) {
+				throw new IOException(path + " is not within the worker's root directory.");
+			}
+			if (DatasetFile.isDatasetFile(p)) return new DatasetFile(p).map();
+			else return new MappedIntFile(p);
+		}
+	}
+
+	/**
+	 * The sending of a request to a worker and the receipt of its response.
+	 */
+	private static class Request implements Callable<SegmentSummary> {
+
+		/**
+		 * The address of the worker.
+		 */
+		private final InetSocketAddress worker;
+
+		/**
+		 * The shard to be summarized.
+		 */
+		private final Shard shard;
+
+		/**
+		 * Constructs a request.
+		 *
+		 * @param worker The address of the worker.
+		 * @param shard  The shard to be summarized.
+		 */
+		Request(InetSocketAddress worker, Shard shard) {
+			this.worker = worker;
+			this.shard = shard;
+		}
+
+		public SegmentSummary call() throws IOException {
+			try (Socket s = new Socket(worker.getHostString(), worker.getPort())) {
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+				shard.write(out);
+				out.flush();
+				DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+				if (in.readByte() == OK) {
+					return new SegmentSummary(in.readLong(), in.readLong(), in.readLong(), in.readLong());
+				}
+				else {
+					throw new IOException("Worker " + worker.getHostString() + ":" + worker.getPort()
+							+ " failed: " + in.readUTF());
+				}
+			}
+		}
+	}
+
+	/**
+	 * The handling of a connection by a worker.
+	 */
+	private static class Connection implements Runnable {
+
+		/**
+		 * The server socket on which the connection was accepted.
+		 */
+		private final ServerSocket server;
+
+		/**
+		 * The connection.
+		 */
+		private final Socket socket;
+
+		/**
+		 * The directory containing every file that may be read, as a real
+		 * path.
+		 */
+		private final Path root;
+
+		/**
+		 * The token that each request must carry, or null if there is none.
+		 */
+		private final String token;
+
+		/**
+		 * Constructs a handler for the given connection.
+		 *
+		 * @param server The server socket on which it was accepted.
+		 * @param socket The connection.
+		 * @param root   The directory containing every file that may be read,
+		 *               as a real path.
+		 * @param token  The token that each request must carry, or null if
+		 *               there is none.
+		 */
+		Connection(ServerSocket server, Socket socket, Path root, String token) {
+			this.server = server;
+			this.socket = socket;
+			this.root = root;
+			this.token = token;
+		}
+
+		public void run() {
+			try (Socket s = socket) {
+				s.setSoTimeout(READ_TIMEOUT);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+				byte kind = in.readByte();
+				String given = in.readUTF();
+				if (token != null && !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), 
+						given.getBytes(StandardCharsets.UTF_8))) {
+					out.writeByte(ERROR);
+					out.writeUTF("The token is not valid.");
+				}
+				else if (kind == STOP) {
+					if (token == null && !s.getInetAddress().isLoopbackAddress()) {
+						out.writeByte(ERROR);
+						out.writeUTF("Without a token, only a process on the same machine may stop the worker.");
+					}
+					else {
+						out.writeByte(OK);
+						out.flush();
+						server.close();
+						return;
+					}
+				}
+				else {
+					respond(kind, in, out);
+				}
+				out.flush();
+			}
+			catch (IOException e) {
+				System.err.println("Connection failed: " + e.getMessage());
+			}
+		}
+
+		/**
+		 * Reads a FILE or GENERATED request whose kind and token have already
+		 * been read, and writes the response.
+		 *
+		 * @param kind The kind of request.
+		 * @param in   The stream from which the request is read.
+		 * @param out  The stream to which the response is written.
+		 * @throws IOException If an I/O error occurs on the connection.
+		 */
+		private void respond(byte kind, DataInputStream in, DataOutputStream out) 
+				throws IOException {
+			try {
+				SegmentSummary sum = Shard.read(kind, in).summarize(root);
+				out.writeByte(OK);
+				out.writeLong(sum.total);
+				out.writeLong(sum.prefix);
+				out.writeLong(sum.suffix);
+				out.writeLong(sum.best);
+			}
+			catch (IOException | RuntimeException e) {
+				out.writeByte(ERROR);
+				out.writeUTF(String.valueOf(e.getMessage()));
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * MaxSumFJ.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Class implementing a maximum subsequence sum algorithm that performs
+ * the computation in a divide-and-conquer fashion, running the two recursive
+ * calls in parallel on a ForkJoinPool.  Each call returns a
+ * {@link SegmentSummary} of its segment, so that the results of the two
+ * halves can be combined in O(1) time; because the summaries hold longs, no
+ * sum can overflow.  Segments no longer than a given grain size are
+ * summarized sequentially in a single pass.  The total work is in O(n), where
+ * n is the number of elements in the array, and the span is in O(g + lg n),
+ * where g is the grain size.  The location of a maximum
+ * subsequence is found in the same way, using {@link LocatedSummary}s, which
+ * also record where the maximum prefix, suffix, and subsequence lie.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumFJ implements MaxSumInterface {
+
+	/**
+	 * The default grain size.
+	 */
+	public static final int DEFAULT_GRAIN = 1 << 16;
+
+	/**
+	 * The largest segment that will be summarized sequentially.
+	 */
+	private final int grain;
+
+	/**
+	 * The pool on which the computation runs.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * Constructs an instance using the default grain size and the common pool.
+	 */
+	public MaxSumFJ() {
+		this(DEFAULT_GRAIN, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an instance using the given grain size and the common pool.
+	 * 
+	 * @param grain The largest segment to be summarized sequentially.  Must be
+	 *              positive.
+	 */
+	public MaxSumFJ(int grain) {
+		this(grain, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an instance using the given grain size and pool.
+	 * 
+	 * @param grain The largest segment to be summarized sequentially.  Must be
+	 *              positive.
+	 * @param pool  The pool on which the computation runs.
+	 */
+	public MaxSumFJ(int grain, ForkJoinPool pool) {
+		if (grain <= 0) {
+			throw new IllegalArgumentException("The grain size must be positive.");
+		}
+		this.grain = grain;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If the result does not fit in an int.
+	 */
+	public int maxSum(int[] a) {
+		return Math.toIntExact(maxSumLong(a));
+	}
+
+	public long maxSumLong(int[] a) {
+		return summarize(a).best;
+	}
+
+	/**
+	 * Computes the summary of the given array.
+	 * 
+	 * @param a The array to be summarized.
+	 * @return  The summary of a.
+	 */
+	public SegmentSummary summarize(int[] a) {
+		if (a.length <= grain) return SegmentSummary.of(a, 0, a.length);
+		else return pool.invoke(new SummaryTask(a, 0, a.length, grain));
+	}
+
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		long[] s;
+		if (a.length <= grain) {
+			s = new long[LocatedSummary.SIZE];
+			LocatedSummary.summarize(a, 0, a.length, s, 0);
+		}
+		else {
+			s = pool.invoke(new LocatedTask(a, 0, a.length, grain));
+		}
+		return LocatedSummary.result(s, 0, r);
+	}
+
+	/**
+	 * A task computing the summary of a segment of an array.
+	 */
+	private static class SummaryTask extends RecursiveTask<SegmentSummary> {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The array containing the segment.
+		 */
+		private final int[] a;
+
+		/**
+		 * The index of the first element in the segment.
+		 */
+		private final int lo;
+
+		/**
+		 * One more than the index of the last element in the segment.
+		 */
+		private final int hi;
+
+		/**
+		 * The largest segment to be summarized sequentially.
+		 */
+		private final int grain;
+
+		/**
+		 * Constructs a task to summarize a[lo..hi-1].
+		 * 
+		 * @param a     The array containing the segment.
+		 * @param lo    The index of the first element in the segment.
+		 * @param hi    One more than the index of the last element.
+		 * @param grain The largest segment to be summarized sequentially.
+		 */
+		SummaryTask(int[] a, int lo, int hi, int grain) {
+			this.a = a;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+		}
+
+		protected SegmentSummary compute() {
+			if (hi - lo <= grain) return SegmentSummary.of(a, lo, hi);
+			else {
+				int mid = (lo + hi) >>> 1;
+				SummaryTask left = new SummaryTask(a, lo, mid, grain);
+				left.fork();
+				SegmentSummary right = new SummaryTask(a, mid, hi, grain).compute();
+				return left.join().combine(right);
+			}
+		}
+	}
+
+	/**
+	 * A task computing the {@link LocatedSummary} of a segment of an array.
+	 */
+	private static class LocatedTask extends RecursiveTask<long[]> {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The array containing the segment.
+		 */
+		private final int[] a;
+
+		/**
+		 * The index of the first element in the segment.
+		 */
+		private final int lo;
+
+		/**
+		 * One more than the index of the last element in the segment.
+		 */
+		private final int hi;
+
+		/**
+		 * The largest segment to be summarized sequentially.
+		 */
+		private final int grain;
+
+		/**
+		 * Constructs a task to summarize a[lo..hi-1].
+		 * 
+		 * @param a     The array containing the segment.
+		 * @param lo    The index of the first element in the segment.
+		 * @param hi    One more than the index of the last element.
+		 * @param grain The largest segment to be summarized sequentially.
+		 */
+		LocatedTask(int[] a, int lo, int hi, int grain) {
+			this.a = a;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+		}
+
+		protected long[] compute() {
+			if (hi - lo <= grain) {
+				long[] s = new long[LocatedSummary.SIZE];
+				LocatedSummary.summarize(a, lo, hi, s, 0);
+				return s;
+			}
+			else {
+				int mid = (lo + hi) >>> 1;
+				LocatedTask left = new LocatedTask(a, lo, mid, grain);
+				left.fork();
+				long[] right = new LocatedTask(a, mid, hi, grain).compute();
+				long[] s = left.join();
+				LocatedSummary.combine(s, 0, right, 0, s, 0);
+				return s;
+			}
+		}
+	}
+}
@@ -25,4 +25,53 @@ public interface MaxSumInterface {
 	 */
 	public int maxSum(int[] a);
 	
+	/**
+	 * Returns the maximum subsequence sum of the given array as a long.
+	 * By default, this is the result of {@link #maxSum(int[])}, and hence may
+	 * be incorrect if the computation overflows.  Implementations whose
+	 * computations cannot overflow override this method.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 */
+	public default long maxSumLong(int[] a) {
+		return maxSum(a);
+	}
+	
+	/**
+	 * Returns the maximum subsequence sum of the given array as a long,
+	 * recording the progress of the computation and stopping if cancellation
+	 * is requested.  By default, the result of {@link #maxSumLong(int[])} is
+	 * returned, and neither progress nor cancellation is supported;
+	 * implementations that can run for a long time override this method.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param p The record of the progress of the computation.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  java.util.concurrent.CancellationException If the computation
+	 *          is cancelled.
+	 */
+	public default long maxSumLong(int[] a, Progress p) {
+		return maxSumLong(a);
+	}
+	
+	/**
+	 * Computes the maximum subsequence sum of the given array, together with
+	 * the location of a subsequence having that sum, and stores them in the
+	 * given holder.  By default, the computation is done by
+	 * {@link MaxSumLongBU#maxSum(int[], MaxSumResult)}, whose 64-bit sums
+	 * cannot overflow; implementations override this method to find the
+	 * location as part of their own computation.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param r The holder in which the result is stored.
+	 * @return  r.
+	 */
+	public default MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		return MaxSumLongBU.maxSumRange(a, r);
+	}
+	
 }
@@ -29,4 +29,45 @@ public class MaxSumIter implements MaxSumInterface {
 		}
 		return m;
 	}
+	
+	public long maxSumLong(int[] a, Progress p) {
+		// The work for each value of i is the number of iterations of the two
+		// inner loops, (n-i+1)(n-i+2)/2.
+		double n = a.length;
+		p.start((n + 1) * (n + 2) * (n + 3) / 6);
+		int m = 0;
+		for (int i = 0; i <= a.length; i++) {
+			for (int j = i; j <= a.length; j++) {
+				p.checkCancelled();
+				int sum = 0;
+				for (int k = i; k < j; k++) {
+					sum += a[k];
+				}
+				m = Math.max(m, sum);
+			}
+			double rest = a.length - i;
+			p.advance((rest + 1) * (rest + 2) / 2);
+		}
+		return m;
+	}
+	
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		long m = 0;
+		int start = 0;
+		int end = 0;
+		for (int i = 0; i <= a.length; i++) {
+			for (int j = i; j <= a.length; j++) {
+				long sum = 0;
+				for (int k = i; k < j; k++) {
+					sum += a[k];
+				}
+				if (sum > m) {
+					m = sum;
+					start = i;
+					end = j;
+				}
+			}
+		}
+		return r.set(m, start, end);
+	}
 }
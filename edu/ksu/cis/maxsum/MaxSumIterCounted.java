@@ -0,0 +1,45 @@
+/*
+ * MaxSumIterCounted.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The algorithm of {@link MaxSumIter}, instrumented to count the reads,
+ * additions, and comparisons it performs.  Each of the (n+1)(n+2)/2 pairs of
+ * bounds costs one comparison, and each element of each subsequence costs a
+ * read and an addition, so that about n<sup>3</sup>/6 of each are performed.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumIterCounted extends MaxSumIter implements MaxSumCountedInterface {
+
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p) {
+		double n = a.length;
+		p.start((n + 1) * (n + 2) * (n + 3) / 6);
+		long reads = 0;
+		long additions = 0;
+		long comparisons = 0;
+		int m = 0;
+		for (int i = 0; i <= a.length; i++) {
+			for (int j = i; j <= a.length; j++) {
+				p.checkCancelled();
+				int sum = 0;
+				for (int k = i; k < j; k++) {
+					sum += a[k];
+					reads++;
+					additions++;
+				}
+				m = Math.max(m, sum);
+				comparisons++;
+			}
+			double rest = a.length - i;
+			p.advance((rest + 1) * (rest + 2) / 2);
+		}
+		c.add(reads, additions, comparisons);
+		return m;
+	}
+}
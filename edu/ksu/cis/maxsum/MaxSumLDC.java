@@ -0,0 +1,160 @@
+/*
+ * MaxSumLDC.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Class implementing a maximum subsequence sum algorithm that performs
+ * the computation in a divide-and-conquer fashion, but in linear time.
+ * Rather than computing only the maximum subsequence sum of each half, each
+ * recursive call computes the total, maximum prefix sum, maximum suffix sum,
+ * and maximum subsequence sum of its segment, so that the two halves can be
+ * combined in O(1) time without rescanning them.  Segments no longer than a
+ * leaf size are summarized in a single sequential pass.  The running time is
+ * in O(n), where n is the number of elements in the array, and each element
+ * is read exactly once.  The stack usage is in O(lg n).  The location of a
+ * maximum subsequence is found in the same way, using
+ * {@link LocatedSummary}s, which also record where the maximum prefix,
+ * suffix, and subsequence lie.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumLDC implements MaxSumInterface {
+
+	/**
+	 * The default leaf size, chosen so that a leaf fits easily in the L1 cache.
+	 */
+	public static final int DEFAULT_LEAF = 2048;
+
+	/**
+	 * The offsets of the components of a summary within the scratch array.
+	 */
+	private static final int TOTAL = 0, PREFIX = 1, SUFFIX = 2, BEST = 3;
+
+	/**
+	 * The number of scratch array locations used by each level of recursion.
+	 */
+	private static final int FRAME = 4;
+
+	/**
+	 * The largest segment to be summarized sequentially.
+	 */
+	private final int leaf;
+
+	/**
+	 * Constructs an instance using the default leaf size.
+	 */
+	public MaxSumLDC() {
+		this(DEFAULT_LEAF);
+	}
+
+	/**
+	 * Constructs an instance using the given leaf size.
+	 * 
+	 * @param leaf The largest segment to be summarized sequentially.  Must be
+	 *             positive.
+	 */
+	public MaxSumLDC(int leaf) {
+		if (leaf <= 0) {
+			throw new IllegalArgumentException("The leaf size must be positive.");
+		}
+		this.leaf = leaf;
+	}
+
+	public int maxSum(int[] a) {
+		if (a.length == 0) return 0;
+		int[] s = new int[levels(a.length) * FRAME];
+		summarize(a, 0, a.length, s, 0);
+		return s[BEST];
+	}
+
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		if (a.length == 0) return r.set(0, 0, 0);
+		long[] s = new long[levels(a.length) * LocatedSummary.SIZE];
+		summarize(a, 0, a.length, s, 0);
+		return LocatedSummary.result(s, 0, r);
+	}
+
+	/**
+	 * Returns the number of levels of recursion used for an array of the
+	 * given length.
+	 * 
+	 * @param n The length of the array, which must be positive.
+	 * @return  The number of levels of recursion.
+	 */
+	private int levels(int n) {
+		int levels = 1;
+		for (; n > leaf; n = n - (n >>> 1)) {
+			levels++;
+		}
+		return levels;
+	}
+
+	/**
+	 * Computes the summary of a[lo..hi-1] and stores it in s[d..d+3].  The
+	 * locations of s beyond d+3 are used as scratch space by the recursive
+	 * calls.  It must be the case that lo < hi.
+	 * 
+	 * @param a  The array over which the summary is to be computed.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi One more than the index of the last element in the segment.
+	 * @param s  The array in which the summary is stored.
+	 * @param d  The location in s at which the summary is stored.
+	 */
+	private void summarize(int[] a, int lo, int hi, int[] s, int d) {
+		if (hi - lo <= leaf) {
+			s[d + TOTAL] = 0;
+			s[d + PREFIX] = 0;
+			s[d + SUFFIX] = 0;
+			s[d + BEST] = 0;
+			MaxSumBU.summarize(a, lo, hi, s, d);
+		}
+		else {
+			int mid = (lo + hi) >>> 1;
+			int c = d + FRAME;
+			summarize(a, lo, mid, s, c);
+			int total1 = s[c + TOTAL];
+			int prefix1 = s[c + PREFIX];
+			int suffix1 = s[c + SUFFIX];
+			int best1 = s[c + BEST];
+			summarize(a, mid, hi, s, c);
+			int total2 = s[c + TOTAL];
+			s[d + TOTAL] = total1 + total2;
+			s[d + PREFIX] = Math.max(prefix1, total1 + s[c + PREFIX]);
+			s[d + SUFFIX] = Math.max(s[c + SUFFIX], total2 + suffix1);
+			s[d + BEST] = Math.max(Math.max(best1, s[c + BEST]),
+					suffix1 + s[c + PREFIX]);
+		}
+	}
+
+	/**
+	 * Computes the {@link LocatedSummary} of a[lo..hi-1] and stores it in
+	 * s[d..d+LocatedSummary.SIZE-1].  The locations of s beyond these are
+	 * used as scratch space by the recursive calls.  It must be the case that
+	 * lo < hi.
+	 * 
+	 * @param a  The array over which the summary is to be computed.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi One more than the index of the last element in the segment.
+	 * @param s  The array in which the summary is stored.
+	 * @param d  The location in s at which the summary is stored.
+	 */
+	private void summarize(int[] a, int lo, int hi, long[] s, int d) {
+		if (hi - lo <= leaf) {
+			LocatedSummary.summarize(a, lo, hi, s, d);
+		}
+		else {
+			int mid = (lo + hi) >>> 1;
+			int c = d + LocatedSummary.SIZE;
+			// The first half is summarized in place, so that only the second
+			// half needs a frame of its own
+			summarize(a, lo, mid, s, d);
+			summarize(a, mid, hi, s, c);
+			LocatedSummary.combine(s, d, s, c, s, d);
+		}
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ * MaxSumLongBU.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.math.BigInteger;
+import java.nio.IntBuffer;
+
+/**
+ * Class implementing the bottom-up maximum subsequence sum algorithm of
+ * {@link MaxSumBU} using long accumulators.  Because an int array has fewer
+ * than 2^31 elements, each of magnitude at most 2^31, no sum computed over an
+ * int array can overflow a long.  Versions for long arrays are also provided;
+ * these detect overflow rather than silently producing an incorrect result.
+ * The running time is in O(n), where n is the number of elements in the array.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumLongBU implements MaxSumInterface {
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If the result does not fit in an int.
+	 */
+	public int maxSum(int[] a) {
+		return Math.toIntExact(maxSumLong(a));
+	}
+
+	public long maxSumLong(int[] a) {
+		return maxSum(a, 0, a.length);
+	}
+
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		return maxSumRange(a, r);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of the given array, together with
+	 * the location of a subsequence having that sum, and stores them in the
+	 * given holder.  Of the subsequences having the maximum sum, the one
+	 * ending first, then starting last, is found.  This is the computation
+	 * used by algorithms that do not find the location themselves.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param r The holder in which the result is stored.
+	 * @return  r.
+	 */
+	static MaxSumResult maxSumRange(int[] a, MaxSumResult r) {
+		long m = 0;
+		long msuf = 0;
+		int s = 0;
+		int start = 0;
+		int end = 0;
+		// Invariant: m is the maximum subsequence sum for a[0..i-1], and is
+		//            the sum of a[start..end-1]; msuf is the maximum suffix
+		//            sum for a[0..i-1], and is the sum of a[s..i-1]
+		for (int i = 0; i < a.length; i++) {
+			msuf += a[i];
+			if (msuf <= 0) {
+				msuf = 0;
+				s = i + 1;
+			}
+			else if (msuf > m) {
+				m = msuf;
+				start = s;
+				end = i + 1;
+			}
+		}
+		return r.set(m, start, end);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of the given array of longs,
+	 * together with the location of a subsequence having that sum, as
+	 * {@link #maxSumRange(int[], MaxSumResult)} does.  The caller must ensure
+	 * that no sum of elements overflows; this is used by {@link MaxSum2D},
+	 * whose elements are sums of columns.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @param r The holder in which the result is stored.
+	 * @return  r.
+	 */
+	static MaxSumResult maxSumRange(long[] a, MaxSumResult r) {
+		long m = 0;
+		long msuf = 0;
+		int s = 0;
+		int start = 0;
+		int end = 0;
+		// Invariant: as in maxSumRange(int[], MaxSumResult)
+		for (int i = 0; i < a.length; i++) {
+			msuf += a[i];
+			if (msuf <= 0) {
+				msuf = 0;
+				s = i + 1;
+			}
+			else if (msuf > m) {
+				m = msuf;
+				start = s;
+				end = i + 1;
+			}
+		}
+		return r.set(m, start, end);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi-1].  This is the loop
+	 * used by every algorithm that computes the maximum subsequence sum of a
+	 * range of an int array in a single pass with 64-bit accumulators.
+	 * 
+	 * @param a  The array containing the elements.
+	 * @param lo The index of the first element considered.
+	 * @param hi One more than the index of the last element considered.
+	 * @return   The maximum subsequence sum of a[lo..hi-1].
+	 */
+	static long maxSum(int[] a, int lo, int hi) {
+		long m = 0;
+		long msuf = 0;
+		// Invariant: m is the maximum subsequence sum for a[lo..i-1],
+		//            msuf is the maximum suffix sum for a[lo..i-1]
+		for (int i = lo; i < hi; i++) {
+			msuf = Math.max(0, msuf + a[i]);
+			m = Math.max(m, msuf);
+		}
+		return m;
+	}
+
+	/**
+	 * Extends a summary by the elements a[lo..hi-1], as
+	 * {@link MaxSumBU#summarize(int[], int, int, int[], int)} does, using
+	 * 64-bit accumulators.
+	 * 
+	 * @param a  The array containing the elements.
+	 * @param lo The index of the first element to append.
+	 * @param hi One more than the index of the last element to append.
+	 * @param s  The array containing the summary.
+	 * @param d  The location in s of the summary.
+	 */
+	static void summarize(int[] a, int lo, int hi, long[] s, int d) {
+		long sum = s[d];
+		long mpre = s[d + 1];
+		long msuf = s[d + 2];
+		long m = s[d + 3];
+		// Invariant: sum, mpre, msuf, and m are the total, maximum prefix
+		//            sum, maximum suffix sum, and maximum subsequence sum of
+		//            the original sequence followed by a[lo..i-1]
+		for (int i = lo; i < hi; i++) {
+			int x = a[i];
+			sum += x;
+			mpre = Math.max(mpre, sum);
+			msuf = Math.max(0, msuf + x);
+			m = Math.max(m, msuf);
+		}
+		s[d] = sum;
+		s[d + 1] = mpre;
+		s[d + 2] = msuf;
+		s[d + 3] = m;
+	}
+
+	/**
+	 * Extends a summary by the elements of the given buffer, from index 0 up
+	 * to its limit, as {@link #summarize(int[], int, int, long[], int)} does.
+	 * 
+	 * @param b The buffer containing the elements to append.
+	 * @param s The array containing the summary.
+	 * @param d The location in s of the summary.
+	 */
+	static void summarize(IntBuffer b, long[] s, int d) {
+		long sum = s[d];
+		long mpre = s[d + 1];
+		long msuf = s[d + 2];
+		long m = s[d + 3];
+		int n = b.limit();
+		// Invariant: sum, mpre, msuf, and m are the total, maximum prefix
+		//            sum, maximum suffix sum, and maximum subsequence sum of
+		//            the original sequence followed by b[0..i-1]
+		for (int i = 0; i < n; i++) {
+			int x = b.get(i);
+			sum += x;
+			mpre = Math.max(mpre, sum);
+			msuf = Math.max(0, msuf + x);
+			m = Math.max(m, msuf);
+		}
+		s[d] = sum;
+		s[d + 1] = mpre;
+		s[d + 2] = msuf;
+		s[d + 3] = m;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If the result does not fit in a long, in
+	 *                              which case {@link #maxSumBig(long[])} can be
+	 *                              used.
+	 */
+	public long maxSum(long[] a) {
+		long m = 0;
+		long msuf = 0;
+		long overflow = 0;
+		// Invariant: m is the maximum subsequence sum for a[0..i-1],
+		//            msuf is the maximum suffix sum for a[0..i-1], and
+		//            overflow is negative iff computing one of these overflowed
+		for (int i = 0; i < a.length; i++) {
+			long x = a[i];
+			long s = msuf + x;
+			// Because msuf >= 0, the sum can only overflow when x >= 0, and it
+			// overflows iff the result is negative.
+			overflow |= s & ~x;
+			msuf = Math.max(0, s);
+			m = Math.max(m, msuf);
+		}
+		if (overflow < 0) {
+			throw new ArithmeticException("long overflow");
+		}
+		return m;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the given array, computed
+	 * exactly.  This is much slower than {@link #maxSum(long[])}, and should
+	 * be used only when that method overflows.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 */
+	public BigInteger maxSumBig(long[] a) {
+		BigInteger m = BigInteger.ZERO;
+		BigInteger msuf = BigInteger.ZERO;
+		// Invariant: m is the maximum subsequence sum for a[0..i-1],
+		//            msuf is the maximum suffix sum for a[0..i-1]
+		for (int i = 0; i < a.length; i++) {
+			msuf = msuf.add(BigInteger.valueOf(a[i])).max(BigInteger.ZERO);
+			m = m.max(msuf);
+		}
+		return m;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * MaxSumLongDC.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Class implementing the divide-and-conquer maximum subsequence sum algorithm
+ * of {@link MaxSumDC} using long accumulators.  No sum computed over an int
+ * array can overflow a long.  A version for long arrays is also provided; it
+ * detects overflow rather than silently producing an incorrect result.  The
+ * running time is in O(n lg n), where n is the number of elements in the
+ * array.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumLongDC implements MaxSumInterface {
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If the result does not fit in an int.
+	 */
+	public int maxSum(int[] a) {
+		return Math.toIntExact(maxSumLong(a));
+	}
+
+	public long maxSumLong(int[] a) {
+		if (a.length == 0) return 0;
+		else return maxSum(a, 0, a.length-1);
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the given array.
+	 * 
+	 * @param a The array over which the maximum subsequence sum is to be
+	 *          computed.
+	 * @return  The maximum subsequence sum of a.
+	 * @throws  ArithmeticException If a sum overflows a long.
+	 */
+	public long maxSum(long[] a) {
+		if (a.length == 0) return 0;
+		else return maxSum(a, 0, a.length-1);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi]. It must be the case
+	 * that lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 */
+	private long maxSum(int[] a, int lo, int hi) {
+		if (lo == hi) return Math.max(0, a[lo]);
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			long sum1 = maxSum(a, lo, mid);
+			long sum2 = maxSum(a, mid1, hi);
+			long sum3 = maxSuffix(a, lo, mid) + maxPrefix(a, mid1, hi);
+			return Math.max(Math.max(sum1, sum2), sum3);
+		}
+	}
+
+	/**
+	 * Computes the maximum suffix sum of a[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum suffix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @return   The maximum suffix sum of a[lo..hi].
+	 */
+	private long maxSuffix(int[] a, int lo, int hi) {
+		long m = 0;
+		// Invariant: m is the maximum suffix sum for a[lo..i-1]
+		for (int i = lo; i <= hi; i++) {
+			m = Math.max(0, m + a[i]);
+		}
+		return m;
+	}
+
+	/**
+	 * Computes the maximum prefix sum of a[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum prefix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @return   The maximum prefix sum of a[lo..hi].
+	 */
+	private long maxPrefix(int[] a, int lo, int hi) {
+		long m = 0;
+		// Invariant: m is the maximum prefix sum for a[i+1..hi]
+		for (int i = hi; i >= lo; i--) {
+			m = Math.max(0, m + a[i]);
+		}
+		return m;
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[lo..hi]. It must be the case
+	 * that lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum subsequence sum is to be found.
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 * @throws   ArithmeticException If a sum overflows a long.
+	 */
+	private long maxSum(long[] a, int lo, int hi) {
+		if (lo == hi) return Math.max(0, a[lo]);
+		else {
+			int mid = (lo + hi)/2;
+			int mid1 = mid + 1;
+			long sum1 = maxSum(a, lo, mid);
+			long sum2 = maxSum(a, mid1, hi);
+			long sum3 = Math.addExact(maxSuffix(a, lo, mid), maxPrefix(a, mid1, hi));
+			return Math.max(Math.max(sum1, sum2), sum3);
+		}
+	}
+
+	/**
+	 * Computes the maximum suffix sum of a[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum suffix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @return   The maximum suffix sum of a[lo..hi].
+	 * @throws   ArithmeticException If a sum overflows a long.
+	 */
+	private long maxSuffix(long[] a, int lo, int hi) {
+		long m = 0;
+		// Invariant: m is the maximum suffix sum for a[lo..i-1]
+		for (int i = lo; i <= hi; i++) {
+			m = Math.max(0, Math.addExact(m, a[i]));
+		}
+		return m;
+	}
+
+	/**
+	 * Computes the maximum prefix sum of a[lo..hi]. It must be the case that
+	 * lo <= hi.
+	 * 
+	 * @param a  The array over which the maximum prefix sum is to be found.
+	 * @param lo The index of the first element of the segment considered.
+	 * @param hi The index of the last element of the segment considered.
+	 * @return   The maximum prefix sum of a[lo..hi].
+	 * @throws   ArithmeticException If a sum overflows a long.
+	 */
+	private long maxPrefix(long[] a, int lo, int hi) {
+		long m = 0;
+		// Invariant: m is the maximum prefix sum for a[i+1..hi]
+		for (int i = hi; i >= lo; i--) {
+			m = Math.max(0, Math.addExact(m, a[i]));
+		}
+		return m;
+	}
+}
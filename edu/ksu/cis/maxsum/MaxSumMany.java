@@ -0,0 +1,459 @@
+/*
+ * MaxSumMany.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the maximum subsequence sums of many arrays at once, using the
+ * bottom-up algorithm of {@link MaxSumBU} (or of {@link MaxSumLongBU} for
+ * 64-bit results) on each.  The arrays may be given either as an array of
+ * arrays or as a single buffer with an array of offsets, where array i is
+ * data[offsets[i]..offsets[i+1]-1].  The results are stored in an array
+ * supplied by the caller, so that nothing is allocated for each array.
+ * <p>
+ * The arrays are divided among tasks running on a ForkJoinPool, whose idle
+ * workers steal the tasks not yet started.  A range of arrays is divided at
+ * the point that splits its elements most evenly, and a range with no more
+ * elements than a given grain size, or with only one array, is processed by
+ * a single task, so that many small arrays share the scheduling overhead of
+ * one task.
+ * <p>
+ * The numbers of arrays and elements processed and the time taken are
+ * accumulated over all calls, so that the throughput can be reported in
+ * arrays and elements per second.
+ * <p>
+ * Usage as a program:
+ * <pre>
+ * java edu.ksu.cis.maxsum.MaxSumMany count length [max [seed]]
+ * </pre>
+ * generates count arrays of the given length, with elements between -max and
+ * max (default 10000), from the given seed (default 0), and reports the
+ * throughput.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumMany {
+
+	/**
+	 * The default grain size.
+	 */
+	public static final int DEFAULT_GRAIN = 1 << 16;
+
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * The number of times the arrays are processed by the program, so that
+	 * the later times are for compiled code.
+	 */
+	private static final int REPETITIONS = 5;
+
+	/**
+	 * The largest number of elements processed by a single task, unless it
+	 * processes a single array.
+	 */
+	private final int grain;
+
+	/**
+	 * The pool on which the computation runs.
+	 */
+	private final ForkJoinPool pool;
+
+	/**
+	 * The number of arrays processed.
+	 */
+	private long arrays = 0;
+
+	/**
+	 * The number of elements processed.
+	 */
+	private long elements = 0;
+
+	/**
+	 * The time taken in nanoseconds.
+	 */
+	private long nanos = 0;
+
+	/**
+	 * Constructs an instance using the default grain size and the common pool.
+	 */
+	public MaxSumMany() {
+		this(DEFAULT_GRAIN, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs an instance using the given grain size and pool.
+	 *
+	 * @param grain The largest number of elements to be processed by a single
+	 *              task, unless it processes a single array.  Must be
+	 *              positive.
+	 * @param pool  The pool on which the computation runs.
+	 */
+	public MaxSumMany(int grain, ForkJoinPool pool) {
+		if (grain <= 0) {
+			throw new IllegalArgumentException("The grain size must be positive.");
+		}
+		this.grain = grain;
+		this.pool = pool;
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of each of the given arrays, as
+	 * {@link MaxSumBU#maxSum(int[])} does.
+	 *
+	 * @param a       The arrays.
+	 * @param results The array in which the result for a[i] is stored at
+	 *                index i.  Must be at least as long as a.
+	 */
+	public void maxSums(int[][] a, int[] results) {
+		checkResults(a.length, results.length);
+		run(a, null, offsets(a), results, null);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of each of the given arrays using
+	 * 64-bit accumulators, as {@link MaxSumLongBU#maxSumLong(int[])} does.
+	 *
+	 * @param a       The arrays.
+	 * @param results The array in which the result for a[i] is stored at
+	 *                index i.  Must be at least as long as a.
+	 */
+	public void maxSums(int[][] a, long[] results) {
+		checkResults(a.length, results.length);
+		run(a, null, offsets(a), null, results);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of each of the arrays in the given
+	 * buffer, as {@link MaxSumBU#maxSum(int[])} does.
+	 *
+	 * @param data    The buffer containing the arrays.
+	 * @param offsets The offsets of the arrays, so that array i is
+	 *                data[offsets[i]..offsets[i+1]-1].  Must be
+	 *                nondecreasing and within data.
+	 * @param results The array in which the result for array i is stored at
+	 *                index i.  Must have at least offsets.length - 1
+	 *                elements.
+	 */
+	public void maxSums(int[] data, int[] offsets, int[] results) {
+		checkOffsets(data, offsets);
+		checkResults(offsets.length - 1, results.length);
+		run(null, data, offsets, results, null);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of each of the arrays in the given
+	 * buffer using 64-bit accumulators, as
+	 * {@link MaxSumLongBU#maxSumLong(int[])} does.
+	 *
+	 * @param data    The buffer containing the arrays.
+	 * @param offsets The offsets of the arrays, so that array i is
+	 *                data[offsets[i]..offsets[i+1]-1].  Must be
+	 *                nondecreasing and within data.
+	 * @param results The array in which the result for array i is stored at
+	 *                index i.  Must have at least offsets.length - 1
+	 *                elements.
+	 */
+	public void maxSums(int[] data, int[] offsets, long[] results) {
+		checkOffsets(data, offsets);
+		checkResults(offsets.length - 1, results.length);
+		run(null, data, offsets, null, results);
+	}
+
+	/**
+	 * Returns the number of arrays processed since construction or the last
+	 * reset.
+	 *
+	 * @return The number of arrays processed.
+	 */
+	public synchronized long getArrays() {
+		return arrays;
+	}
+
+	/**
+	 * Returns the number of elements processed since construction or the
+	 * last reset.
+	 *
+	 * @return The number of elements processed.
+	 */
+	public synchronized long getElements() {
+		return elements;
+	}
+
+	/**
+	 * Returns the time taken since construction or the last reset.
+	 *
+	 * @return The time taken in nanoseconds.
+	 */
+	public synchronized long getNanos() {
+		return nanos;
+	}
+
+	/**
+	 * Returns the number of arrays processed per second since construction or
+	 * the last reset.
+	 *
+	 * @return The throughput in arrays per second, or 0 if no time has been
+	 *         taken.
+	 */
+	public synchronized double getArraysPerSecond() {
+		return nanos == 0 ? 0 : arrays * NANOS_PER_SECOND / nanos;
+	}
+
+	/**
+	 * Returns the number of elements processed per second since construction
+	 * or the last reset.
+	 *
+	 * @return The throughput in elements per second, or 0 if no time has been
+	 *         taken.
+	 */
+	public synchronized double getElementsPerSecond() {
+		return nanos == 0 ? 0 : elements * NANOS_PER_SECOND / nanos;
+	}
+
+	/**
+	 * Resets the numbers of arrays and elements processed and the time taken
+	 * to 0.
+	 */
+	public synchronized void reset() {
+		arrays = 0;
+		elements = 0;
+		nanos = 0;
+	}
+
+	public synchronized String toString() {
+		return String.format("%d arrays, %d elements in %.3f s: %.0f arrays/s, %.0f elements/s",
+				arrays, elements, nanos / NANOS_PER_SECOND, getArraysPerSecond(),
+				getElementsPerSecond());
+	}
+
+	/**
+	 * Runs the program.
+	 *
+	 * @param args The command-line arguments, as described above.
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2 || args.length > 4) {
+			System.err.println("Usage: java edu.ksu.cis.maxsum.MaxSumMany count length [max [seed]]");
+			System.exit(1);
+		}
+		int count = Integer.parseInt(args[0]);
+		int length = Integer.parseInt(args[1]);
+		int max = args.length > 2 ? Integer.parseInt(args[2]) : 10000;
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+		int[] data = DataGenerator.generate(Math.multiplyExact(count, length), max, seed);
+		int[] offsets = new int[count + 1];
+		for (int i = 0; i <= count; i++) {
+			offsets[i] = i * length;
+		}
+		int[] results = new int[count];
+		MaxSumMany many = new MaxSumMany();
+		for (int i = 0; i < REPETITIONS; i++) {
+			many.reset();
+			many.maxSums(data, offsets, results);
+			System.out.println(many);
+		}
+	}
+
+	/**
+	 * Processes the given arrays and records the throughput.  Exactly one of
+	 * a and data is non-null, and exactly one of intResults and longResults
+	 * is non-null.
+	 *
+	 * @param a           The arrays, or null.
+	 * @param data        The buffer containing the arrays, or null.
+	 * @param offsets     The offsets of the arrays within data, or the
+	 *                    cumulative lengths of the arrays in a.
+	 * @param intResults  The array for 32-bit results, or null.
+	 * @param longResults The array for 64-bit results, or null.
+	 */
+	private void run(int[][] a, int[] data, int[] offsets, int[] intResults,
+			long[] longResults) {
+		int n = offsets.length - 1;
+		long start = System.nanoTime();
+		Task t = new Task(a, data, offsets, intResults, longResults, 0, n, grain);
+		if (offsets[n] - offsets[0] <= grain) t.compute();
+		else pool.invoke(t);
+		long time = System.nanoTime() - start;
+		synchronized (this) {
+			arrays += n;
+			elements += offsets[n] - offsets[0];
+			nanos += time;
+		}
+	}
+
+	/**
+	 * Returns the cumulative lengths of the given arrays.
+	 *
+	 * @param a The arrays.
+	 * @return  An array whose element i is the total length of
+	 *          a[0..i-1].
+	 * @throws  IllegalArgumentException If the total length is too large for
+	 *                                   an int.
+	 */
+	private static int[] offsets(int[][] a) {
+		int[] offsets = new int[a.length + 1];
+		long total = 0;
+		for (int i = 0; i < a.length; i++) {
+			total += a[i].length;
+			if (total > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("The arrays have too many elements.");
+			}
+			offsets[i + 1] = (int) total;
+		}
+		return offsets;
+	}
+
+	/**
+	 * Ensures that the given offsets are valid for the given buffer.
+	 *
+	 * @param data    The buffer.
+	 * @param offsets The offsets.
+	 * @throws IllegalArgumentException If the offsets are not valid.
+	 */
+	private static void checkOffsets(int[] data, int[] offsets) {
+		if (offsets.length == 0) {
+			throw new IllegalArgumentException("There must be at least one offset.");
+		}
+		int prev = 0;
+		for (int i = 0; i < offsets.length; i++) {
+			if (offsets[i] < prev || offsets[i] > data.length) {
+				throw new IllegalArgumentException("Invalid offset: offsets[" + i + "] = "
+						+ offsets[i]);
+			}
+			prev = offsets[i];
+		}
+	}
+
+	/**
+	 * Ensures that the result array is long enough.
+	 *
+	 * @param count  The number of arrays.
+	 * @param length The length of the result array.
+	 * @throws IllegalArgumentException If the result array is too short.
+	 */
+	private static void checkResults(int count, int length) {
+		if (length < count) {
+			throw new IllegalArgumentException("There are " + count
+					+ " arrays, but room for only " + length + " results.");
+		}
+	}
+
+	/**
+	 * A task computing the maximum subsequence sums of a range of arrays.
+	 */
+	private static class Task extends RecursiveAction {
+
+		/**
+		 * The version of the serialized form.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The arrays, or null if they are in data.
+		 */
+		private final int[][] a;
+
+		/**
+		 * The buffer containing the arrays, or null if they are in a.
+		 */
+		private final int[] data;
+
+		/**
+		 * The offsets of the arrays within data, or the cumulative lengths of
+		 * the arrays in a.
+		 */
+		private final int[] offsets;
+
+		/**
+		 * The array for 32-bit results, or null.
+		 */
+		private final int[] intResults;
+
+		/**
+		 * The array for 64-bit results, or null.
+		 */
+		private final long[] longResults;
+
+		/**
+		 * The index of the first array in the range.
+		 */
+		private final int lo;
+
+		/**
+		 * One more than the index of the last array in the range.
+		 */
+		private final int hi;
+
+		/**
+		 * The largest number of elements to be processed sequentially.
+		 */
+		private final int grain;
+
+		/**
+		 * Constructs a task to process arrays lo..hi-1.
+		 *
+		 * @param a           The arrays, or null.
+		 * @param data        The buffer containing the arrays, or null.
+		 * @param offsets     The offsets of the arrays within data, or the
+		 *                    cumulative lengths of the arrays in a.
+		 * @param intResults  The array for 32-bit results, or null.
+		 * @param longResults The array for 64-bit results, or null.
+		 * @param lo          The index of the first array in the range.
+		 * @param hi          One more than the index of the last array.
+		 * @param grain       The largest number of elements to be processed
+		 *                    sequentially.
+		 */
+		Task(int[][] a, int[] data, int[] offsets, int[] intResults, long[] longResults,
+				int lo, int hi, int grain) {
+			this.a = a;
+			this.data = data;
+			this.offsets = offsets;
+			this.intResults = intResults;
+			this.longResults = longResults;
+			this.lo = lo;
+			this.hi = hi;
+			this.grain = grain;
+		}
+
+		protected void compute() {
+			if (hi - lo <= 1 || offsets[hi] - offsets[lo] <= grain) {
+				for (int i = lo; i < hi; i++) {
+					int[] b = a == null ? data : a[i];
+					int first = a == null ? offsets[i] : 0;
+					int last = first + offsets[i + 1] - offsets[i];
+					if (intResults != null) {
+						intResults[i] = MaxSumBU.maxSum(b, first, last);
+					}
+					else {
+						longResults[i] = MaxSumLongBU.maxSum(b, first, last);
+					}
+				}
+			}
+			else {
+				// Split where the elements are divided most evenly, leaving at
+				// least one array on each side
+				int half = (int) (((long) offsets[lo] + offsets[hi]) >>> 1);
+				int mid = Arrays.binarySearch(offsets, lo + 1, hi, half);
+				if (mid < 0) {
+					mid = -mid - 1;
+					if (mid == hi) {
+						mid = hi - 1;
+					}
+				}
+				invokeAll(new Task(a, data, offsets, intResults, longResults, lo, mid, grain),
+						new Task(a, data, offsets, intResults, longResults, mid, hi, grain));
+			}
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * MaxSumMapped.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A command-line program that computes the maximum subsequence sum of a
+ * file of little-endian 32-bit integers, without copying it onto the heap.
+ * The file is mapped as a {@link MappedIntFile}; if it is a
+ * {@link DatasetFile}, its header is skipped, but it must not be compressed.
+ * The sum is then computed by each of {@link MaxSumDatasetBU},
+ * {@link MaxSumDatasetDC}, and {@link MaxSumDatasetFJ}, reporting the result
+ * and time of each.
+ * <p>
+ * Usage:
+ * <pre>
+ * java edu.ksu.cis.maxsum.MaxSumMapped file
+ * </pre>
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumMapped {
+
+	/**
+	 * The algorithms to run.
+	 */
+	private static final MaxSumDatasetInterface[] ALGORITHMS = 
+		{new MaxSumDatasetBU(), new MaxSumDatasetDC(), new MaxSumDatasetFJ()};
+
+	/**
+	 * Computes the maximum subsequence sum of the file named on the command
+	 * line using each algorithm, and prints the results and times.
+	 * 
+	 * @param args The command-line arguments: the name of the file.
+	 * @throws IOException If the file cannot be mapped.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("Usage: java edu.ksu.cis.maxsum.MaxSumMapped file");
+			System.exit(1);
+		}
+		Path p = Paths.get(args[0]);
+		try (MappedIntFile f = DatasetFile.isDatasetFile(p) ? new DatasetFile(p).map() 
+				: new MappedIntFile(p)) {
+			for (MaxSumDatasetInterface alg : ALGORITHMS) {
+				long start = System.nanoTime();
+				long ms = alg.maxSum(f);
+				long time = System.nanoTime() - start;
+				System.out.println(alg.getClass().getSimpleName() + ": max sum = " + ms 
+						+ "; time = " + (time/1e9) + " seconds.");
+			}
+		}
+	}
+}
@@ -28,4 +28,39 @@ public class MaxSumOpt implements MaxSumInterface {
 		}
 		return m;
 	}
+	
+	public long maxSumLong(int[] a, Progress p) {
+		// The work for each value of i is the number of iterations of the
+		// inner loop, n-i.
+		double n = a.length;
+		p.start(n * (n + 1) / 2);
+		int m = 0;
+		for (int i = 0; i < a.length; i++) {
+			int sum = 0;
+			for (int k = i; k < a.length; k++) {
+				sum += a[k];
+				m = Math.max(m, sum);
+			}
+			p.advance(a.length - i);
+		}
+		return m;
+	}
+	
+	public MaxSumResult maxSum(int[] a, MaxSumResult r) {
+		long m = 0;
+		int start = 0;
+		int end = 0;
+		for (int i = 0; i < a.length; i++) {
+			long sum = 0;
+			for (int k = i; k < a.length; k++) {
+				sum += a[k];
+				if (sum > m) {
+					m = sum;
+					start = i;
+					end = k + 1;
+				}
+			}
+		}
+		return r.set(m, start, end);
+	}
 }
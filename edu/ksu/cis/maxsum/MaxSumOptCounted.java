@@ -0,0 +1,40 @@
+/*
+ * MaxSumOptCounted.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The algorithm of {@link MaxSumOpt}, instrumented to count the reads,
+ * additions, and comparisons it performs.  Each of the n(n+1)/2 nonempty
+ * subsequences costs one read, one addition, and one comparison.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumOptCounted extends MaxSumOpt implements MaxSumCountedInterface {
+
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p) {
+		double n = a.length;
+		p.start(n * (n + 1) / 2);
+		long reads = 0;
+		long additions = 0;
+		long comparisons = 0;
+		int m = 0;
+		for (int i = 0; i < a.length; i++) {
+			int sum = 0;
+			for (int k = i; k < a.length; k++) {
+				sum += a[k];
+				m = Math.max(m, sum);
+				reads++;
+				additions++;
+				comparisons++;
+			}
+			p.advance(a.length - i);
+		}
+		c.add(reads, additions, comparisons);
+		return m;
+	}
+}
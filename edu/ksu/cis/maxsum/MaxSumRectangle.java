@@ -0,0 +1,114 @@
+/*
+ * MaxSumRectangle.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * A reusable holder for the maximum sum of a rectangular submatrix together
+ * with the location of a submatrix having that sum.  The submatrix consists
+ * of rows top..bottom-1 and columns left..right-1; if the maximum sum is 0,
+ * it may be empty.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumRectangle {
+
+	/**
+	 * The maximum sum.
+	 */
+	private long sum;
+
+	/**
+	 * The index of the first row of the submatrix.
+	 */
+	private int top;
+
+	/**
+	 * One more than the index of the last row of the submatrix.
+	 */
+	private int bottom;
+
+	/**
+	 * The index of the first column of the submatrix.
+	 */
+	private int left;
+
+	/**
+	 * One more than the index of the last column of the submatrix.
+	 */
+	private int right;
+
+	/**
+	 * Sets the contents of this holder.
+	 *
+	 * @param sum    The maximum sum.
+	 * @param top    The index of the first row of the submatrix.
+	 * @param bottom One more than the index of the last row of the submatrix.
+	 * @param left   The index of the first column of the submatrix.
+	 * @param right  One more than the index of the last column of the
+	 *               submatrix.
+	 * @return       This holder.
+	 */
+	public MaxSumRectangle set(long sum, int top, int bottom, int left, int right) {
+		this.sum = sum;
+		this.top = top;
+		this.bottom = bottom;
+		this.left = left;
+		this.right = right;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum sum.
+	 *
+	 * @return The maximum sum.
+	 */
+	public long getSum() {
+		return sum;
+	}
+
+	/**
+	 * Returns the index of the first row of the submatrix.
+	 *
+	 * @return The index of the first row of the submatrix.
+	 */
+	public int getTop() {
+		return top;
+	}
+
+	/**
+	 * Returns one more than the index of the last row of the submatrix.
+	 *
+	 * @return One more than the index of the last row of the submatrix.
+	 */
+	public int getBottom() {
+		return bottom;
+	}
+
+	/**
+	 * Returns the index of the first column of the submatrix.
+	 *
+	 * @return The index of the first column of the submatrix.
+	 */
+	public int getLeft() {
+		return left;
+	}
+
+	/**
+	 * Returns one more than the index of the last column of the submatrix.
+	 *
+	 * @return One more than the index of the last column of the submatrix.
+	 */
+	public int getRight() {
+		return right;
+	}
+
+	public String toString() {
+		return sum + " (rows " + top + ".." + (bottom - 1) + ", columns " + left + ".."
+				+ (right - 1) + ")";
+	}
+}
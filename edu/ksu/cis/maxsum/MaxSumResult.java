@@ -0,0 +1,80 @@
+/*
+ * MaxSumResult.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * A reusable holder for a maximum subsequence sum together with the location
+ * of a subsequence having that sum.  The subsequence is a[start..end-1]; if
+ * the maximum subsequence sum is 0, it may be empty (i.e., start = end).
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumResult {
+
+	/**
+	 * The maximum subsequence sum.
+	 */
+	private long sum;
+
+	/**
+	 * The index of the first element of the subsequence.
+	 */
+	private int start;
+
+	/**
+	 * One more than the index of the last element of the subsequence.
+	 */
+	private int end;
+
+	/**
+	 * Sets the contents of this holder.
+	 * 
+	 * @param sum   The maximum subsequence sum.
+	 * @param start The index of the first element of the subsequence.
+	 * @param end   One more than the index of the last element of the
+	 *              subsequence.
+	 * @return      This holder.
+	 */
+	public MaxSumResult set(long sum, int start, int end) {
+		this.sum = sum;
+		this.start = start;
+		this.end = end;
+		return this;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum.
+	 * 
+	 * @return The maximum subsequence sum.
+	 */
+	public long getSum() {
+		return sum;
+	}
+
+	/**
+	 * Returns the index of the first element of the subsequence.
+	 * 
+	 * @return The index of the first element of the subsequence.
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Returns one more than the index of the last element of the subsequence.
+	 * 
+	 * @return One more than the index of the last element of the subsequence.
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+	public String toString() {
+		return sum + " (a[" + start + ".." + (end - 1) + "])";
+	}
+}
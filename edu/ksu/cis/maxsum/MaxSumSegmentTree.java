@@ -0,0 +1,215 @@
+/*
+ * MaxSumSegmentTree.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * An index over an array of ints supporting updates of individual elements
+ * and queries for the maximum subsequence sum of any segment.  Each node of a
+ * complete binary tree stores the total, maximum prefix sum, maximum suffix
+ * sum, and maximum subsequence sum of the segment below it, so that, as in
+ * {@link MaxSumDC}, the maximum subsequence sum of two adjacent segments is
+ * the largest of their maximum subsequence sums and the maximum suffix sum of
+ * the first plus the maximum prefix sum of the second.  The tree is stored in
+ * a single int array, with the children of node k at nodes 2k and 2k+1.
+ * Construction takes O(n) time, where n is the number of elements, and
+ * updates and queries take O(lg n) time.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumSegmentTree {
+
+	/**
+	 * The offsets of the components of a node within the tree array.
+	 */
+	private static final int TOTAL = 0, PREFIX = 1, SUFFIX = 2, BEST = 3;
+
+	/**
+	 * The number of tree array locations used by each node.
+	 */
+	private static final int NODE = 4;
+
+	/**
+	 * The largest number of elements supported.  The tree array holds
+	 * 2 * NODE locations per leaf, and the number of leaves may be as large
+	 * as 2n - 1, so this is the largest power of 2 for which the array can
+	 * be indexed by an int.
+	 */
+	public static final int MAX_SIZE = 1 << 27;
+
+	/**
+	 * The number of elements.
+	 */
+	private final int n;
+
+	/**
+	 * The number of leaves - the smallest power of 2 no smaller than n.  Leaf
+	 * i is node leaves + i.
+	 */
+	private final int leaves;
+
+	/**
+	 * The nodes of the tree.  Node k occupies tree[NODE*k..NODE*k+3]; node 0
+	 * is unused.  Leaves beyond the last element represent empty segments.
+	 */
+	private final int[] tree;
+
+	/**
+	 * Constructs an index over a copy of the given array.
+	 * 
+	 * @param a The initial values of the elements.
+	 * @throws  IllegalArgumentException If a has more than MAX_SIZE
+	 *          elements.
+	 */
+	public MaxSumSegmentTree(int[] a) {
+		n = a.length;
+		if (n > MAX_SIZE) {
+			throw new IllegalArgumentException("A segment tree can index at most " + MAX_SIZE
+					+ " elements, not " + n + ".");
+		}
+		int size = 1;
+		while (size < n) {
+			size <<= 1;
+		}
+		leaves = size;
+		tree = new int[2 * size * NODE];
+		for (int i = 0; i < n; i++) {
+			setLeaf(leaves + i, a[i]);
+		}
+		for (int k = leaves - 1; k > 0; k--) {
+			pull(k);
+		}
+	}
+
+	/**
+	 * Returns the number of elements.
+	 * 
+	 * @return The number of elements.
+	 */
+	public int size() {
+		return n;
+	}
+
+	/**
+	 * Returns the element at the given index.
+	 * 
+	 * @param i The index of the element.
+	 * @return  The element at index i.
+	 */
+	public int get(int i) {
+		checkIndex(i);
+		return tree[(leaves + i) * NODE + TOTAL];
+	}
+
+	/**
+	 * Sets the element at the given index to the given value.
+	 * 
+	 * @param i The index of the element.
+	 * @param v The new value.
+	 */
+	public void update(int i, int v) {
+		checkIndex(i);
+		int k = leaves + i;
+		setLeaf(k, v);
+		for (k >>= 1; k > 0; k >>= 1) {
+			pull(k);
+		}
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of all the elements.
+	 * 
+	 * @return The maximum subsequence sum of all the elements.
+	 */
+	public int maxSum() {
+		return n == 0 ? 0 : tree[NODE + BEST];
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of a[lo..hi], where a is the
+	 * current sequence of elements.  It must be the case that lo <= hi.
+	 * 
+	 * @param lo The index of the first element in the segment considered.
+	 * @param hi The index of the last element in the segment considered.
+	 * @return   The maximum subsequence sum of a[lo..hi].
+	 */
+	public int query(int lo, int hi) {
+		checkIndex(lo);
+		checkIndex(hi);
+		if (lo > hi) {
+			throw new IllegalArgumentException("lo > hi");
+		}
+		// Maximum suffix and subsequence sums of the nodes collected on the left
+		int lsuffix = 0, lbest = 0;
+		// Maximum prefix and subsequence sums of the nodes collected on the right
+		int rprefix = 0, rbest = 0;
+		int l = leaves + lo;
+		int r = leaves + hi + 1;
+		// Invariant: the segment is the left nodes, followed by nodes l..r-1,
+		//            followed by the right nodes
+		while (l < r) {
+			if ((l & 1) != 0) {
+				int c = l++ * NODE;
+				lbest = Math.max(Math.max(lbest, tree[c + BEST]), 
+						lsuffix + tree[c + PREFIX]);
+				lsuffix = Math.max(tree[c + SUFFIX], tree[c + TOTAL] + lsuffix);
+			}
+			if ((r & 1) != 0) {
+				int c = --r * NODE;
+				rbest = Math.max(Math.max(tree[c + BEST], rbest), 
+						tree[c + SUFFIX] + rprefix);
+				rprefix = Math.max(tree[c + PREFIX], tree[c + TOTAL] + rprefix);
+			}
+			l >>= 1;
+			r >>= 1;
+		}
+		return Math.max(Math.max(lbest, rbest), lsuffix + rprefix);
+	}
+
+	/**
+	 * Sets the given leaf to represent a single element.
+	 * 
+	 * @param k The leaf node.
+	 * @param v The value of the element.
+	 */
+	private void setLeaf(int k, int v) {
+		int c = k * NODE;
+		int p = Math.max(0, v);
+		tree[c + TOTAL] = v;
+		tree[c + PREFIX] = p;
+		tree[c + SUFFIX] = p;
+		tree[c + BEST] = p;
+	}
+
+	/**
+	 * Recomputes the given internal node from its children.
+	 * 
+	 * @param k The internal node.
+	 */
+	private void pull(int k) {
+		int c = k * NODE;
+		int l = 2 * c;
+		int r = l + NODE;
+		tree[c + TOTAL] = tree[l + TOTAL] + tree[r + TOTAL];
+		tree[c + PREFIX] = Math.max(tree[l + PREFIX], tree[l + TOTAL] + tree[r + PREFIX]);
+		tree[c + SUFFIX] = Math.max(tree[r + SUFFIX], tree[r + TOTAL] + tree[l + SUFFIX]);
+		tree[c + BEST] = Math.max(Math.max(tree[l + BEST], tree[r + BEST]), 
+				tree[l + SUFFIX] + tree[r + PREFIX]);
+	}
+
+	/**
+	 * Ensures that the given index is valid.
+	 * 
+	 * @param i The index.
+	 * @throws IndexOutOfBoundsException If i is not a valid index.
+	 */
+	private void checkIndex(int i) {
+		if (i < 0 || i >= n) {
+			throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + n);
+		}
+	}
+}
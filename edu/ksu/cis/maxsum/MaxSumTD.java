@@ -9,7 +9,8 @@ package edu.ksu.cis.maxsum;
  * Class implementing a maximum subsequence sum algorithm that performs
  * the computation in a top-down fashion.  The running time is in O(n^2),
  * where n is the number of elements in the array.  The stack usage is in
- * O(n).
+ * O(n).  When run with a {@link Progress}, it records its progress and
+ * checks for cancellation after each maximum suffix sum is computed.
  *
  * @author Rod Howell
  *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
@@ -34,6 +35,32 @@ public class MaxSumTD implements MaxSumInterface {
 	    else return Math.max(maxSum(a, n-1), maxSuffix(a, n));
 	  }
 
+	  public long maxSumLong(int[] a, Progress p) {
+	    // The work for each segment a[0..n-1] is the n calls computing its
+	    // nonempty suffix sums.
+	    double n = a.length;
+	    p.start(n * (n + 1) / 2);
+	    return maxSum(a, a.length, p);
+	  }
+
+	  /**
+	   * Computes the maximum subsequence sum of a[0..n-1], recording progress
+	   * in p and stopping if cancellation is requested.
+	   * 
+	   * @param a The array over which the maximum subsequence sum is to
+	   *          be computed.
+	   * @param n The length of the segment considered.
+	   * @param p The record of the progress of the computation.
+	   * @return  The maximum subsequence sum of a[0..n-1].
+	   */
+	  private int maxSum(int[] a, int n, Progress p) {
+	    if (n == 0) return 0;
+	    int rest = maxSum(a, n-1, p);
+	    int suffix = maxSuffix(a, n);
+	    p.advance(n);
+	    return Math.max(rest, suffix);
+	  }
+
 	  /**
 	   * Computes the maximum suffix sum of a[0..n-1].
 	   * 
@@ -0,0 +1,78 @@
+/*
+ * MaxSumTDCounted.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The algorithm of {@link MaxSumTD}, instrumented to count the reads,
+ * additions, and comparisons it performs and the depth of its recursion.
+ * Each call computing a maximum suffix sum of a nonempty segment costs one
+ * read, one addition, and one comparison, and there are n(n+1)/2 such calls;
+ * the depth of recursion is n + 2.  Progress is recorded, and cancellation
+ * checked, each time a maximum suffix sum has been computed, so that a long
+ * run shows its progress and can be cancelled.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumTDCounted extends MaxSumTD implements MaxSumCountedInterface {
+
+	public long maxSumCounted(int[] a, OperationCounts c, Progress p) {
+		double n = a.length;
+		p.start(n * (n + 1) / 2);
+		return maxSum(a, a.length, c, p);
+	}
+
+	/**
+	 * Computes the maximum subsequence sum of a[0..n-1], counting the
+	 * operations performed, recording progress in p and stopping if
+	 * cancellation is requested.
+	 *
+	 * @param a The array over which the maximum subsequence sum is to
+	 *          be computed.
+	 * @param n The length of the segment considered.
+	 * @param c The counts to which the operations performed are added.
+	 * @param p The record of the progress of the computation.
+	 * @return  The maximum subsequence sum of a[0..n-1].
+	 */
+	private int maxSum(int[] a, int n, OperationCounts c, Progress p) {
+		c.enter();
+		int m;
+		if (n == 0) m = 0;
+		else {
+			int rest = maxSum(a, n-1, c, p);
+			int suffix = maxSuffix(a, n, c);
+			// The suffix computation made n nonempty calls
+			p.advance(n);
+			m = Math.max(rest, suffix);
+			c.add(0, 0, 1);
+		}
+		c.exit();
+		return m;
+	}
+
+	/**
+	 * Computes the maximum suffix sum of a[0..n-1], counting the operations
+	 * performed.
+	 *
+	 * @param a The array over which the maximum suffix sum is to
+	 *          be computed.
+	 * @param n The length of the segment considered.
+	 * @param c The counts to which the operations performed are added.
+	 * @return  The maximum suffix sum of a[0..n-1].
+	 */
+	private int maxSuffix(int[] a, int n, OperationCounts c) {
+		c.enter();
+		int m;
+		if (n == 0) m = 0;
+		else {
+			m = Math.max(0, a[n-1] + maxSuffix(a, n-1, c));
+			c.add(1, 1, 1);
+		}
+		c.exit();
+		return m;
+	}
+}
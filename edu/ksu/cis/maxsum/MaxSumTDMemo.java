@@ -0,0 +1,69 @@
+/*
+ * MaxSumTDMemo.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Class implementing the top-down maximum subsequence sum algorithm of
+ * {@link MaxSumTD} with two changes that remove its limitations.  First,
+ * maxSuffix(a, n) is memoized, so that each of its values is computed only
+ * once; the call maxSum(a, n-1) has already computed maxSuffix(a, n-1), so
+ * the call maxSuffix(a, n) made by maxSum(a, n) makes only one recursive call,
+ * which is answered from the memo.  Because that is the only lookup, the memo
+ * need only hold the value most recently computed.  Second, the recursion is
+ * run on an explicit stack of pending calls, rather than on the call stack.
+ * The pending calls are always maxSum(a, n), maxSum(a, n-1), ..., maxSum(a, k)
+ * for some k, and each but the last is waiting for the call after it to
+ * return, so the stack is represented by k and by whether the last call has
+ * yet made its recursive call; each call's length is computed from its
+ * position on the stack.  The calls are made and resumed in exactly the order
+ * the recursion of MaxSumTD makes them, so the result is always the same, but
+ * the running time is in O(n), where n is the number of elements in the
+ * array, and the space used is in O(1).
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumTDMemo implements MaxSumInterface {
+
+	public int maxSum(int[] a) {
+		int n = a.length;
+		// if (n == 0) return 0;
+		if (n == 0) return 0;
+		// The last pending call is maxSum(a, k)
+		int k = n;
+		// true iff the last pending call has not yet called maxSum(a, k-1)
+		boolean descending = true;
+		// The value returned by the call most recently completed
+		int ret = 0;
+		// The memoized value of maxSuffix(a, k-1) once maxSum(a, k-1) has
+		// returned; maxSuffix(a, 0) is 0
+		int suffix = 0;
+		// Invariant: calls maxSum(a, n), ..., maxSum(a, k) are pending, each
+		//            having called the one after it, and 1 <= k <= n; if
+		//            descending is false, maxSum(a, k-1) has returned ret
+		while (true) {
+			if (descending) {
+				// else return Math.max(maxSum(a, n-1), maxSuffix(a, n));
+				if (k > 1) k--;
+				else {
+					// maxSum(a, 0) returns 0 without a recursive call
+					ret = 0;
+					descending = false;
+				}
+			}
+			else {
+				// maxSuffix(a, k) returns
+				// Math.max(0, a[k-1] + maxSuffix(a, k-1))
+				suffix = Math.max(0, a[k - 1] + suffix);
+				ret = Math.max(ret, suffix);
+				if (k == n) return ret;
+				k++;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,633 @@
+/*
+ * MaxSumTopK.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Algorithms for the k largest subsequence sums of an array, together with
+ * the locations of subsequences having those sums.  Two variants are
+ * provided:
+ * <ul>
+ * <li>{@link #topK(int[], int)} returns the k largest sums over all
+ * subsequences, which may overlap.  With the prefix sums p[0..n], the sum of
+ * a[i..j-1] is p[j] - p[i], so the best subsequence ending at j starts at a
+ * minimum of p[0..j-1].  A heap holds, for each end j, the best start within
+ * a range of starts; when it is removed, the range is split around that start
+ * and the best starts of the two parts are added.  Range minima are found
+ * with a tree over the prefix sums, so the running time is in
+ * O((n + k) lg n).</li>
+ * <li>{@link #topKDisjoint(int[], int)} returns the k largest sums found by
+ * repeatedly choosing the maximum sum subsequence that does not overlap any
+ * subsequence already chosen.  A heap holds the maximal segments not yet
+ * chosen from, with the maximum sum subsequence of each; when one is chosen,
+ * the parts of its segment on either side of it are added.  These are found
+ * using a tree of segment summaries, as in {@link MaxSumSegmentTree}, so the
+ * running time is in O(n + k lg n).</li>
+ * </ul>
+ * In both variants, the subsequences are given in nonincreasing order of
+ * their sums, and only subsequences with positive sums are reported, as the
+ * empty subsequence is better than any other; hence fewer than k results may
+ * be returned.  Of subsequences having equal sums, those ending first, then
+ * those starting last, come first, so that the first result is the sum and
+ * location found by {@link MaxSumLongBU#maxSumRange(int[], MaxSumResult)}
+ * whenever that sum is positive.  Sums are computed using 64-bit
+ * accumulators, so they cannot overflow.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumTopK {
+
+	/**
+	 * The largest number of elements supported by topK.  Its tree of prefix
+	 * sums holds 2(n+1) locations, so this is the largest n for which that
+	 * tree can be indexed by an int.
+	 */
+	public static final int MAX_SIZE = (1 << 30) - 1;
+
+	/**
+	 * The largest number of elements supported by topKDisjoint.  Its tree of
+	 * summaries holds 2 * LocatedSummary.SIZE locations per leaf, and the
+	 * number of leaves may be as large as 2n - 1, so this is the largest
+	 * power of 2 for which the tree can be indexed by an int.
+	 */
+	public static final int MAX_DISJOINT_SIZE = 1 << 26;
+
+	/**
+	 * Returns the k largest subsequence sums of the given array, with the
+	 * locations of subsequences having those sums.  The subsequences may
+	 * overlap.
+	 *
+	 * @param a The array.
+	 * @param k The number of sums to return.
+	 * @return  The k largest positive subsequence sums, or all of them if
+	 *          there are fewer than k, in nonincreasing order.
+	 * @throws  IllegalArgumentException If k is negative or a has more than
+	 *          MAX_SIZE elements.
+	 */
+	public static MaxSumResult[] topK(int[] a, int k) {
+		checkCount(k);
+		checkSize(a, MAX_SIZE);
+		int n = a.length;
+		long[] p = new long[n + 1];
+		for (int i = 0; i < n; i++) {
+			p[i + 1] = p[i] + a[i];
+		}
+		MinTree mins = new MinTree(p);
+		Candidates c = new Candidates(n);
+		for (int j = 1; j <= n; j++) {
+			int i = mins.argMin(0, j);
+			if (p[j] > p[i]) {
+				c.add(p[j] - p[i], i, j, 0, j);
+			}
+		}
+		c.heapify();
+		// The results are added as they are found, as k may be far larger than
+		// the number of positive sums
+		ArrayList<MaxSumResult> results = new ArrayList<>();
+		// Invariant: results holds the largest positive sums, in order,
+		//            and c contains, for each end j, the best starts in
+		//            disjoint ranges covering all starts not yet chosen for j
+		while (results.size() < k && c.size() > 0) {
+			int e = c.removeFirst();
+			int start = c.start(e);
+			int end = c.end(e);
+			int lo = c.lo(e);
+			int hi = c.hi(e);
+			results.add(new MaxSumResult().set(c.sum(e), start, end));
+			if (lo < start) {
+				int i = mins.argMin(lo, start);
+				if (p[end] > p[i]) {
+					c.insert(p[end] - p[i], i, end, lo, start);
+				}
+			}
+			if (start + 1 < hi) {
+				int i = mins.argMin(start + 1, hi);
+				if (p[end] > p[i]) {
+					c.insert(p[end] - p[i], i, end, start + 1, hi);
+				}
+			}
+		}
+		return results.toArray(new MaxSumResult[0]);
+	}
+
+	/**
+	 * Returns the k largest sums of disjoint subsequences of the given array,
+	 * with their locations.  The first is the maximum subsequence sum, and
+	 * each of the others is the maximum sum of a subsequence that overlaps
+	 * none of those preceding it.
+	 *
+	 * @param a The array.
+	 * @param k The number of sums to return.
+	 * @return  The k largest positive sums of disjoint subsequences, or all
+	 *          of them if there are fewer than k, in nonincreasing order.
+	 * @throws  IllegalArgumentException If k is negative or a has more than
+	 *          MAX_DISJOINT_SIZE elements.
+	 */
+	public static MaxSumResult[] topKDisjoint(int[] a, int k) {
+		checkCount(k);
+		checkSize(a, MAX_DISJOINT_SIZE);
+		int n = a.length;
+		SummaryTree t = new SummaryTree(a);
+		Candidates c = new Candidates(1);
+		if (n > 0) {
+			t.query(0, n);
+			if (t.best() > 0) {
+				c.insert(t.best(), t.bestStart(), t.bestEnd(), 0, n);
+			}
+		}
+		ArrayList<MaxSumResult> results = new ArrayList<>();
+		// Invariant: results holds the subsequences chosen so far,
+		//            and c contains the maximal segments containing none of
+		//            them that have positive maximum subsequence sums
+		while (results.size() < k && c.size() > 0) {
+			int e = c.removeFirst();
+			int start = c.start(e);
+			int end = c.end(e);
+			int lo = c.lo(e);
+			int hi = c.hi(e);
+			results.add(new MaxSumResult().set(c.sum(e), start, end));
+			if (lo < start) {
+				t.query(lo, start);
+				if (t.best() > 0) {
+					c.insert(t.best(), t.bestStart(), t.bestEnd(), lo, start);
+				}
+			}
+			if (end < hi) {
+				t.query(end, hi);
+				if (t.best() > 0) {
+					c.insert(t.best(), t.bestStart(), t.bestEnd(), end, hi);
+				}
+			}
+		}
+		return results.toArray(new MaxSumResult[0]);
+	}
+
+	/**
+	 * Ensures that the given number of sums is valid.
+	 *
+	 * @param k The number of sums.
+	 * @throws IllegalArgumentException If k is negative.
+	 */
+	private static void checkCount(int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k < 0");
+		}
+	}
+
+	/**
+	 * Ensures that the given array is small enough to be indexed.
+	 *
+	 * @param a   The array.
+	 * @param max The largest number of elements supported.
+	 * @throws IllegalArgumentException If a has more than max elements.
+	 */
+	private static void checkSize(int[] a, int max) {
+		if (a.length > max) {
+			throw new IllegalArgumentException("At most " + max + " elements are supported, not "
+					+ a.length + ".");
+		}
+	}
+
+	/**
+	 * A tree over an array of longs giving the location of a minimum of any
+	 * range, choosing the last location if there are several.  Node k has
+	 * children 2k and 2k+1, and leaf i is node n + i; this arrangement works
+	 * for any n because the operation is associative and commutative.
+	 */
+	private static class MinTree {
+
+		/**
+		 * The values.
+		 */
+		private final long[] v;
+
+		/**
+		 * The number of values.
+		 */
+		private final int n;
+
+		/**
+		 * The location of a minimum of the values below each node.
+		 */
+		private final int[] tree;
+
+		/**
+		 * Constructs a tree over the given values.
+		 *
+		 * @param v The values, which must not be changed.
+		 */
+		MinTree(long[] v) {
+			this.v = v;
+			n = v.length;
+			tree = new int[2 * n];
+			for (int i = 0; i < n; i++) {
+				tree[n + i] = i;
+			}
+			for (int k = n - 1; k > 0; k--) {
+				tree[k] = min(tree[2 * k], tree[2 * k + 1]);
+			}
+		}
+
+		/**
+		 * Returns the location of a minimum of v[lo..hi-1], the last if there
+		 * are several.  It must be the case that lo &lt; hi.
+		 *
+		 * @param lo The first location considered.
+		 * @param hi One more than the last location considered.
+		 * @return   The last location of a minimum.
+		 */
+		int argMin(int lo, int hi) {
+			int m = lo;
+			int l = n + lo;
+			int r = n + hi;
+			// Invariant: m is the last location of a minimum of the values in
+			//            the range but not below nodes l..r-1
+			while (l < r) {
+				if ((l & 1) != 0) {
+					m = min(m, tree[l++]);
+				}
+				if ((r & 1) != 0) {
+					m = min(m, tree[--r]);
+				}
+				l >>= 1;
+				r >>= 1;
+			}
+			return m;
+		}
+
+		/**
+		 * Returns the location of the smaller of two values, or the later
+		 * location if they are equal.
+		 *
+		 * @param i A location.
+		 * @param j Another location.
+		 * @return  The location of the smaller value.
+		 */
+		private int min(int i, int j) {
+			if (v[i] != v[j]) return v[i] < v[j] ? i : j;
+			else return Math.max(i, j);
+		}
+	}
+
+	/**
+	 * A tree of segment summaries, as in {@link MaxSumSegmentTree}, that also
+	 * records the locations of the maximum prefix, maximum suffix, and
+	 * maximum subsequence of each segment.  The tree is stored in a single
+	 * long array of {@link LocatedSummary} nodes, with the children of node k
+	 * at nodes 2k and 2k+1; node 0 holds the summary of the segment most
+	 * recently queried.
+	 */
+	private static class SummaryTree {
+
+		/**
+		 * The number of tree array locations used by each node.
+		 */
+		private static final int NODE = LocatedSummary.SIZE;
+
+		/**
+		 * The number of leaves - the smallest power of 2 no smaller than the
+		 * number of elements.  Leaf i is node leaves + i.
+		 */
+		private final int leaves;
+
+		/**
+		 * The nodes of the tree.  Node k occupies tree[NODE*k..NODE*k+7].
+		 */
+		private final long[] tree;
+
+		/**
+		 * Constructs a tree over the given array.
+		 *
+		 * @param a The elements.
+		 */
+		SummaryTree(int[] a) {
+			int size = 1;
+			while (size < a.length) {
+				size <<= 1;
+			}
+			leaves = size;
+			tree = new long[2 * size * NODE];
+			for (int i = 0; i < size; i++) {
+				if (i < a.length) {
+					LocatedSummary.summarize(a, i, i + 1, tree, (leaves + i) * NODE);
+				}
+				else {
+					LocatedSummary.empty(tree, (leaves + i) * NODE, i);
+				}
+			}
+			for (int k = leaves - 1; k > 0; k--) {
+				LocatedSummary.combine(tree, 2 * k * NODE, tree, (2 * k + 1) * NODE, tree, k * NODE);
+			}
+		}
+
+		/**
+		 * Stores in node 0 the summary of elements lo..hi-1.
+		 *
+		 * @param lo The index of the first element of the segment.
+		 * @param hi One more than the index of the last element.
+		 */
+		void query(int lo, int hi) {
+			LocatedSummary.empty(tree, 0, lo);
+			query(1, 0, leaves, lo, hi);
+		}
+
+		/**
+		 * Appends to node 0 the summaries of the nodes below node k that
+		 * cover elements lo..hi-1, in order.
+		 *
+		 * @param k   The node.
+		 * @param nlo The index of the first element below node k.
+		 * @param nhi One more than the index of the last element below node
+		 *            k.
+		 * @param lo  The index of the first element of the segment.
+		 * @param hi  One more than the index of the last element.
+		 */
+		private void query(int k, int nlo, int nhi, int lo, int hi) {
+			if (lo <= nlo && nhi <= hi) {
+				LocatedSummary.combine(tree, 0, tree, k * NODE, tree, 0);
+			}
+			else {
+				int mid = (nlo + nhi) >>> 1;
+				if (lo < mid) {
+					query(2 * k, nlo, mid, lo, hi);
+				}
+				if (mid < hi) {
+					query(2 * k + 1, mid, nhi, lo, hi);
+				}
+			}
+		}
+
+		/**
+		 * Returns the maximum subsequence sum of the segment last queried.
+		 *
+		 * @return The maximum subsequence sum.
+		 */
+		long best() {
+			return tree[LocatedSummary.BEST];
+		}
+
+		/**
+		 * Returns the index of the first element of the maximum subsequence
+		 * of the segment last queried.
+		 *
+		 * @return The index of the first element.
+		 */
+		int bestStart() {
+			return (int) tree[LocatedSummary.BEST_START];
+		}
+
+		/**
+		 * Returns one more than the index of the last element of the maximum
+		 * subsequence of the segment last queried.
+		 *
+		 * @return One more than the index of the last element.
+		 */
+		int bestEnd() {
+			return (int) tree[LocatedSummary.BEST_END];
+		}
+	}
+
+	/**
+	 * A priority queue of candidate subsequences, each with the range of
+	 * starts or the segment from which it was chosen.  The candidates are
+	 * stored in parallel primitive arrays, and the heap holds their indices;
+	 * the first candidate has the largest sum, then the earliest end, then
+	 * the latest start.
+	 */
+	private static class Candidates {
+
+		/**
+		 * The sums of the candidates.
+		 */
+		private long[] sums;
+
+		/**
+		 * The indices of the first elements of the candidates.
+		 */
+		private int[] starts;
+
+		/**
+		 * One more than the indices of the last elements of the candidates.
+		 */
+		private int[] ends;
+
+		/**
+		 * The first locations of the ranges from which the candidates were
+		 * chosen.
+		 */
+		private int[] los;
+
+		/**
+		 * One more than the last locations of the ranges from which the
+		 * candidates were chosen.
+		 */
+		private int[] his;
+
+		/**
+		 * The number of candidates ever added.
+		 */
+		private int added = 0;
+
+		/**
+		 * The heap of candidate indices, with the children of heap[i] at
+		 * heap[2i+1] and heap[2i+2].
+		 */
+		private int[] heap;
+
+		/**
+		 * The number of candidates in the heap.
+		 */
+		private int size = 0;
+
+		/**
+		 * Constructs an empty queue.
+		 *
+		 * @param capacity The initial number of candidates that can be
+		 *                 added without growing the arrays.
+		 */
+		Candidates(int capacity) {
+			capacity = Math.max(capacity, 1);
+			sums = new long[capacity];
+			starts = new int[capacity];
+			ends = new int[capacity];
+			los = new int[capacity];
+			his = new int[capacity];
+			heap = new int[capacity];
+		}
+
+		/**
+		 * Returns the number of candidates in the heap.
+		 *
+		 * @return The number of candidates in the heap.
+		 */
+		int size() {
+			return size;
+		}
+
+		/**
+		 * Adds a candidate without maintaining the heap order, which must be
+		 * restored by {@link #heapify()} before the heap is otherwise used.
+		 *
+		 * @param sum   The sum of the candidate.
+		 * @param start The index of its first element.
+		 * @param end   One more than the index of its last element.
+		 * @param lo    The first location of the range from which it was
+		 *              chosen.
+		 * @param hi    One more than the last location of that range.
+		 */
+		void add(long sum, int start, int end, int lo, int hi) {
+			if (added == sums.length) {
+				int capacity = 2 * added;
+				sums = Arrays.copyOf(sums, capacity);
+				starts = Arrays.copyOf(starts, capacity);
+				ends = Arrays.copyOf(ends, capacity);
+				los = Arrays.copyOf(los, capacity);
+				his = Arrays.copyOf(his, capacity);
+				heap = Arrays.copyOf(heap, capacity);
+			}
+			sums[added] = sum;
+			starts[added] = start;
+			ends[added] = end;
+			los[added] = lo;
+			his[added] = hi;
+			heap[size++] = added++;
+		}
+
+		/**
+		 * Restores the heap order in O(size) time.
+		 */
+		void heapify() {
+			for (int i = size / 2 - 1; i >= 0; i--) {
+				siftDown(i);
+			}
+		}
+
+		/**
+		 * Adds a candidate.
+		 *
+		 * @param sum   The sum of the candidate.
+		 * @param start The index of its first element.
+		 * @param end   One more than the index of its last element.
+		 * @param lo    The first location of the range from which it was
+		 *              chosen.
+		 * @param hi    One more than the last location of that range.
+		 */
+		void insert(long sum, int start, int end, int lo, int hi) {
+			add(sum, start, end, lo, hi);
+			int i = size - 1;
+			int e = heap[i];
+			while (i > 0 && before(e, heap[(i - 1) / 2])) {
+				heap[i] = heap[(i - 1) / 2];
+				i = (i - 1) / 2;
+			}
+			heap[i] = e;
+		}
+
+		/**
+		 * Removes the first candidate.  The heap must be nonempty.
+		 *
+		 * @return The index of the candidate removed.
+		 */
+		int removeFirst() {
+			int e = heap[0];
+			heap[0] = heap[--size];
+			siftDown(0);
+			return e;
+		}
+
+		/**
+		 * Returns the sum of the given candidate.
+		 *
+		 * @param e The index of the candidate.
+		 * @return  Its sum.
+		 */
+		long sum(int e) {
+			return sums[e];
+		}
+
+		/**
+		 * Returns the index of the first element of the given candidate.
+		 *
+		 * @param e The index of the candidate.
+		 * @return  The index of its first element.
+		 */
+		int start(int e) {
+			return starts[e];
+		}
+
+		/**
+		 * Returns one more than the index of the last element of the given
+		 * candidate.
+		 *
+		 * @param e The index of the candidate.
+		 * @return  One more than the index of its last element.
+		 */
+		int end(int e) {
+			return ends[e];
+		}
+
+		/**
+		 * Returns the first location of the range from which the given
+		 * candidate was chosen.
+		 *
+		 * @param e The index of the candidate.
+		 * @return  The first location of its range.
+		 */
+		int lo(int e) {
+			return los[e];
+		}
+
+		/**
+		 * Returns one more than the last location of the range from which the
+		 * given candidate was chosen.
+		 *
+		 * @param e The index of the candidate.
+		 * @return  One more than the last location of its range.
+		 */
+		int hi(int e) {
+			return his[e];
+		}
+
+		/**
+		 * Moves the candidate at the given heap location down to its place.
+		 *
+		 * @param i The heap location.
+		 */
+		private void siftDown(int i) {
+			int e = heap[i];
+			int child;
+			while ((child = 2 * i + 1) < size) {
+				if (child + 1 < size && before(heap[child + 1], heap[child])) {
+					child++;
+				}
+				if (!before(heap[child], e)) {
+					break;
+				}
+				heap[i] = heap[child];
+				i = child;
+			}
+			heap[i] = e;
+		}
+
+		/**
+		 * Returns <tt>true</tt> iff the first candidate comes before the
+		 * second.
+		 *
+		 * @param x The index of a candidate.
+		 * @param y The index of another candidate.
+		 * @return  <tt>true</tt> iff x comes before y.
+		 */
+		private boolean before(int x, int y) {
+			if (sums[x] != sums[y]) return sums[x] > sums[y];
+			else if (ends[x] != ends[y]) return ends[x] < ends[y];
+			else return starts[x] > starts[y];
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * MaxSumVector.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Class implementing the bottom-up maximum subsequence sum algorithm using
+ * SIMD instructions when possible.  If the jdk.incubator.vector module is
+ * available (e.g., the JVM was started with
+ * <tt>--add-modules jdk.incubator.vector</tt>) and the vectorized kernel
+ * has been compiled, the computation is delegated to
+ * edu.ksu.cis.maxsum.vector.VectorKernel; otherwise, it is performed by
+ * {@link MaxSumBU}.  The running time is in O(n), where n is the number of
+ * elements in the array.  The lanes do not record where their suffixes
+ * start, so the location of a maximum subsequence is found by the default
+ * {@link MaxSumInterface#maxSum(int[], MaxSumResult)}, a single scalar pass.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumVector implements MaxSumInterface {
+
+	/**
+	 * The name of the module containing the Vector API.
+	 */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/**
+	 * The name of the class containing the vectorized kernel.
+	 */
+	private static final String KERNEL_CLASS = "edu.ksu.cis.maxsum.vector.VectorKernel";
+
+	/**
+	 * The algorithm to which the computation is delegated.
+	 */
+	private static final MaxSumInterface KERNEL = loadKernel();
+
+	public int maxSum(int[] a) {
+		return KERNEL.maxSum(a);
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the computation is vectorized.
+	 * 
+	 * @return <tt>true</tt> iff the vectorized kernel was loaded.
+	 */
+	public static boolean isVectorized() {
+		return !(KERNEL instanceof MaxSumBU);
+	}
+
+	/**
+	 * Loads the vectorized kernel if it is available, or the scalar
+	 * algorithm otherwise.
+	 * 
+	 * @return The algorithm to which the computation is delegated.
+	 */
+	private static MaxSumInterface loadKernel() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+			try {
+				return (MaxSumInterface) Class.forName(KERNEL_CLASS)
+						.getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError e) {
+				// Fall through to the scalar algorithm
+			}
+		}
+		return new MaxSumBU();
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * MaxSumWindow.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Computes the maximum subsequence sum of the last w elements of a stream,
+ * where w is a fixed window size.  The window is maintained as a queue made
+ * of two stacks.  The newer elements form the back stack, for which only the
+ * maximum subsequence sum, maximum suffix sum, maximum prefix sum, and total
+ * are kept, as in {@link MaxSumAccumulator}.  The older elements form the
+ * front stack, for which the maximum suffix sum and maximum subsequence sum
+ * are kept for every suffix, so that the oldest element can be removed in
+ * O(1) time.  When the front stack is empty
+ * and an element must be removed, the back stack is moved onto the front
+ * stack.  Each element is therefore handled in O(1) amortized time.  All
+ * storage is allocated by the constructor and is in O(w).
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MaxSumWindow {
+
+	/**
+	 * The window size.
+	 */
+	private final int w;
+
+	/**
+	 * The elements in the window, stored circularly beginning at head.
+	 */
+	private final int[] vals;
+
+	/**
+	 * For each position i of the front stack, the maximum suffix sum of the
+	 * elements from position i to the end of the front stack.
+	 */
+	private final int[] fsuffix;
+
+	/**
+	 * For each position i of the front stack, the maximum subsequence sum of
+	 * the elements from position i to the end of the front stack.
+	 */
+	private final int[] fbest;
+
+	/**
+	 * The position of the oldest element.
+	 */
+	private int head;
+
+	/**
+	 * The number of elements in the front stack.
+	 */
+	private int front;
+
+	/**
+	 * The number of elements in the back stack.
+	 */
+	private int back;
+
+	/**
+	 * The total of the elements in the back stack.
+	 */
+	private int btotal;
+
+	/**
+	 * The maximum prefix sum of the elements in the back stack.
+	 */
+	private int bprefix;
+
+	/**
+	 * The maximum suffix sum of the elements in the back stack.
+	 */
+	private int bsuffix;
+
+	/**
+	 * The maximum subsequence sum of the elements in the back stack.
+	 */
+	private int bbest;
+
+	/**
+	 * Constructs an empty window of the given size.
+	 * 
+	 * @param w The window size.  Must be positive.
+	 */
+	public MaxSumWindow(int w) {
+		if (w <= 0) {
+			throw new IllegalArgumentException("The window size must be positive.");
+		}
+		this.w = w;
+		vals = new int[w];
+		fsuffix = new int[w];
+		fbest = new int[w];
+	}
+
+	/**
+	 * Adds the given element to the stream, removing the oldest element from
+	 * the window if the window is full.
+	 * 
+	 * @param x The next element of the stream.
+	 * @return  The maximum subsequence sum of the window after x is added.
+	 */
+	public int add(int x) {
+		if (front + back == w) {
+			removeOldest();
+		}
+		int pos = head + front + back;
+		vals[pos < w ? pos : pos - w] = x;
+		back++;
+		btotal += x;
+		bprefix = Math.max(bprefix, btotal);
+		bsuffix = Math.max(0, bsuffix + x);
+		bbest = Math.max(bbest, bsuffix);
+		return maxSum();
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of the elements in the window.
+	 * 
+	 * @return The maximum subsequence sum of the elements in the window.
+	 */
+	public int maxSum() {
+		if (front == 0) return bbest;
+		else return Math.max(Math.max(fbest[head], bbest), fsuffix[head] + bprefix);
+	}
+
+	/**
+	 * Returns the number of elements in the window.  This is less than the
+	 * window size only until the window size number of elements have been
+	 * added.
+	 * 
+	 * @return The number of elements in the window.
+	 */
+	public int size() {
+		return front + back;
+	}
+
+	/**
+	 * Returns the window size.
+	 * 
+	 * @return The window size.
+	 */
+	public int windowSize() {
+		return w;
+	}
+
+	/**
+	 * Copies the elements in the window, oldest first, into the given array.
+	 * 
+	 * @param dest The array into which the elements are copied.  Its length
+	 *             must be at least size().
+	 */
+	public void copyTo(int[] dest) {
+		int n = front + back;
+		for (int i = 0; i < n; i++) {
+			int pos = head + i;
+			dest[i] = vals[pos < w ? pos : pos - w];
+		}
+	}
+
+	/**
+	 * Removes all elements from the window.
+	 */
+	public void clear() {
+		head = 0;
+		front = 0;
+		back = 0;
+		btotal = 0;
+		bprefix = 0;
+		bsuffix = 0;
+		bbest = 0;
+	}
+
+	/**
+	 * Removes the oldest element from the window, which must be nonempty.
+	 */
+	private void removeOldest() {
+		if (front == 0) {
+			// Move the back stack onto the front stack, computing the summary
+			// of each suffix from the newest element to the oldest.
+			int total = 0, prefix = 0, suffix = 0, best = 0;
+			for (int i = back - 1; i >= 0; i--) {
+				int pos = head + i;
+				if (pos >= w) pos -= w;
+				int x = vals[pos];
+				int px = Math.max(0, x);
+				best = Math.max(best, px + prefix);
+				suffix = Math.max(suffix, total + px);
+				prefix = Math.max(0, x + prefix);
+				total += x;
+				fsuffix[pos] = suffix;
+				fbest[pos] = best;
+			}
+			front = back;
+			back = 0;
+			btotal = 0;
+			bprefix = 0;
+			bsuffix = 0;
+			bbest = 0;
+		}
+		front--;
+		head = head + 1 == w ? 0 : head + 1;
+	}
+}
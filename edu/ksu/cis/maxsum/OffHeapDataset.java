@@ -0,0 +1,181 @@
+/*
+ * OffHeapDataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.stream.LongStream;
+
+/**
+ * A data set stored in memory outside the Java heap.  Each chunk is a
+ * separate direct buffer, so the number of elements is not limited by the
+ * maximum size of a Java array, and the elements put no pressure on the
+ * garbage collector.  The total amount of such memory is limited by the
+ * JVM option -XX:MaxDirectMemorySize, which by default is the maximum heap
+ * size.  The memory is released as soon as the data set is closed, where the
+ * JVM allows it; otherwise, it is released when the data set is garbage
+ * collected.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class OffHeapDataset implements StoredDataset {
+
+	/**
+	 * The largest number of elements allowed.
+	 */
+	public static final long MAX_SIZE = (long) Integer.MAX_VALUE << CHUNK_SHIFT;
+
+	/**
+	 * The object providing the method that releases a direct buffer, or
+	 * null if it is not available.
+	 */
+	private static final Object UNSAFE;
+
+	/**
+	 * The method that releases a direct buffer, or null if it is not
+	 * available.
+	 */
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> c = Class.forName("sun.misc.Unsafe");
+			Field f = c.getDeclaredField("theUnsafe");
+			f.setAccessible(true);
+			unsafe = f.get(null);
+			invokeCleaner = c.getMethod("invokeCleaner", ByteBuffer.class);
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			// Memory will be released by the garbage collector.
+			unsafe = null;
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	/**
+	 * The number of elements.
+	 */
+	private final long size;
+
+	/**
+	 * The direct buffers holding the chunks, or null if closed.
+	 */
+	private ByteBuffer[] buffers;
+
+	/**
+	 * The chunks, as views of the buffers, or null if closed.
+	 */
+	private IntBuffer[] chunks;
+
+	/**
+	 * Constructs a data set of the given size, with all elements 0.
+	 * 
+	 * @param n The number of elements.  Must be nonnegative and no more than
+	 *          MAX_SIZE.
+	 * @throws OutOfMemoryError If there is not enough direct memory.
+	 */
+	public OffHeapDataset(long n) {
+		if (n < 0 || n > MAX_SIZE) {
+			throw new IllegalArgumentException("Invalid size: " + n);
+		}
+		size = n;
+		int count = (int) ((n + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+		buffers = new ByteBuffer[count];
+		chunks = new IntBuffer[count];
+		try {
+			for (int k = 0; k < count; k++) {
+				long len = Math.min(CHUNK_SIZE, n - ((long) k << CHUNK_SHIFT));
+				buffers[k] = ByteBuffer.allocateDirect((int) len * Integer.BYTES)
+						.order(ByteOrder.LITTLE_ENDIAN);
+				chunks[k] = buffers[k].asIntBuffer();
+			}
+		}
+		catch (OutOfMemoryError e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Generates a data set whose elements are uniformly distributed between
+	 * -max and max, inclusive.  The elements are the same as those generated
+	 * by {@link DataGenerator#generate(int, int, long)}.
+	 * 
+	 * @param n    The number of elements.
+	 * @param max  The upper limit on values generated.
+	 * @param seed The seed.
+	 * @return     The data set.
+	 */
+	public static OffHeapDataset generate(long n, int max, long seed) {
+		OffHeapDataset d = new OffHeapDataset(n);
+		int shift = CHUNK_SHIFT - Integer.numberOfTrailingZeros(DataGenerator.BLOCK_SIZE);
+		long blocks = (n + DataGenerator.BLOCK_SIZE - 1) / DataGenerator.BLOCK_SIZE;
+		LongStream.range(0, blocks).parallel().forEach(b -> {
+			IntBuffer chunk = d.chunks[(int) (b >>> shift)];
+			int lo = (int) (b - ((b >>> shift) << shift)) * DataGenerator.BLOCK_SIZE;
+			DataGenerator.fill(chunk, lo, Math.min(chunk.limit(), lo + DataGenerator.BLOCK_SIZE), 
+					max, DataGenerator.blockRandom(seed, b));
+		});
+		return d;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public int get(long i) {
+		return chunks[(int) (i >>> CHUNK_SHIFT)].get((int) i & (CHUNK_SIZE - 1));
+	}
+
+	/**
+	 * Sets the element at the given index.
+	 * 
+	 * @param i The index of the element.
+	 * @param v The new value.
+	 */
+	public void set(long i, int v) {
+		chunks[(int) (i >>> CHUNK_SHIFT)].put((int) i & (CHUNK_SIZE - 1), v);
+	}
+
+	public int chunkCount() {
+		return chunks.length;
+	}
+
+	public IntBuffer chunk(int k) {
+		return chunks[k];
+	}
+
+	/**
+	 * Releases the memory holding the elements.  Closing a data set that is
+	 * already closed has no effect.
+	 */
+	public void close() {
+		ByteBuffer[] b = buffers;
+		buffers = null;
+		chunks = null;
+		if (b != null && INVOKE_CLEANER != null) {
+			for (ByteBuffer buf : b) {
+				if (buf != null) {
+					try {
+						INVOKE_CLEANER.invoke(UNSAFE, buf);
+					}
+					catch (ReflectiveOperationException e) {
+						// Leave it for the garbage collector.
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * OperationCounts.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * The numbers of operations performed by a run of an instrumented algorithm
+ * (see {@link MaxSumCountedInterface}): the reads of array elements, the
+ * additions of sums, the comparisons of sums (including each use of
+ * Math.max), and the maximum depth of recursion, which is 0 for an algorithm
+ * without recursion.  These show how the work grows with the size of the
+ * data set, independently of the speed of the machine or its caches.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class OperationCounts {
+
+	/**
+	 * The names of the counts, in the order used by {@link #toCsv()}.
+	 */
+	public static final String CSV_HEADER = "reads,additions,comparisons,depth";
+
+	/**
+	 * The number of reads of array elements.
+	 */
+	private long reads;
+
+	/**
+	 * The number of additions.
+	 */
+	private long additions;
+
+	/**
+	 * The number of comparisons.
+	 */
+	private long comparisons;
+
+	/**
+	 * The current depth of recursion.
+	 */
+	private int depth;
+
+	/**
+	 * The maximum depth of recursion.
+	 */
+	private int maxDepth;
+
+	/**
+	 * Adds to the counts of reads, additions, and comparisons.
+	 *
+	 * @param reads       The number of reads of array elements.
+	 * @param additions   The number of additions.
+	 * @param comparisons The number of comparisons.
+	 */
+	public void add(long reads, long additions, long comparisons) {
+		this.reads += reads;
+		this.additions += additions;
+		this.comparisons += comparisons;
+	}
+
+	/**
+	 * Records the entry to a recursive call.
+	 */
+	public void enter() {
+		if (++depth > maxDepth) {
+			maxDepth = depth;
+		}
+	}
+
+	/**
+	 * Records the exit from a recursive call.
+	 */
+	public void exit() {
+		depth--;
+	}
+
+	/**
+	 * Sets all counts to 0.
+	 */
+	public void reset() {
+		reads = 0;
+		additions = 0;
+		comparisons = 0;
+		depth = 0;
+		maxDepth = 0;
+	}
+
+	/**
+	 * Returns the number of reads of array elements.
+	 *
+	 * @return The number of reads.
+	 */
+	public long getReads() {
+		return reads;
+	}
+
+	/**
+	 * Returns the number of additions.
+	 *
+	 * @return The number of additions.
+	 */
+	public long getAdditions() {
+		return additions;
+	}
+
+	/**
+	 * Returns the number of comparisons.
+	 *
+	 * @return The number of comparisons.
+	 */
+	public long getComparisons() {
+		return comparisons;
+	}
+
+	/**
+	 * Returns the maximum depth of recursion.
+	 *
+	 * @return The maximum depth of recursion.
+	 */
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	/**
+	 * Returns the counts as comma-separated values, in the order given by
+	 * {@link #CSV_HEADER}.
+	 *
+	 * @return The counts as comma-separated values.
+	 */
+	public String toCsv() {
+		return reads + "," + additions + "," + comparisons + "," + maxDepth;
+	}
+
+	/**
+	 * Returns the counts as the members of a JSON object, without the
+	 * enclosing braces.
+	 *
+	 * @return The counts as JSON members.
+	 */
+	public String toJsonMembers() {
+		return "\"reads\":" + reads + ",\"additions\":" + additions + ",\"comparisons\":"
+				+ comparisons + ",\"depth\":" + maxDepth;
+	}
+
+	public String toString() {
+		return "reads = " + reads + "; additions = " + additions + "; comparisons = "
+				+ comparisons + "; recursion depth = " + maxDepth;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Progress.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * A record of the progress of a computation running on one thread, which
+ * other threads may read and may ask to cancel.  The computation states the
+ * total amount of work it will do, in units of its own choosing, then reports
+ * work as it is completed.  Cancellation is cooperative: the computation
+ * checks for it periodically and stops by throwing a CancellationException.
+ * Checks are cheap (a single volatile read), so they may be done in the outer
+ * loops of an algorithm without noticeably affecting its running time.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class Progress {
+
+	/**
+	 * <tt>true</tt> iff cancellation has been requested.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * The total amount of work to be done.
+	 */
+	private volatile double total;
+
+	/**
+	 * The amount of work done so far.
+	 */
+	private volatile double done;
+
+	/**
+	 * Records the start of a computation.  This should be called only by the
+	 * thread performing the computation.
+	 * 
+	 * @param total The total amount of work to be done.
+	 */
+	public void start(double total) {
+		this.total = total;
+		done = 0;
+	}
+
+	/**
+	 * Records the completion of some work, then checks for cancellation.
+	 * This should be called only by the thread performing the computation.
+	 * 
+	 * @param work The amount of work completed.
+	 * @throws CancellationException If cancellation has been requested.
+	 */
+	public void advance(double work) {
+		done += work;
+		checkCancelled();
+	}
+
+	/**
+	 * Checks for cancellation.
+	 * 
+	 * @throws CancellationException If cancellation has been requested.
+	 */
+	public void checkCancelled() {
+		if (cancelled) {
+			throw new CancellationException();
+		}
+	}
+
+	/**
+	 * Requests cancellation of the computation.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff cancellation has been requested.
+	 * 
+	 * @return <tt>true</tt> iff cancellation has been requested.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Returns the fraction of the work that has been done, or a negative
+	 * number if this is unknown.
+	 * 
+	 * @return The fraction of the work done, between 0 and 1, or -1 if unknown.
+	 */
+	public double getFraction() {
+		double t = total;
+		if (t <= 0) return -1;
+		else return Math.min(1, done / t);
+	}
+}
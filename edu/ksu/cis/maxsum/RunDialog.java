@@ -0,0 +1,593 @@
+/*
+ * RunDialog.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.awt.*;
+import java.awt.event.*;
+import java.util.concurrent.*;
+import javax.swing.*;
+
+/**
+ * Dialog showing the progress of an algorithm running on a background
+ * thread.  The user may cancel the run, and it is cancelled automatically if
+ * it exceeds a given time limit.  Algorithms that support cancellation (see
+ * {@link MaxSumInterface#maxSumLong(int[], Progress)} and
+ * {@link MaxSumDatasetInterface#maxSum(Dataset, Progress)}) stop promptly
+ * when cancelled; others are abandoned, and run to completion in the
+ * background, as {@link #isAbandoned()} reports.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class RunDialog extends JDialog {
+
+	/**
+	 * The version of the serialized form.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The algorithm finished.
+	 */
+	public static final int OK = 1;
+
+	/**
+	 * The user canceled the run.
+	 */
+	public static final int CANCEL = -1;
+
+	/**
+	 * The run exceeded the time limit.
+	 */
+	public static final int TIMEOUT = -2;
+
+	/**
+	 * The algorithm threw an exception or error.
+	 */
+	public static final int ERROR = -3;
+
+	/**
+	 * The number of milliseconds between updates of the display.
+	 */
+	private static final int POLL_INTERVAL = 100;
+
+	/**
+	 * The number of steps in the progress bar.
+	 */
+	private static final int BAR_STEPS = 1000;
+
+	/**
+	 * The number of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * The executor on which algorithms run.
+	 */
+	private static final ExecutorService EXECUTOR 
+		= Executors.newCachedThreadPool(new WorkerThreadFactory());
+
+	/**
+	 * The record of the progress of the run.
+	 */
+	private final Progress progress = new Progress();
+
+	/**
+	 * The run.
+	 */
+	private final RunTask task;
+
+	/**
+	 * The result of the run.
+	 */
+	private final Future<Long> future;
+
+	/**
+	 * The time limit in seconds, or 0 if there is no limit.
+	 */
+	private final double timeLimit;
+
+	/**
+	 * The time at which the run was started, according to System.nanoTime().
+	 */
+	private final long startTime;
+
+	/**
+	 * The timer that periodically updates the display.
+	 */
+	private final Timer timer;
+
+	/**
+	 * The bar showing the fraction of the work that has been done.
+	 */
+	private JProgressBar bar = new JProgressBar(0, BAR_STEPS);
+
+	/**
+	 * The label showing the elapsed and estimated remaining times.
+	 */
+	private JLabel timeLabel = new JLabel(" ");
+
+	/**
+	 * The exit status - OK, CANCEL, TIMEOUT, or ERROR.
+	 */
+	private int exitStatus;
+
+	/**
+	 * The maximum subsequence sum, if the status is OK.
+	 */
+	private long result;
+
+	/**
+	 * The error thrown by the algorithm, if the status is ERROR.
+	 */
+	private Throwable error;
+
+	/**
+	 * Constructs a new dialog and starts the algorithm.
+	 * 
+	 * @param p         The MaxSum object requesting the run.
+	 * @param name      The name of the algorithm.
+	 * @param alg       The algorithm to run.
+	 * @param data      The data on which to run the algorithm.
+	 * @param timeLimit The time limit in seconds, or 0 if there is no limit.
+	 */
+	public RunDialog(MaxSum p, String name, MaxSumInterface alg, int[] data, 
+			double timeLimit) {
+		this(p, name, new RunTask(alg, data), timeLimit);
+	}
+
+	/**
+	 * Constructs a new dialog and starts the given algorithm on a data set
+	 * that may be stored outside the heap.  The run holds a reference to the
+	 * data set until it finishes, even if it is abandoned.
+	 * 
+	 * @param p         The MaxSum object requesting the run.
+	 * @param name      The name of the algorithm.
+	 * @param alg       The algorithm to run.
+	 * @param data      The data on which to run the algorithm.
+	 * @param timeLimit The time limit in seconds, or 0 if there is no limit.
+	 */
+	public RunDialog(MaxSum p, String name, MaxSumDatasetInterface alg, SharedDataset data, 
+			double timeLimit) {
+		this(p, name, new RunTask(alg, data), timeLimit);
+	}
+
+	/**
+	 * Constructs a new dialog and starts the given instrumented algorithm,
+	 * which adds the operations it performs to the given counts.
+	 * 
+	 * @param p         The MaxSum object requesting the run.
+	 * @param name      The name of the algorithm.
+	 * @param alg       The algorithm to run.
+	 * @param data      The data on which to run the algorithm.
+	 * @param counts    The counts of the operations performed.
+	 * @param timeLimit The time limit in seconds, or 0 if there is no limit.
+	 */
+	public RunDialog(MaxSum p, String name, MaxSumCountedInterface alg, int[] data, 
+			OperationCounts counts, double timeLimit) {
+		this(p, name, new RunTask(alg, data, counts), timeLimit);
+	}
+
+	/**
+	 * Constructs a new dialog and starts the given run.
+	 * 
+	 * @param p         The MaxSum object requesting the run.
+	 * @param name      The name of the algorithm.
+	 * @param task      The run.
+	 * @param timeLimit The time limit in seconds, or 0 if there is no limit.
+	 */
+	private RunDialog(MaxSum p, String name, RunTask task, double timeLimit) {
+		super(p, "Running " + name, true);
+		this.timeLimit = timeLimit;
+
+		Container content = getContentPane();
+		content.setLayout(new GridLayout(3, 1));
+
+		JPanel pan = new JPanel();
+		pan.add(bar);
+		content.add(pan);
+
+		pan = new JPanel();
+		pan.add(timeLabel);
+		content.add(pan);
+
+		pan = new JPanel();
+		JButton b = new JButton("Cancel");
+		b.addActionListener(new StopListener(this));
+		pan.add(b);
+		content.add(pan);
+
+		addWindowListener(new RunCloseListener(this));
+		setDefaultCloseOperation(DO_NOTHING_ON_CLOSE);
+		timeLabel.setText("Elapsed: 0.0 s; remaining: unknown");
+		pack();
+		setLocationRelativeTo(p);
+
+		this.task = task;
+		task.setProgress(progress);
+		startTime = System.nanoTime();
+		future = EXECUTOR.submit(task);
+		timer = new Timer(POLL_INTERVAL, new PollListener(this));
+		timer.start();
+	}
+
+	/**
+	 * Returns the exit status.
+	 * @return The exit status - OK, CANCEL, TIMEOUT, or ERROR.
+	 */
+	public int status() {
+		return exitStatus;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum computed.
+	 * @return The maximum subsequence sum, if the status is OK.
+	 */
+	public long getResult() {
+		return result;
+	}
+
+	/**
+	 * Returns the running time of the algorithm in nanoseconds.
+	 * @return The running time, if the status is OK.
+	 */
+	public long getTime() {
+		return task.getTime();
+	}
+
+	/**
+	 * Returns the elapsed time in seconds since the run was started.
+	 * @return The elapsed time in seconds.
+	 */
+	public double getElapsed() {
+		return (System.nanoTime() - startTime) / NANOS_PER_SECOND;
+	}
+
+	/**
+	 * Returns the error thrown by the algorithm.
+	 * @return The error thrown, if the status is ERROR.
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the run was cancelled but the algorithm is
+	 * still running, because it does not support cancellation.  An algorithm
+	 * that supports cancellation is given POLL_INTERVAL milliseconds to stop.
+	 * @return <tt>true</tt> iff the run continues in the background.
+	 */
+	public boolean isAbandoned() {
+		if (exitStatus != CANCEL && exitStatus != TIMEOUT) return false;
+		try {
+			future.get(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException e) {
+			return true;
+		}
+		catch (ExecutionException | InterruptedException | CancellationException e) {
+			// The run has stopped
+		}
+		return false;
+	}
+
+	/**
+	 * Updates the display, closing the dialog if the run has finished or
+	 * exceeded the time limit.
+	 */
+	void poll() {
+		if (future.isDone()) {
+			try {
+				result = future.get();
+				exitStatus = OK;
+			}
+			catch (ExecutionException e) {
+				error = e.getCause();
+				exitStatus = error instanceof CancellationException ? CANCEL : ERROR;
+			}
+			catch (InterruptedException | CancellationException e) {
+				exitStatus = CANCEL;
+			}
+			close();
+			return;
+		}
+		double elapsed = getElapsed();
+		if (timeLimit > 0 && elapsed > timeLimit) {
+			stop(TIMEOUT);
+			return;
+		}
+		double f = progress.getFraction();
+		String remaining = "unknown";
+		if (f >= 0) {
+			bar.setValue((int) (f * BAR_STEPS));
+			if (f > 0) {
+				remaining = String.format("about %.1f s", elapsed * (1 - f) / f);
+			}
+		}
+		else {
+			bar.setIndeterminate(true);
+		}
+		timeLabel.setText(String.format("Elapsed: %.1f s; remaining: %s", elapsed, 
+				remaining));
+	}
+
+	/**
+	 * Cancels the run and closes the dialog with the given status.
+	 * 
+	 * @param status The exit status - CANCEL or TIMEOUT.
+	 */
+	void stop(int status) {
+		progress.cancel();
+		exitStatus = status;
+		close();
+	}
+
+	/**
+	 * Stops updating the display and closes the dialog.
+	 */
+	private void close() {
+		timer.stop();
+		dispose();
+	}
+}
+
+/**
+ * A run of an algorithm on a data set, recording the running time.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class RunTask implements Callable<Long> {
+
+	/**
+	 * The algorithm to run, or null if it runs on a Dataset.
+	 */
+	private MaxSumInterface alg;
+
+	/**
+	 * The data on which to run the algorithm, or null if it runs on a Dataset.
+	 */
+	private int[] data;
+
+	/**
+	 * The instrumented algorithm to run, or null if the run is not
+	 * instrumented.
+	 */
+	private MaxSumCountedInterface countedAlg;
+
+	/**
+	 * The counts of the operations performed by an instrumented algorithm,
+	 * or null if the run is not instrumented.
+	 */
+	private OperationCounts counts;
+
+	/**
+	 * The algorithm to run on a Dataset, or null if it runs on an array.
+	 */
+	private MaxSumDatasetInterface datasetAlg;
+
+	/**
+	 * The Dataset on which to run the algorithm, or null if it runs on an
+	 * array.  The run holds a reference to it until the run finishes.
+	 */
+	private SharedDataset dataset;
+
+	/**
+	 * The record of the progress of the run.
+	 */
+	private Progress progress = new Progress();
+
+	/**
+	 * The running time in nanoseconds.
+	 */
+	private volatile long time;
+
+	/**
+	 * Constructs a new run of an algorithm on an array.
+	 * 
+	 * @param alg  The algorithm to run.
+	 * @param data The data on which to run the algorithm.
+	 */
+	public RunTask(MaxSumInterface alg, int[] data) {
+		this.alg = alg;
+		this.data = data;
+	}
+
+	/**
+	 * Constructs a new run of an algorithm on a Dataset.  Because an
+	 * abandoned run may continue after the data set has been replaced, the
+	 * run acquires a reference to the data set, which it releases when it
+	 * finishes.
+	 * 
+	 * @param alg  The algorithm to run.
+	 * @param data The data on which to run the algorithm.
+	 * @throws IllegalStateException If the data set has been closed.
+	 */
+	public RunTask(MaxSumDatasetInterface alg, SharedDataset data) {
+		if (!data.acquire()) {
+			throw new IllegalStateException("The data set has been closed.");
+		}
+		datasetAlg = alg;
+		dataset = data;
+	}
+
+	/**
+	 * Constructs a new run of an instrumented algorithm on an array.
+	 * 
+	 * @param alg    The algorithm to run.
+	 * @param data   The data on which to run the algorithm.
+	 * @param counts The counts to which the operations performed are added.
+	 */
+	public RunTask(MaxSumCountedInterface alg, int[] data, OperationCounts counts) {
+		countedAlg = alg;
+		this.data = data;
+		this.counts = counts;
+	}
+
+	/**
+	 * Sets the record of the progress of the run.  This must be done before
+	 * the run starts.
+	 * 
+	 * @param progress The record of the progress of the run.
+	 */
+	public void setProgress(Progress progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Runs the algorithm.
+	 * 
+	 * @return The maximum subsequence sum.
+	 */
+	public Long call() {
+		long start = System.nanoTime();
+		long ms;
+		if (alg != null) ms = alg.maxSumLong(data, progress);
+		else if (countedAlg != null) ms = countedAlg.maxSumCounted(data, counts, progress);
+		else {
+			try {
+				ms = datasetAlg.maxSum(dataset.get(), progress);
+			}
+			finally {
+				dataset.release();
+			}
+		}
+		time = System.nanoTime() - start;
+		return ms;
+	}
+
+	/**
+	 * Returns the running time.
+	 * 
+	 * @return The running time in nanoseconds, or 0 if the run has not
+	 *         completed.
+	 */
+	public long getTime() {
+		return time;
+	}
+}
+
+/**
+ * Creates the threads on which algorithms are run.  The threads are daemon
+ * threads, so that an abandoned run does not prevent the program from
+ * exiting, and they have large stacks, so that deeply recursive algorithms
+ * can handle larger data sets.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class WorkerThreadFactory implements ThreadFactory {
+
+	/**
+	 * The requested stack size in bytes.
+	 */
+	private static final long STACK_SIZE = 1L << 28;
+
+	/**
+	 * Creates a new thread.
+	 * 
+	 * @param r The code the thread is to run.
+	 * @return  The thread.
+	 */
+	public Thread newThread(Runnable r) {
+		Thread t = new Thread(null, r, "MaxSum worker", STACK_SIZE);
+		t.setDaemon(true);
+		return t;
+	}
+}
+
+/**
+ * Event handler for the timer that updates the RunDialog.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class PollListener implements ActionListener {
+
+	/**
+	 * The RunDialog to be updated.
+	 */
+	private RunDialog parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The RunDialog to be updated.
+	 */
+	public PollListener(RunDialog p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by asking the RunDialog to update itself.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.poll();
+	}
+}
+
+/**
+ * Event handler for the "Cancel" button of the RunDialog.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class StopListener implements ActionListener {
+
+	/**
+	 * The RunDialog containing the button.
+	 */
+	private RunDialog parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The RunDialog containing the button.
+	 */
+	public StopListener(RunDialog p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by asking the RunDialog to cancel the run.
+	 */
+	public void actionPerformed(ActionEvent e) {
+		parent.stop(RunDialog.CANCEL);
+	}
+}
+
+/**
+ * Event handler for closing the RunDialog's window.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+class RunCloseListener extends WindowAdapter {
+
+	/**
+	 * The RunDialog to be closed.
+	 */
+	private RunDialog parent;
+
+	/**
+	 * Constructs a new event handler.
+	 * @param p The RunDialog to be closed.
+	 */
+	public RunCloseListener(RunDialog p) {
+		parent = p;
+	}
+
+	/**
+	 * Handles the event by asking the RunDialog to cancel the run.
+	 */
+	public void windowClosing(WindowEvent e) {
+		parent.stop(RunDialog.CANCEL);
+	}
+}
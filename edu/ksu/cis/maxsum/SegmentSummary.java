@@ -0,0 +1,122 @@
+/*
+ * SegmentSummary.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * An immutable summary of a segment of an array, containing everything
+ * needed to compute the maximum subsequence sum of a concatenation of
+ * segments: the total, the maximum prefix sum, the maximum suffix sum, and
+ * the maximum subsequence sum.  Because the empty sequence is allowed, the
+ * last three values are never negative.  Two adjacent summaries are combined
+ * in O(1) time.  The values are longs, so they cannot overflow unless the
+ * number of elements times the largest magnitude of an element exceeds
+ * 2^63, which requires a {@link Dataset} of more than 2^32 elements.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public final class SegmentSummary {
+
+	/**
+	 * The summary of an empty segment.
+	 */
+	public static final SegmentSummary EMPTY = new SegmentSummary(0, 0, 0, 0);
+
+	/**
+	 * The sum of all elements in the segment.
+	 */
+	public final long total;
+
+	/**
+	 * The maximum prefix sum of the segment.
+	 */
+	public final long prefix;
+
+	/**
+	 * The maximum suffix sum of the segment.
+	 */
+	public final long suffix;
+
+	/**
+	 * The maximum subsequence sum of the segment.
+	 */
+	public final long best;
+
+	/**
+	 * Constructs a new summary from its components.
+	 * 
+	 * @param total  The sum of all elements in the segment.
+	 * @param prefix The maximum prefix sum of the segment.
+	 * @param suffix The maximum suffix sum of the segment.
+	 * @param best   The maximum subsequence sum of the segment.
+	 */
+	public SegmentSummary(long total, long prefix, long suffix, long best) {
+		this.total = total;
+		this.prefix = prefix;
+		this.suffix = suffix;
+		this.best = best;
+	}
+
+	/**
+	 * Computes the summary of a[lo..hi-1] in a single left-to-right pass.
+	 * It must be the case that lo <= hi.
+	 * 
+	 * @param a  The array containing the segment.
+	 * @param lo The index of the first element in the segment.
+	 * @param hi One more than the index of the last element in the segment.
+	 * @return   The summary of a[lo..hi-1].
+	 */
+	public static SegmentSummary of(int[] a, int lo, int hi) {
+		long[] s = new long[4];
+		MaxSumLongBU.summarize(a, lo, hi, s, 0);
+		return new SegmentSummary(s[0], s[1], s[2], s[3]);
+	}
+
+	/**
+	 * Computes the summary of elements lo..hi-1 of the given data set in a
+	 * single left-to-right pass.  It must be the case that lo <= hi.
+	 * 
+	 * @param d  The data set containing the segment.
+	 * @param lo The index of the first element in the segment.
+	 * @param hi One more than the index of the last element in the segment.
+	 * @return   The summary of the segment.
+	 */
+	public static SegmentSummary of(Dataset d, long lo, long hi) {
+		long[] s = new long[4];
+		int[] buf = null;
+		while (lo < hi) {
+			long end = Math.min(hi, ((lo >>> Dataset.SEGMENT_SHIFT) + 1) << Dataset.SEGMENT_SHIFT);
+			if (buf == null && end < hi) {
+				buf = new int[Dataset.SEGMENT_SIZE];
+			}
+			MaxSumLongBU.summarize(d.segment(lo, end, buf), s, 0);
+			lo = end;
+		}
+		return new SegmentSummary(s[0], s[1], s[2], s[3]);
+	}
+
+	/**
+	 * Returns the summary of the concatenation of this segment followed by
+	 * the given segment.
+	 * 
+	 * @param right The summary of the segment immediately following this one.
+	 * @return      The summary of the combined segment.
+	 */
+	public SegmentSummary combine(SegmentSummary right) {
+		return new SegmentSummary(total + right.total,
+				Math.max(prefix, total + right.prefix),
+				Math.max(right.suffix, right.total + suffix),
+				Math.max(Math.max(best, right.best), suffix + right.prefix));
+	}
+
+	public String toString() {
+		return "[total=" + total + ", prefix=" + prefix + ", suffix=" + suffix
+				+ ", best=" + best + "]";
+	}
+}
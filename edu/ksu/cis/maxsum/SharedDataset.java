@@ -0,0 +1,81 @@
+/*
+ * SharedDataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+
+/**
+ * A data set shared by the main window and the computations reading it in
+ * the background.  A cancelled run stops only when it next checks for
+ * cancellation, so it may still be reading the data set after it has been
+ * replaced.  The data set is therefore reference-counted: the
+ * owner holds one reference when it is constructed, each background
+ * computation acquires another before it starts and releases it when it
+ * finishes, and the data set is closed when the last reference is
+ * released.  Its memory is thus freed as soon as nothing can read it, and
+ * never while something can.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+final class SharedDataset {
+
+	/**
+	 * The data set.
+	 */
+	private final Dataset data;
+
+	/**
+	 * The number of references not yet released.
+	 */
+	private int references = 1;
+
+	/**
+	 * Constructs a shared data set, with one reference held by the caller.
+	 *
+	 * @param d The data set.
+	 */
+	SharedDataset(Dataset d) {
+		data = d;
+	}
+
+	/**
+	 * Returns the data set.  The caller must hold a reference.
+	 *
+	 * @return The data set.
+	 */
+	Dataset get() {
+		return data;
+	}
+
+	/**
+	 * Acquires a reference, if the data set has not been closed.
+	 *
+	 * @return <tt>true</tt> iff a reference was acquired, in which case the
+	 *         caller must eventually release it.
+	 */
+	synchronized boolean acquire() {
+		if (references == 0) return false;
+		references++;
+		return true;
+	}
+
+	/**
+	 * Releases a reference, closing the data set if it was the last.
+	 */
+	void release() {
+		synchronized (this) {
+			if (--references > 0) return;
+		}
+		try {
+			data.close();
+		}
+		catch (IOException e) {
+			// Only the memory is affected, and the garbage collector will release it
+		}
+	}
+}
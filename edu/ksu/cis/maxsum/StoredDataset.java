@@ -0,0 +1,64 @@
+/*
+ * StoredDataset.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.nio.IntBuffer;
+
+/**
+ * A data set whose elements are stored, in chunks, each an IntBuffer holding
+ * CHUNK_SIZE elements (except possibly the last), so that algorithms can
+ * process a chunk at a time using int indices, and so that the elements can
+ * be written in place, as when a data set is loaded from a file.  Each chunk
+ * consists of whole segments, so a segment is a view of part of a chunk.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public interface StoredDataset extends Dataset {
+
+	/**
+	 * The base-2 logarithm of the number of elements in a chunk.
+	 */
+	public static final int CHUNK_SHIFT = 28;
+
+	/**
+	 * The number of elements in each chunk except possibly the last.
+	 */
+	public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+	/**
+	 * Returns the number of chunks.
+	 * 
+	 * @return The number of chunks.
+	 */
+	public int chunkCount();
+
+	/**
+	 * Returns the given chunk.  Element i of chunk k is element
+	 * k * CHUNK_SIZE + i of the data set, and the chunk's limit is its number
+	 * of elements.  The buffer should be accessed only with absolute get and
+	 * put methods, as it may be shared.
+	 * 
+	 * @param k The index of the chunk.
+	 * @return  Chunk k.
+	 */
+	public IntBuffer chunk(int k);
+
+	/**
+	 * Returns elements lo through hi - 1, which must be in the same segment,
+	 * as a view of the chunk containing them.
+	 * 
+	 * @param lo  The index of the first element.
+	 * @param hi  One more than the index of the last element.
+	 * @param buf Not used.
+	 * @return    Elements lo through hi - 1.
+	 */
+	public default IntBuffer segment(long lo, long hi, int[] buf) {
+		int k = (int) (lo >>> CHUNK_SHIFT);
+		return chunk(k).slice((int) (lo - ((long) k << CHUNK_SHIFT)), (int) (hi - lo));
+	}
+}
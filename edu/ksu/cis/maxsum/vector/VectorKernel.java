@@ -0,0 +1,135 @@
+/*
+ * VectorKernel.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum.vector;
+
+import edu.ksu.cis.maxsum.MaxSumBU;
+import edu.ksu.cis.maxsum.MaxSumInterface;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Class implementing the bottom-up maximum subsequence sum algorithm using
+ * the (incubating) Vector API.  This class is not meant to be used directly;
+ * it is loaded by {@link edu.ksu.cis.maxsum.MaxSumVector} only if the
+ * jdk.incubator.vector module is available.  It must therefore be compiled
+ * separately from the rest of the program:
+ * <pre>
+ * javac --add-modules jdk.incubator.vector edu/ksu/cis/maxsum/vector/*.java
+ * </pre>
+ * 
+ * The algorithm maintains the same maximum suffix sum msuf as
+ * {@link edu.ksu.cis.maxsum.MaxSumBU}, but advances it a full vector of
+ * elements at a time.  Within a vector, each lane j computes the maximum
+ * suffix sum c and the total d of the lanes 0..j using a logarithmic-step
+ * scan; the maximum suffix sums for the vector are then max(c, msuf + d).
+ * The maximum subsequence sum is accumulated lane-wise and reduced at the end.
+ * <p>
+ * The lanes add the elements in a different order than MaxSumBU does, so if
+ * any sum overflows, the two may produce different results.  Overflow is
+ * therefore ruled out as the elements are processed.  The sums within a
+ * vector are bounded by twice the number of lanes times the largest
+ * magnitude of an element, so the smallest and largest elements are
+ * accumulated lane-wise and this bound is checked at the end.  The only
+ * other sums are msuf + d, which, as in {@link edu.ksu.cis.maxsum.MaxSumChecked},
+ * can only overflow when d is nonnegative and the result is negative; this is
+ * also recorded lane-wise.  If either check fails, the result is recomputed
+ * by MaxSumBU.  Otherwise, no sum overflowed, so the result is identical to
+ * that of MaxSumBU.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class VectorKernel implements MaxSumInterface {
+
+	/**
+	 * The species used for all vectors.
+	 */
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	/**
+	 * The smallest number of lanes for which vectorization is worthwhile.
+	 */
+	private static final int MIN_LANES = 4;
+
+	/**
+	 * The number of lanes in a vector.
+	 */
+	private static final int LANES = SPECIES.length();
+
+	/**
+	 * A shuffle broadcasting the last lane to all lanes.
+	 */
+	private static final VectorShuffle<Integer> LAST
+		= VectorShuffle.iota(SPECIES, LANES - 1, 0, false);
+
+	/**
+	 * The algorithm used when a sum may have overflowed.
+	 */
+	private static final MaxSumBU SCALAR = new MaxSumBU();
+
+	/**
+	 * Constructs a new kernel.
+	 * 
+	 * @throws UnsupportedOperationException If the preferred vector species has
+	 *                                       too few lanes for vectorization to
+	 *                                       be worthwhile.
+	 */
+	public VectorKernel() {
+		if (LANES < MIN_LANES) {
+			throw new UnsupportedOperationException("Only " + LANES
+					+ " lanes available.");
+		}
+	}
+
+	public int maxSum(int[] a) {
+		IntVector zero = IntVector.zero(SPECIES);
+		IntVector mv = zero;
+		IntVector msufv = zero;
+		IntVector minv = zero;
+		IntVector maxv = zero;
+		IntVector overflowv = zero;
+		int bound = SPECIES.loopBound(a.length);
+		int i = 0;
+		// Invariant: every lane of msufv is the maximum suffix sum for a[0..i-1],
+		//            the maximum of the lanes of mv is the maximum
+		//            subsequence sum for a[0..i-1], the lanes of minv and maxv
+		//            bound the elements of a[0..i-1], and some lane of
+		//            overflowv is negative iff computing msuf + d overflowed
+		for (; i < bound; i += LANES) {
+			IntVector d = IntVector.fromArray(SPECIES, a, i);
+			minv = minv.min(d);
+			maxv = maxv.max(d);
+			IntVector c = d.max(zero);
+			for (int k = 1; k < LANES; k <<= 1) {
+				IntVector cs = zero.slice(LANES - k, c);
+				IntVector ds = zero.slice(LANES - k, d);
+				c = c.max(cs.add(d));
+				d = d.add(ds);
+			}
+			IntVector sum = msufv.add(d);
+			overflowv = overflowv.or(sum.lanewise(VectorOperators.AND_NOT, d));
+			IntVector suf = c.max(sum);
+			mv = mv.max(suf);
+			msufv = suf.rearrange(LAST);
+		}
+		long magnitude = Math.max(maxv.reduceLanes(VectorOperators.MAX),
+				-(long) minv.reduceLanes(VectorOperators.MIN));
+		if (magnitude * 2 * LANES > Integer.MAX_VALUE
+				|| overflowv.reduceLanes(VectorOperators.OR) < 0) {
+			return SCALAR.maxSum(a);
+		}
+		int m = mv.reduceLanes(VectorOperators.MAX);
+		int msuf = msufv.lane(0);
+		for (; i < a.length; i++) {
+			msuf = Math.max(0, msuf + a[i]);
+			m = Math.max(m, msuf);
+		}
+		return m;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * AccumulatorTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumAccumulator} against {@link BruteForce}: elements
+ * supplied one at a time, in chunks, and as streams, and accumulators for
+ * adjacent parts combined in order.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class AccumulatorTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(19);
+		for (int t = 0; t < 200; t++) {
+			int[] a = BruteForce.random(r, r.nextInt(60), 50);
+			long expected = BruteForce.maxSum(a)[0];
+			String name = " on " + Arrays.toString(a);
+			MaxSumAccumulator whole = new MaxSumAccumulator();
+			whole.accept(a);
+			check(whole.maxSum() == expected, "accept(int[])" + name);
+			check(whole.summary().best == expected, "summary" + name);
+			MaxSumAccumulator single = new MaxSumAccumulator();
+			for (int x : a) {
+				single.accept(x);
+			}
+			check(single.maxSum() == expected, "accept(int)" + name);
+			MaxSumAccumulator chunks = new MaxSumAccumulator();
+			// Invariant: a[0..lo-1] has been accepted in chunks
+			for (int lo = 0; lo < a.length; ) {
+				int hi = lo + 1 + r.nextInt(Math.min(8, a.length - lo));
+				chunks.accept(a, lo, hi);
+				lo = hi;
+			}
+			check(chunks.maxSum() == expected, "accept(int[], int, int)" + name);
+			int mid = r.nextInt(a.length + 1);
+			MaxSumAccumulator left = new MaxSumAccumulator();
+			MaxSumAccumulator right = new MaxSumAccumulator();
+			left.accept(a, 0, mid);
+			right.accept(a, mid, a.length);
+			left.combine(right);
+			check(left.maxSum() == expected, "combine" + name);
+			check(MaxSumAccumulator.maxSum(Arrays.stream(a)) == expected, "maxSum(IntStream)" + name);
+			check(MaxSumAccumulator.maxSum(Arrays.stream(a).parallel()) == expected,
+					"maxSum(IntStream) on a parallel stream" + name);
+			whole.reset();
+			check(whole.maxSum() == 0 && whole.summary().total == 0, "reset" + name);
+		}
+		System.out.println("AccumulatorTest: passed");
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * AlgorithmTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of the algorithms implementing {@link MaxSumInterface} against
+ * {@link BruteForce}: the int and long results on small and larger arrays,
+ * and on inputs whose sums overflow an int, where {@link MaxSumVector} must
+ * still agree with {@link MaxSumBU}.  The location contract of
+ * {@link MaxSumInterface#maxSum(int[], MaxSumResult)} is checked on all of
+ * these inputs, including, for the algorithms sharing the bottom-up
+ * tie-breaking, which subsequence is located.  The versions of {@link MaxSumLongBU}
+ * and {@link MaxSumLongDC} for long arrays are also tested.  The parallel
+ * algorithms are given small grain sizes so that their tasks are actually
+ * divided, and {@link MaxSumLDC} a small leaf size so that its recursion is
+ * deep.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class AlgorithmTest {
+
+	/**
+	 * The pool used by the parallel algorithms.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * The names of the algorithms tested.
+	 */
+	private static final String[] NAMES = {"MaxSumIter", "MaxSumOpt", "MaxSumTD", "MaxSumDC",
+			"MaxSumBU", "MaxSumFJ", "MaxSumLDC", "MaxSumVector",
+			"MaxSumLongBU", "MaxSumLongDC", "MaxSumChecked", "MaxSumTDMemo"};
+
+	/**
+	 * The algorithms tested, in the order of NAMES.
+	 */
+	private static final MaxSumInterface[] ALGORITHMS = {new MaxSumIter(), new MaxSumOpt(),
+			new MaxSumTD(), new MaxSumDC(), new MaxSumBU(), new MaxSumFJ(4, POOL),
+			new MaxSumLDC(2), new MaxSumVector(), new MaxSumLongBU(), new MaxSumLongDC(),
+			new MaxSumChecked(), new MaxSumTDMemo()};
+
+	/**
+	 * The names of the algorithms that locate, of the subsequences having the
+	 * maximum sum, the one ending first, then starting last.  The others
+	 * need only locate some subsequence having the maximum sum.
+	 */
+	private static final String ORDERED = " MaxSumBU MaxSumFJ MaxSumLDC MaxSumVector MaxSumLongBU "
+			+ "MaxSumLongDC MaxSumChecked MaxSumTD MaxSumTDMemo ";
+
+	/**
+	 * The algorithms whose maxSumLong is exact even when sums overflow an
+	 * int.
+	 */
+	private static final MaxSumInterface[] WIDE = {new MaxSumFJ(4, POOL), new MaxSumLongBU(),
+			new MaxSumLongDC(), new MaxSumChecked()};
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(17);
+		small(r);
+		overflow(r);
+		large(r);
+		longs(r);
+		POOL.shutdown();
+		System.out.println("AlgorithmTest: passed");
+	}
+
+	/**
+	 * Compares every algorithm with the brute-force results on small random
+	 * arrays, including empty and all-negative ones.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void small(Random r) {
+		for (int t = 0; t < 400; t++) {
+			int[] a = BruteForce.random(r, r.nextInt(50), 1 + r.nextInt(30));
+			if (t % 10 == 0) {
+				for (int i = 0; i < a.length; i++) {
+					a[i] = -1 - Math.abs(a[i]);
+				}
+			}
+			long[] expected = BruteForce.maxSum(a);
+			for (int k = 0; k < ALGORITHMS.length; k++) {
+				String name = NAMES[k] + " on test " + t;
+				check(ALGORITHMS[k].maxSum(a) == expected[0], name + ": wrong int result");
+				check(ALGORITHMS[k].maxSumLong(a) == expected[0], name + ": wrong long result");
+				checkRange(ALGORITHMS[k].maxSum(a, new MaxSumResult()), expected, a,
+						ORDERED.contains(" " + NAMES[k] + " "), name);
+			}
+		}
+	}
+
+	/**
+	 * Checks the results of the WIDE algorithms on arrays whose sums
+	 * overflow an int.  Their long results must be exact, and their int
+	 * results must be exact or throw an ArithmeticException.  The int
+	 * results of MaxSumVector must match those of MaxSumBU.  Every located
+	 * result must be exact.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void overflow(Random r) {
+		for (int t = 0; t < 300; t++) {
+			int[] a = BruteForce.extreme(r, r.nextInt(40));
+			long[] expected = BruteForce.maxSum(a);
+			for (int k = 0; k < ALGORITHMS.length; k++) {
+				checkRange(ALGORITHMS[k].maxSum(a, new MaxSumResult()), expected, a,
+						ORDERED.contains(" " + NAMES[k] + " "), NAMES[k] + " on overflow test " + t);
+			}
+			for (MaxSumInterface alg : WIDE) {
+				String name = alg.getClass().getSimpleName() + " on overflow test " + t;
+				check(alg.maxSumLong(a) == expected[0], name + ": wrong long result");
+				try {
+					check(alg.maxSum(a) == expected[0], name + ": wrong int result");
+				}
+				catch (ArithmeticException e) {
+					check(expected[0] > Integer.MAX_VALUE, name + ": spurious overflow");
+				}
+			}
+			check(new MaxSumVector().maxSum(a) == new MaxSumBU().maxSum(a),
+					"MaxSumVector differs from MaxSumBU on overflow test " + t);
+		}
+	}
+
+	/**
+	 * Compares the faster algorithms with the brute-force results on larger
+	 * arrays.  All of them must be exact while the sums fit in an int; once
+	 * the elements are large enough to overflow the vector lanes, only the
+	 * WIDE algorithms are checked, and MaxSumVector must match MaxSumBU.
+	 * The located results must be exact in either case.  Finally,
+	 * MaxSumTDMemo, whose recursion is not on the call stack, is run on an
+	 * array far too large for MaxSumTD.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void large(Random r) {
+		for (int t = 0; t < 6; t++) {
+			int max = t < 3 ? 1000 : Integer.MAX_VALUE / 2;
+			int[] a = BruteForce.random(r, 1000 + r.nextInt(2000), max);
+			long[] expected = BruteForce.maxSum(a);
+			for (int k = 0; k < ALGORITHMS.length && t < 3; k++) {
+				if (NAMES[k].equals("MaxSumIter") || NAMES[k].equals("MaxSumTD")) continue;
+				check(ALGORITHMS[k].maxSum(a) == expected[0], NAMES[k] + " on large test " + t);
+			}
+			for (int k = 0; k < ALGORITHMS.length; k++) {
+				if (NAMES[k].equals("MaxSumIter") || NAMES[k].equals("MaxSumTD")) continue;
+				checkRange(ALGORITHMS[k].maxSum(a, new MaxSumResult()), expected, a,
+						ORDERED.contains(" " + NAMES[k] + " "), NAMES[k] + " on located large test " + t);
+			}
+			for (MaxSumInterface alg : WIDE) {
+				check(alg.maxSumLong(a) == expected[0],
+						alg.getClass().getSimpleName() + " on large test " + t);
+			}
+			check(new MaxSumVector().maxSum(a) == new MaxSumBU().maxSum(a),
+					"MaxSumVector differs from MaxSumBU on large test " + t);
+		}
+		int[] a = BruteForce.random(r, 1000000, 1000);
+		check(new MaxSumTDMemo().maxSum(a) == new MaxSumBU().maxSum(a),
+				"MaxSumTDMemo on 1000000 elements");
+	}
+
+	/**
+	 * Checks the versions of the 64-bit algorithms for long arrays: their
+	 * results must be exact when no sum overflows a long, they must throw an
+	 * ArithmeticException when one does, and MaxSumLongBU.maxSumBig must then
+	 * be exact.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void longs(Random r) {
+		for (int t = 0; t < 300; t++) {
+			int[] a = t % 2 == 0 ? BruteForce.extreme(r, r.nextInt(40))
+					: BruteForce.random(r, r.nextInt(40), 100);
+			long[] b = new long[a.length];
+			for (int i = 0; i < a.length; i++) {
+				b[i] = a[i];
+			}
+			long expected = BruteForce.maxSum(a)[0];
+			check(new MaxSumLongBU().maxSum(b) == expected, "MaxSumLongBU on long test " + t);
+			check(new MaxSumLongDC().maxSum(b) == expected, "MaxSumLongDC on long test " + t);
+			check(new MaxSumLongBU().maxSumBig(b).equals(BigInteger.valueOf(expected)),
+					"MaxSumLongBU.maxSumBig on long test " + t);
+		}
+		long[] big = {Long.MAX_VALUE - 5, -3, 9, Long.MIN_VALUE, 4};
+		BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+		check(new MaxSumLongBU().maxSumBig(big).equals(expected), "MaxSumLongBU.maxSumBig");
+		MaxSumLongBU bu = new MaxSumLongBU();
+		MaxSumLongDC dc = new MaxSumLongDC();
+		try {
+			bu.maxSum(big);
+			check(false, "MaxSumLongBU did not detect a long overflow");
+		}
+		catch (ArithmeticException e) {
+			// Expected
+		}
+		try {
+			dc.maxSum(big);
+			check(false, "MaxSumLongDC did not detect a long overflow");
+		}
+		catch (ArithmeticException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Checks a located result against the brute-force result.
+	 *
+	 * @param m        The located result.
+	 * @param expected The brute-force sum, start, and end.
+	 * @param a        The array.
+	 * @param ordered  <tt>true</tt> iff the location must be the one ending
+	 *                 first, then starting last.
+	 * @param name     A description of the test.
+	 */
+	static void checkRange(MaxSumResult m, long[] expected, int[] a, boolean ordered,
+			String name) {
+		check(m.getSum() == expected[0], name + ": wrong located sum " + m + ", expected "
+				+ expected[0]);
+		check(0 <= m.getStart() && m.getStart() <= m.getEnd() && m.getEnd() <= a.length,
+				name + ": the location " + m + " is not a subsequence");
+		check(BruteForce.sum(a, m.getStart(), m.getEnd()) == m.getSum(),
+				name + ": the location " + m + " does not have the sum");
+		check(!ordered || m.getStart() == expected[1] && m.getEnd() == expected[2],
+				name + ": location " + m + " is not the one ending first, then starting last, "
+				+ "a[" + expected[1] + ".." + (expected[2] - 1) + "]");
+	}
+}
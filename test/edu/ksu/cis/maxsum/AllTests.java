@@ -0,0 +1,43 @@
+/*
+ * AllTests.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+/**
+ * Runs all of the tests.  A failing test throws an AssertionError
+ * describing the failure, so the exit status is nonzero if any test fails.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class AllTests {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws Exception If a test cannot be run, e.g., because a temporary
+	 *                   file cannot be used.
+	 */
+	public static void main(String[] args) throws Exception {
+		AlgorithmTest.main(args);
+		AccumulatorTest.main(args);
+		MappedTest.main(args);
+		SegmentTreeTest.main(args);
+		WindowTest.main(args);
+		CancellationTest.main(args);
+		GeneratorTest.main(args);
+		DatasetTest.main(args);
+		DatasetFileTest.main(args);
+		CacheTest.main(args);
+		TwoDimensionalTest.main(args);
+		TopKTest.main(args);
+		BoundedTest.main(args);
+		ManyTest.main(args);
+		DistributedTest.main(args);
+		CountedTest.main(args);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * BoundedTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumBounded} against {@link BruteForce}: the maximum
+ * sum of a subsequence whose length lies between the bounds, and its
+ * location, found sequentially and in parallel.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class BoundedTest {
+
+	/**
+	 * The pool used by the parallel algorithms.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(67);
+		bounded(r);
+		POOL.shutdown();
+		System.out.println("BoundedTest: passed");
+	}
+
+	/**
+	 * Checks the sequential and parallel bounded algorithms, including the
+	 * location of the result, against the brute-force results.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void bounded(Random r) {
+		for (int t = 0; t < 300; t++) {
+			int[] a = t % 3 == 0 ? BruteForce.extreme(r, 1 + r.nextInt(40))
+					: BruteForce.random(r, 1 + r.nextInt(40), 1 + r.nextInt(20));
+			int lower = r.nextInt(a.length + 1);
+			int upper = lower + r.nextInt(a.length + 2 - lower);
+			long[] expected = BruteForce.maxSum(a, lower, upper);
+			MaxSumBounded[] algs = {new MaxSumBounded(lower, upper),
+					new MaxSumBounded(lower, upper, 1, POOL)};
+			for (MaxSumBounded alg : algs) {
+				String name = "MaxSumBounded(" + lower + ", " + upper + ") on " + Arrays.toString(a);
+				AlgorithmTest.checkRange(alg.maxSum(a, new MaxSumResult()), expected, a, true, name);
+				check(alg.maxSumLong(a) == expected[0], name + ": wrong long result");
+				if (lower > 0 || upper < a.length) {
+					try {
+						check(alg.maxSum(a) == expected[0], name + ": wrong int result");
+					}
+					catch (ArithmeticException e) {
+						check(expected[0] != (int) expected[0], name + ": spurious overflow");
+					}
+				}
+			}
+		}
+		try {
+			new MaxSumBounded(3, 5).maxSum(new int[2]);
+			check(false, "MaxSumBounded accepted an array shorter than its lower bound");
+		}
+		catch (IllegalArgumentException e) {
+			// Expected
+		}
+	}
+}
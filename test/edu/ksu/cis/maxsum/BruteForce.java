@@ -0,0 +1,146 @@
+/*
+ * BruteForce.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Random;
+
+/**
+ * Reference computations for the tests, written as directly as possible
+ * from the definitions by enumerating every subsequence, together with the
+ * generation of test inputs and a simple check.  Sums are computed with
+ * 64-bit accumulators, so the results are correct for any int elements.
+ * Locations follow the convention of the algorithms: of subsequences having
+ * the maximum sum, the one ending first, then starting last, is chosen, and
+ * a maximum sum of 0 is located at the empty subsequence a[0..-1].
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+final class BruteForce {
+
+	/**
+	 * This class is not meant to be instantiated.
+	 */
+	private BruteForce() {
+	}
+
+	/**
+	 * Throws an AssertionError with the given message if the given condition
+	 * is false.
+	 *
+	 * @param condition The condition that must hold.
+	 * @param message   A description of the failure.
+	 */
+	static void check(boolean condition, String message) {
+		if (!condition) {
+			throw new AssertionError(message);
+		}
+	}
+
+	/**
+	 * Returns the sum of a[lo..hi-1].
+	 *
+	 * @param a  The array.
+	 * @param lo The index of the first element.
+	 * @param hi One more than the index of the last element.
+	 * @return   The sum.
+	 */
+	static long sum(int[] a, int lo, int hi) {
+		long s = 0;
+		for (int i = lo; i < hi; i++) {
+			s += a[i];
+		}
+		return s;
+	}
+
+	/**
+	 * Returns the maximum sum of a subsequence of a whose length is between
+	 * the given bounds, with its location.
+	 *
+	 * @param a     The array.
+	 * @param lower The smallest length allowed.
+	 * @param upper The largest length allowed.
+	 * @return      The maximum sum, the index of the first element, and one
+	 *              more than the index of the last element; or null if no
+	 *              subsequence has an allowed length.
+	 */
+	static long[] maxSum(int[] a, int lower, int upper) {
+		long[] p = new long[a.length + 1];
+		for (int i = 0; i < a.length; i++) {
+			p[i + 1] = p[i] + a[i];
+		}
+		long[] best = null;
+		// Ends are tried in increasing order and starts in decreasing order,
+		// and only a strictly larger sum replaces the best
+		for (int end = 0; end <= a.length; end++) {
+			for (int start = end; start >= 0; start--) {
+				int len = end - start;
+				if (len < lower || len > upper) continue;
+				long s = p[end] - p[start];
+				if (best == null || s > best[0]) {
+					best = new long[] {s, start, end};
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the maximum subsequence sum of a, with its location.
+	 *
+	 * @param a The array.
+	 * @return  The maximum sum, the index of the first element, and one more
+	 *          than the index of the last element.
+	 */
+	static long[] maxSum(int[] a) {
+		return maxSum(a, 0, a.length);
+	}
+
+	/**
+	 * Returns an array of random elements between -max and max, inclusive.
+	 *
+	 * @param r   The random number generator.
+	 * @param n   The number of elements.
+	 * @param max The upper limit on the elements.
+	 * @return    The array.
+	 */
+	static int[] random(Random r, int n, int max) {
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) {
+			a[i] = r.nextInt(2 * max + 1) - max;
+		}
+		return a;
+	}
+
+	/**
+	 * Returns an array whose elements are mostly near Integer.MAX_VALUE or
+	 * Integer.MIN_VALUE, so that sums of a few elements overflow an int.
+	 *
+	 * @param r The random number generator.
+	 * @param n The number of elements.
+	 * @return  The array.
+	 */
+	static int[] extreme(Random r, int n) {
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) {
+			switch (r.nextInt(4)) {
+			case 0:
+				a[i] = Integer.MAX_VALUE - r.nextInt(3);
+				break;
+			case 1:
+				a[i] = Integer.MIN_VALUE + r.nextInt(3);
+				break;
+			case 2:
+				a[i] = r.nextInt(2000000001) - 1000000000;
+				break;
+			default:
+				a[i] = r.nextInt(5) - 2;
+			}
+		}
+		return a;
+	}
+}
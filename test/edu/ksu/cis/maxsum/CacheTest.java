@@ -0,0 +1,104 @@
+/*
+ * CacheTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumCache}: data set ids, generation and least-recently-
+ * used eviction of the data sets kept, and the table of results as it grows.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class CacheTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		ids();
+		data();
+		results();
+		System.out.println("CacheTest: passed");
+	}
+
+	/**
+	 * Checks that the same parameters always give the same id, and that
+	 * different parameters and unknown data sets give different ids.
+	 */
+	private static void ids() {
+		MaxSumCache c = new MaxSumCache();
+		int id = c.getId(1000, 10, 7, false);
+		check(c.getId(1000, 10, 7, false) == id, "the same parameters gave a new id");
+		int[] others = {c.getId(1001, 10, 7, false), c.getId(1000, 11, 7, false),
+				c.getId(1000, 10, 8, false), c.getId(1000, 10, 7, true), c.newId(), c.newId()};
+		for (int i = 0; i < others.length; i++) {
+			check(others[i] != id, "different parameters gave the same id");
+			for (int j = 0; j < i; j++) {
+				check(others[i] != others[j], "two data sets were given the same id");
+			}
+		}
+	}
+
+	/**
+	 * Checks that generated data sets are kept and equal those of
+	 * {@link DataGenerator}, and that the least recently used are evicted to
+	 * stay within the budget.
+	 */
+	private static void data() {
+		MaxSumCache c = new MaxSumCache(3 * 100 * Integer.BYTES);
+		int[] a = c.generate(100, 50, 1, false);
+		check(Arrays.equals(a, DataGenerator.generate(100, 50, 1)), "wrong generated data set");
+		check(c.generate(100, 50, 1, false) == a, "a kept data set was generated again");
+		int[] b = c.generate(100, 50, 2, true);
+		check(Arrays.equals(b, DataGenerator.generate(100, 50, new Random(2))),
+				"wrong compatible data set");
+		c.generate(100, 50, 3, false);
+		check(c.getData(100, 50, 1, false) == a, "a data set within the budget was evicted");
+		c.generate(100, 50, 4, false);
+		check(c.getData(100, 50, 2, true) == null, "the least recently used was not evicted");
+		check(c.getData(100, 50, 1, false) == a && c.getData(100, 50, 3, false) != null
+				&& c.getData(100, 50, 4, false) != null, "a recently used data set was evicted");
+		c.putData(301, 50, 5, false, new int[301]);
+		check(c.getData(301, 50, 5, false) == null, "a data set larger than the budget was kept");
+		check(c.getData(100, 50, 1, false) == a, "a data set too large to keep evicted others");
+	}
+
+	/**
+	 * Checks that results are kept, replaced, and distinguished by data set
+	 * and algorithm, as the table grows.
+	 */
+	private static void results() {
+		MaxSumCache c = new MaxSumCache();
+		for (int id = 0; id < 200; id++) {
+			for (int alg = 0; alg < 5; alg++) {
+				c.putResult(id, alg, id * 10L + alg, id * 1000L + alg);
+			}
+		}
+		c.putResult(7, 3, -1, -2);
+		for (int id = 0; id < 200; id++) {
+			for (int alg = 0; alg < 6; alg++) {
+				String name = "the result of algorithm " + alg + " on data set " + id;
+				if (alg == 5) check(!c.hasResult(id, alg), name + " is known");
+				else if (id == 7 && alg == 3) {
+					check(c.getSum(id, alg) == -1 && c.getTime(id, alg) == -2, name
+							+ " was not replaced");
+				}
+				else {
+					check(c.hasResult(id, alg) && c.getSum(id, alg) == id * 10L + alg
+							&& c.getTime(id, alg) == id * 1000L + alg, name + " is wrong");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * CancellationTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of the algorithms that support cancellation through a
+ * {@link Progress}: they must stop when cancellation has been requested, and
+ * otherwise return the same result as without a Progress, completing their
+ * progress where they record it.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class CancellationTest {
+
+	/**
+	 * The pool used by the parallel algorithm.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * The algorithms for arrays that support cancellation.
+	 */
+	private static final MaxSumInterface[] ALGORITHMS = {new MaxSumIter(), new MaxSumOpt(),
+			new MaxSumTD(), new MaxSumDC()};
+
+	/**
+	 * The algorithms for data sets, all of which support cancellation.
+	 */
+	private static final MaxSumDatasetInterface[] DATASET_ALGORITHMS = {new MaxSumDatasetBU(),
+			new MaxSumDatasetDC(), new MaxSumDatasetFJ(1000, POOL)};
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(47);
+		int[] a = BruteForce.random(r, 2000, 100);
+		long expected = new MaxSumBU().maxSumLong(a);
+		for (MaxSumInterface alg : ALGORITHMS) {
+			String name = alg.getClass().getSimpleName();
+			Progress p = new Progress();
+			check(alg.maxSumLong(a, p) == expected, name + " with progress");
+			check(p.getFraction() == 1, name + " did not complete its progress");
+			p = new Progress();
+			p.cancel();
+			try {
+				alg.maxSumLong(a, p);
+				check(false, name + " ignored cancellation");
+			}
+			catch (CancellationException e) {
+				// Expected
+			}
+		}
+		int[] b = BruteForce.random(r, 3 * Dataset.SEGMENT_SIZE + 11, 1000);
+		Dataset d = new ArrayDataset(b);
+		expected = new MaxSumBU().maxSumLong(b);
+		for (MaxSumDatasetInterface alg : DATASET_ALGORITHMS) {
+			String name = alg.getClass().getSimpleName();
+			Progress p = new Progress();
+			check(alg.maxSum(d, p) == expected, name + " with progress");
+			check(alg instanceof MaxSumDatasetFJ || p.getFraction() == 1,
+					name + " did not complete its progress");
+			p = new Progress();
+			p.cancel();
+			try {
+				alg.maxSum(d, p);
+				check(false, name + " ignored cancellation");
+			}
+			catch (CancellationException e) {
+				// Expected
+			}
+		}
+		POOL.shutdown();
+		System.out.println("CancellationTest: passed");
+	}
+}
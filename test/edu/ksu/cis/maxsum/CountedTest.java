@@ -0,0 +1,85 @@
+/*
+ * CountedTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of the instrumented algorithms implementing
+ * {@link MaxSumCountedInterface}: their results against {@link BruteForce},
+ * the operations counted, and their progress and cancellation.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class CountedTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(79);
+		counted(r);
+		System.out.println("CountedTest: passed");
+	}
+
+	/**
+	 * Checks that each instrumented algorithm returns the brute-force result
+	 * and counts some operations, and that MaxSumBUCounted and
+	 * MaxSumTDCounted count exactly the operations their documentation
+	 * gives.  The algorithms recording progress must
+	 * complete it and stop when cancelled; {@link MaxSumBUCounted}, like
+	 * {@link MaxSumBU}, supports neither.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void counted(Random r) {
+		MaxSumCountedInterface[] algs = {new MaxSumIterCounted(), new MaxSumOptCounted(),
+				new MaxSumTDCounted(), new MaxSumDCCounted(), new MaxSumBUCounted()};
+		for (MaxSumCountedInterface alg : algs) {
+			String name = alg.getClass().getSimpleName();
+			boolean tracked = !(alg instanceof MaxSumBUCounted);
+			for (int t = 0; t < 20; t++) {
+				int[] a = BruteForce.random(r, 1 + r.nextInt(60), 30);
+				OperationCounts c = new OperationCounts();
+				Progress p = new Progress();
+				check(alg.maxSumCounted(a, c, p) == BruteForce.maxSum(a)[0],
+						name + " on " + Arrays.toString(a));
+				check(!tracked || Math.abs(p.getFraction() - 1) < 1e-9,
+						name + " did not complete its progress: " + p.getFraction());
+				check(c.getReads() > 0 && c.getComparisons() > 0, name + " counted nothing");
+			}
+			int[] a = BruteForce.random(r, 50, 30);
+			OperationCounts c = new OperationCounts();
+			alg.maxSumCounted(a, c, new Progress());
+			if (alg instanceof MaxSumBUCounted) {
+				check(c.getReads() == 50 && c.getAdditions() == 50 && c.getComparisons() == 100,
+						name + " miscounted: " + c);
+			}
+			else if (alg instanceof MaxSumTDCounted) {
+				check(c.getReads() == 50 * 51 / 2 && c.getMaxDepth() == 52,
+						name + " miscounted: " + c);
+			}
+			if (!tracked) continue;
+			Progress p = new Progress();
+			p.cancel();
+			try {
+				alg.maxSumCounted(new int[2000], new OperationCounts(), p);
+				check(false, name + " ignored cancellation");
+			}
+			catch (CancellationException e) {
+				// Expected
+			}
+		}
+	}
+}
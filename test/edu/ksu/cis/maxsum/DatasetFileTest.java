@@ -0,0 +1,139 @@
+/*
+ * DatasetFileTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link DatasetFile}: data sets are written with each combination
+ * of flags and read back into an array, off the heap, and by mapping the
+ * file, and corrupted files must be rejected.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DatasetFileTest {
+
+	/**
+	 * Runs the tests: writes data sets to files with each combination of
+	 * flags, checks the headers and the elements read back, and checks that
+	 * a corrupted element is detected.  Only files large enough that the
+	 * middle of the compressed data encodes elements, rather than the
+	 * compression header or trailer, are corrupted.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws IOException If a temporary file cannot be used.
+	 */
+	public static void main(String[] args) throws IOException {
+		Random r = new Random(53);
+		int[] flagSets = {0, DatasetFile.COMPRESSED, DatasetFile.SEED_GIVEN,
+				DatasetFile.COMPRESSED | DatasetFile.SEED_GIVEN | DatasetFile.COMPATIBLE};
+		int[] sizes = {0, 1, 1000, DatasetFile.HEADER_SIZE + Dataset.SEGMENT_SIZE + 5};
+		Path file = Files.createTempFile("maxsum", ".msds");
+		try {
+			for (int flags : flagSets) {
+				for (int n : sizes) {
+					int[] a = BruteForce.random(r, n, 1000000);
+					String name = n + " elements with flags " + flags;
+					try (ArrayDataset d = new ArrayDataset(a)) {
+						DatasetFile.write(file, d, 1000000, 12345L, flags);
+					}
+					check(DatasetFile.isDatasetFile(file), name + ": not a data set file");
+					DatasetFile f = new DatasetFile(file);
+					check(f.getSize() == n && f.getMax() == 1000000 && f.getSeed() == 12345L,
+							name + ": wrong header");
+					check(f.isCompressed() == ((flags & DatasetFile.COMPRESSED) != 0)
+							&& f.isSeedGiven() == ((flags & DatasetFile.SEED_GIVEN) != 0)
+							&& f.isCompatible() == ((flags & DatasetFile.COMPATIBLE) != 0),
+							name + ": wrong flags");
+					check(Arrays.equals(f.readArray(), a), name + ": readArray");
+					try (OffHeapDataset h = f.readOffHeap()) {
+						check(same(h, a), name + ": readOffHeap");
+					}
+					if (f.isCompressed()) {
+						try {
+							f.map().close();
+							check(false, name + ": a compressed file was mapped");
+						}
+						catch (IOException e) {
+							// Expected
+						}
+					}
+					else {
+						try (MappedIntFile m = f.map()) {
+							check(same(m, a), name + ": map");
+						}
+					}
+					if (n >= 1000) {
+						corrupt(file, flags, n);
+						try {
+							new DatasetFile(file).readArray();
+							check(false, name + ": corruption was not detected");
+						}
+						catch (IOException e) {
+							// Expected
+						}
+					}
+				}
+			}
+			Files.write(file, new byte[] {1, 2, 3});
+			check(!DatasetFile.isDatasetFile(file), "a short file is a data set file");
+		}
+		finally {
+			Files.delete(file);
+		}
+		System.out.println("DatasetFileTest: passed");
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the given data set has the elements of the
+	 * given array.
+	 *
+	 * @param d The data set.
+	 * @param a The array.
+	 * @return  <tt>true</tt> iff d and a have the same elements.
+	 */
+	private static boolean same(Dataset d, int[] a) {
+		if (d.size() != a.length) return false;
+		for (int i = 0; i < a.length; i++) {
+			if (d.get(i) != a[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Changes one byte in the middle of the elements stored in the given
+	 * file, which are compressed or not as given by the flags.
+	 *
+	 * @param file  The file.
+	 * @param flags The flags with which the file was written.
+	 * @param n     The number of elements.
+	 * @throws IOException If the file cannot be changed.
+	 */
+	private static void corrupt(Path file, int flags, int n) throws IOException {
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			long pos = (flags & DatasetFile.COMPRESSED) != 0
+					? (DatasetFile.HEADER_SIZE + ch.size()) / 2
+					: DatasetFile.HEADER_SIZE + (long) Integer.BYTES * (n / 2);
+			ByteBuffer b = ByteBuffer.allocate(1);
+			ch.read(b, pos);
+			b.put(0, (byte) (b.get(0) ^ 0x10));
+			b.rewind();
+			ch.write(b, pos);
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * DatasetTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of the data sets stored on and off the heap and of the algorithms
+ * implementing {@link MaxSumDatasetInterface}, including the location found
+ * by {@link MaxSumDatasetBU#maxSumRange(Dataset, long[])}, and of the
+ * reference counting of {@link SharedDataset}.  Data sets generated by
+ * {@link GeneratedDataset} and {@link OffHeapDataset#generate(long, int, long)}
+ * must equal those of {@link DataGenerator}.  Small data sets
+ * are checked against {@link BruteForce}; data sets spanning several
+ * segments are checked against {@link MaxSumLongBU}, which
+ * {@link AlgorithmTest} checks against {@link BruteForce}.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DatasetTest {
+
+	/**
+	 * The pool used by the parallel algorithms.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * The algorithms tested.
+	 */
+	private static final MaxSumDatasetInterface[] ALGORITHMS = {new MaxSumDatasetBU(),
+			new MaxSumDatasetDC(), new MaxSumDatasetFJ(1000, POOL)};
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws IOException If a data set cannot be closed.
+	 */
+	public static void main(String[] args) throws IOException {
+		Random r = new Random(29);
+		small(r);
+		large(r);
+		generated();
+		shared();
+		POOL.shutdown();
+		System.out.println("DatasetTest: passed");
+	}
+
+	/**
+	 * Checks the algorithms and the summaries of segments on small data sets
+	 * against the brute-force results.
+	 *
+	 * @param r The random number generator.
+	 * @throws IOException If a data set cannot be closed.
+	 */
+	private static void small(Random r) throws IOException {
+		for (int t = 0; t < 200; t++) {
+			int[] a = t % 3 == 0 ? BruteForce.extreme(r, r.nextInt(60))
+					: BruteForce.random(r, r.nextInt(60), 1 + r.nextInt(30));
+			long[] expected = BruteForce.maxSum(a);
+			checkAll(a, expected, "small test " + t);
+			check(SegmentSummary.of(a, 0, a.length).best == expected[0],
+					"SegmentSummary.of on small test " + t);
+			int mid = r.nextInt(a.length + 1);
+			check(SegmentSummary.of(a, 0, mid).combine(SegmentSummary.of(a, mid, a.length)).best
+					== expected[0], "SegmentSummary.combine on small test " + t);
+		}
+	}
+
+	/**
+	 * Checks the algorithms on data sets spanning several segments, whose
+	 * maximum subsequences may cross segment boundaries.
+	 *
+	 * @param r The random number generator.
+	 * @throws IOException If a data set cannot be closed.
+	 */
+	private static void large(Random r) throws IOException {
+		for (int t = 0; t < 4; t++) {
+			int n = 2 * Dataset.SEGMENT_SIZE + r.nextInt(Dataset.SEGMENT_SIZE);
+			int[] a = t % 2 == 0 ? BruteForce.random(r, n, 1000) : BruteForce.extreme(r, n);
+			MaxSumResult m = new MaxSumLongBU().maxSum(a, new MaxSumResult());
+			checkAll(a, new long[] {m.getSum(), m.getStart(), m.getEnd()}, "large test " + t);
+		}
+	}
+
+	/**
+	 * Checks that generated data sets, whether stored or not, have the
+	 * elements of {@link DataGenerator#generate(int, int, long)}, and that the
+	 * algorithms give the same results on them.
+	 *
+	 * @throws IOException If a data set cannot be closed.
+	 */
+	private static void generated() throws IOException {
+		int n = 3 * Dataset.SEGMENT_SIZE + 17;
+		int[] a = DataGenerator.generate(n, 100, 31);
+		long expected = new MaxSumLongBU().maxSumLong(a);
+		try (GeneratedDataset g = new GeneratedDataset(n, 100, 31);
+				OffHeapDataset h = OffHeapDataset.generate(n, 100, 31)) {
+			for (int i = 0; i < n; i += 997) {
+				check(g.get(i) == a[i] && h.get(i) == a[i], "generated element " + i);
+			}
+			check(g.get(n - 1) == a[n - 1] && h.get(n - 1) == a[n - 1], "last generated element");
+			for (MaxSumDatasetInterface alg : ALGORITHMS) {
+				String name = alg.getClass().getSimpleName();
+				check(alg.maxSum(g) == expected, name + " on a GeneratedDataset");
+				check(alg.maxSum(h) == expected, name + " on a generated OffHeapDataset");
+			}
+		}
+	}
+
+	/**
+	 * Checks that a SharedDataset is closed exactly when its last reference
+	 * is released, and that no reference can be acquired after that.
+	 */
+	private static void shared() {
+		CloseCounter d = new CloseCounter();
+		SharedDataset s = new SharedDataset(d);
+		check(s.get() == d, "SharedDataset.get");
+		check(s.acquire() && s.acquire(), "SharedDataset.acquire");
+		s.release();
+		s.release();
+		check(d.closes == 0, "a SharedDataset was closed while referenced");
+		s.release();
+		check(d.closes == 1, "a SharedDataset was not closed on its last release");
+		check(!s.acquire(), "a closed SharedDataset was acquired");
+	}
+
+	/**
+	 * Checks every algorithm, and the location of the result, on the given
+	 * array, stored on the heap and outside it.
+	 *
+	 * @param a        The array.
+	 * @param expected The maximum sum, start, and end.
+	 * @param name     A description of the test.
+	 * @throws IOException If a data set cannot be closed.
+	 */
+	private static void checkAll(int[] a, long[] expected, String name) throws IOException {
+		try (ArrayDataset d = new ArrayDataset(a); OffHeapDataset h = new OffHeapDataset(a.length)) {
+			for (int i = 0; i < a.length; i++) {
+				h.set(i, a[i]);
+			}
+			Dataset[] sets = {d, h};
+			for (Dataset s : sets) {
+				String where = name + " on " + s.getClass().getSimpleName();
+				check(same(s, a), "the elements of " + where);
+				for (MaxSumDatasetInterface alg : ALGORITHMS) {
+					check(alg.maxSum(s) == expected[0],
+							alg.getClass().getSimpleName() + " on " + where);
+				}
+				check(new MaxSumDatasetFJ(1000, POOL).summarize(s).best == expected[0],
+						"MaxSumDatasetFJ.summarize on " + where);
+				check(SegmentSummary.of(s, 0, s.size()).best == expected[0],
+						"SegmentSummary.of on " + where);
+				long[] range = new long[2];
+				check(MaxSumDatasetBU.maxSumRange(s, range) == expected[0]
+						&& range[0] == expected[1] && range[1] == expected[2],
+						"MaxSumDatasetBU.maxSumRange on " + where + " gave " + Arrays.toString(range)
+						+ ", expected " + Arrays.toString(expected));
+			}
+		}
+	}
+
+	/**
+	 * Returns <tt>true</tt> iff the given data set has the elements of the
+	 * given array.
+	 *
+	 * @param d The data set.
+	 * @param a The array.
+	 * @return  <tt>true</tt> iff d and a have the same elements.
+	 */
+	private static boolean same(Dataset d, int[] a) {
+		if (d.size() != a.length) return false;
+		for (int i = 0; i < a.length; i++) {
+			if (d.get(i) != a[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * An empty data set that counts the times it is closed.
+	 */
+	private static class CloseCounter extends ArrayDataset {
+
+		/**
+		 * The number of times the data set has been closed.
+		 */
+		int closes;
+
+		/**
+		 * Constructs an empty data set.
+		 */
+		CloseCounter() {
+			super(new int[0]);
+		}
+
+		public void close() {
+			closes++;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * DistributedTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumDistributed} with three workers serving on the
+ * loopback address in this process: the summaries of generated data sets,
+ * raw files, and saved data set files must agree with {@link MaxSumLongBU},
+ * a file outside a worker's directory must be refused, and the workers must
+ * stop when asked.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class DistributedTest {
+
+	/**
+	 * The number of workers.
+	 */
+	private static final int WORKERS = 3;
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws IOException          If a worker or a temporary file fails.
+	 * @throws InterruptedException If interrupted while waiting for a worker
+	 *                              to stop.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Random r = new Random(73);
+		Path dir = Files.createTempDirectory("maxsum");
+		Path raw = dir.resolve("data.ints");
+		Path saved = dir.resolve("data.msds");
+		Path outside = Files.createTempFile("maxsum", ".ints");
+		List<InetSocketAddress> workers = new ArrayList<>();
+		Thread[] threads = new Thread[WORKERS];
+		try {
+			for (int i = 0; i < WORKERS; i++) {
+				ServerSocket server = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+				workers.add(new InetSocketAddress(server.getInetAddress(), server.getLocalPort()));
+				threads[i] = new Thread(new Worker(server, dir));
+				threads[i].start();
+			}
+			long[] sizes = {0, 5, 3L * Dataset.SEGMENT_SIZE + 11};
+			for (long n : sizes) {
+				int[] a = DataGenerator.generate((int) n, 1000, 19);
+				check(MaxSumDistributed.coordinate(workers, n, 1000, 19).best
+						== new MaxSumLongBU().maxSumLong(a), "generated data set of " + n);
+				int[] b = BruteForce.extreme(r, (int) n);
+				long expected = new MaxSumLongBU().maxSumLong(b);
+				write(raw, b);
+				check(MaxSumDistributed.coordinate(workers, raw).best == expected,
+						"raw file of " + n + " elements");
+				try (ArrayDataset d = new ArrayDataset(b)) {
+					DatasetFile.write(saved, d, Integer.MAX_VALUE, 0, 0);
+				}
+				check(MaxSumDistributed.coordinate(workers, saved).best == expected,
+						"saved data set of " + n + " elements");
+			}
+			write(outside, new int[] {1, 2, 3});
+			try {
+				MaxSumDistributed.coordinate(workers, outside);
+				check(false, "a worker read a file outside its directory");
+			}
+			catch (IOException e) {
+				// Expected
+			}
+		}
+		finally {
+			for (InetSocketAddress w : workers) {
+				MaxSumDistributed.stop(w);
+			}
+			for (Thread t : threads) {
+				if (t != null) t.join();
+			}
+			Files.deleteIfExists(raw);
+			Files.deleteIfExists(saved);
+			Files.delete(dir);
+			Files.delete(outside);
+		}
+		System.out.println("DistributedTest: passed");
+	}
+
+	/**
+	 * Writes the given elements to the given file as little-endian integers.
+	 *
+	 * @param file The file.
+	 * @param a    The elements.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static void write(Path file, int[] a) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(a.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		b.asIntBuffer().put(a);
+		Files.write(file, b.array());
+	}
+
+	/**
+	 * A worker serving on a given server socket until it is stopped.
+	 */
+	private static class Worker implements Runnable {
+
+		/**
+		 * The server socket.
+		 */
+		private final ServerSocket server;
+
+		/**
+		 * The directory containing every file the worker may read.
+		 */
+		private final Path root;
+
+		/**
+		 * Constructs a worker.
+		 *
+		 * @param server The server socket.
+		 * @param root   The directory containing every file it may read.
+		 */
+		Worker(ServerSocket server, Path root) {
+			this.server = server;
+			this.root = root;
+		}
+
+		public void run() {
+			try (ServerSocket s = server) {
+				MaxSumDistributed.serve(s, root, System.getenv(MaxSumDistributed.TOKEN_VARIABLE));
+			}
+			catch (IOException e) {
+				throw new AssertionError("the worker failed", e);
+			}
+		}
+	}
+}
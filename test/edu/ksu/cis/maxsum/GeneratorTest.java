@@ -0,0 +1,135 @@
+/*
+ * GeneratorTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link DataGenerator}: the parallel generator must produce the
+ * same data set for given n, max, and seed whatever the number of threads,
+ * each block must be the sequence of its own SplittableRandom, a shorter data
+ * set must be a prefix of a longer one, and all elements must lie between
+ * -max and max.  The compatible generator must reproduce the sequence of
+ * java.util.Random.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class GeneratorTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws ExecutionException   If generation on a pool fails.
+	 * @throws InterruptedException If interrupted while waiting for a pool.
+	 */
+	public static void main(String[] args)
+			throws ExecutionException, InterruptedException {
+		int n = 3 * DataGenerator.BLOCK_SIZE + 17;
+		int[] a = DataGenerator.generate(n, 1000, 23);
+		for (int threads = 1; threads <= 4; threads *= 2) {
+			check(Arrays.equals(generate(n, 1000, 23, threads), a),
+					"the data set differs on " + threads + " threads");
+		}
+		for (int b = 0; b * DataGenerator.BLOCK_SIZE < n; b++) {
+			SplittableRandom r = DataGenerator.blockRandom(23, b);
+			int lo = b * DataGenerator.BLOCK_SIZE;
+			int hi = Math.min(n, lo + DataGenerator.BLOCK_SIZE);
+			for (int i = lo; i < hi; i++) {
+				check(a[i] == r.nextInt(2001) - 1000, "wrong element " + i + " in block " + b);
+			}
+		}
+		int[] prefix = DataGenerator.generate(DataGenerator.BLOCK_SIZE + 5, 1000, 23);
+		check(Arrays.equals(prefix, Arrays.copyOf(a, prefix.length)),
+				"a shorter data set is not a prefix of a longer one");
+		check(!Arrays.equals(DataGenerator.generate(n, 1000, 24), a),
+				"different seeds gave the same data set");
+		int[] maxes = {1, 7, GenerateDialog.MAX_MAX};
+		for (int max : maxes) {
+			int[] c = DataGenerator.generate(5000, max, 5);
+			for (int x : c) {
+				check(-max <= x && x <= max, x + " is not between -" + max + " and " + max);
+			}
+		}
+		int[] c = DataGenerator.generate(1000, 50, new Random(9));
+		Random r = new Random(9);
+		for (int i = 0; i < c.length; i++) {
+			check(c[i] == r.nextInt(101) - 50, "compatible element " + i);
+		}
+		System.out.println("GeneratorTest: passed");
+	}
+
+	/**
+	 * Generates a data set by {@link DataGenerator#generate(int, int, long)} on
+	 * a pool with the given number of threads.
+	 *
+	 * @param n       The number of elements.
+	 * @param max     The upper limit on values generated.
+	 * @param seed    The seed.
+	 * @param threads The number of threads.
+	 * @return        The data set.
+	 * @throws ExecutionException   If generation fails.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	private static int[] generate(int n, int max, long seed, int threads)
+			throws ExecutionException, InterruptedException {
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			return pool.submit(new Generation(n, max, seed)).get();
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * A generation of a data set, run on a given pool so that the parallel
+	 * stream it uses runs on that pool.
+	 */
+	private static class Generation implements Callable<int[]> {
+
+		/**
+		 * The number of elements.
+		 */
+		private final int n;
+
+		/**
+		 * The upper limit on values generated.
+		 */
+		private final int max;
+
+		/**
+		 * The seed.
+		 */
+		private final long seed;
+
+		/**
+		 * Constructs a generation of a data set.
+		 *
+		 * @param n    The number of elements.
+		 * @param max  The upper limit on values generated.
+		 * @param seed The seed.
+		 */
+		Generation(int n, int max, long seed) {
+			this.n = n;
+			this.max = max;
+			this.seed = seed;
+		}
+
+		public int[] call() {
+			return DataGenerator.generate(n, max, seed);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * ManyTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumMany} against {@link BruteForce}: the maximum
+ * subsequence sums of many small arrays, given separately or in a single
+ * buffer, computed sequentially and in parallel.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class ManyTest {
+
+	/**
+	 * The pool used by the parallel algorithms.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(71);
+		many(r);
+		POOL.shutdown();
+		System.out.println("ManyTest: passed");
+	}
+
+	/**
+	 * Checks the results for many arrays, given separately or in a single
+	 * buffer, against the brute-force results.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void many(Random r) {
+		int count = 500;
+		int[][] arrays = new int[count][];
+		int[] offsets = new int[count + 1];
+		for (int i = 0; i < count; i++) {
+			arrays[i] = i % 5 == 0 ? BruteForce.extreme(r, r.nextInt(20))
+					: BruteForce.random(r, r.nextInt(20), 100);
+			offsets[i + 1] = offsets[i] + arrays[i].length;
+		}
+		int[] data = new int[offsets[count]];
+		for (int i = 0; i < count; i++) {
+			System.arraycopy(arrays[i], 0, data, offsets[i], arrays[i].length);
+		}
+		MaxSumMany[] algs = {new MaxSumMany(), new MaxSumMany(3, POOL)};
+		for (MaxSumMany alg : algs) {
+			int[] ints = new int[count];
+			long[] longs = new long[count];
+			int[] bufferInts = new int[count];
+			long[] bufferLongs = new long[count];
+			alg.maxSums(arrays, ints);
+			alg.maxSums(arrays, longs);
+			alg.maxSums(data, offsets, bufferInts);
+			alg.maxSums(data, offsets, bufferLongs);
+			for (int i = 0; i < count; i++) {
+				long expected = BruteForce.maxSum(arrays[i])[0];
+				int bu = new MaxSumBU().maxSum(arrays[i]);
+				String name = "MaxSumMany on " + Arrays.toString(arrays[i]);
+				check(ints[i] == bu && bufferInts[i] == bu, name + ": wrong int result");
+				check(longs[i] == expected && bufferLongs[i] == expected,
+						name + ": wrong long result");
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MappedTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MappedIntFile}: files of little-endian integers, with and
+ * without a header to skip, are mapped and compared with the elements
+ * written, and the algorithms run by {@link MaxSumMapped} are checked on
+ * them against {@link BruteForce} or, for files spanning several segments,
+ * {@link MaxSumLongBU}.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class MappedTest {
+
+	/**
+	 * The algorithms run on the mapped files.
+	 */
+	private static final MaxSumDatasetInterface[] ALGORITHMS = {new MaxSumDatasetBU(),
+			new MaxSumDatasetDC(), new MaxSumDatasetFJ()};
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 * @throws IOException If a temporary file cannot be used.
+	 */
+	public static void main(String[] args) throws IOException {
+		Random r = new Random(37);
+		Path file = Files.createTempFile("maxsum", ".ints");
+		try {
+			int[] sizes = {0, 1, 50, 3 * Dataset.SEGMENT_SIZE + 11};
+			for (int n : sizes) {
+				for (int offset = 0; offset <= 12; offset += 12) {
+					int[] a = n > 1000 ? BruteForce.extreme(r, n) : BruteForce.random(r, n, 1000);
+					long expected = n > 1000 ? new MaxSumLongBU().maxSumLong(a)
+							: BruteForce.maxSum(a)[0];
+					write(file, offset, a);
+					String name = n + " elements after " + offset + " bytes";
+					try (MappedIntFile f = offset == 0 ? new MappedIntFile(file)
+							: new MappedIntFile(file, offset)) {
+						check(f.size() == n, name + ": wrong size " + f.size());
+						for (int i = 0; i < n; i++) {
+							check(f.get(i) == a[i], name + ": wrong element " + i);
+						}
+						for (MaxSumDatasetInterface alg : ALGORITHMS) {
+							check(alg.maxSum(f) == expected,
+									alg.getClass().getSimpleName() + " on " + name);
+						}
+					}
+				}
+			}
+			Files.write(file, new byte[] {1, 2, 3, 4, 5});
+			try {
+				new MappedIntFile(file).close();
+				check(false, "a file of 5 bytes was mapped");
+			}
+			catch (IOException e) {
+				// Expected
+			}
+		}
+		finally {
+			Files.delete(file);
+		}
+		System.out.println("MappedTest: passed");
+	}
+
+	/**
+	 * Writes the given elements to the given file as little-endian integers,
+	 * preceded by the given number of zero bytes.
+	 *
+	 * @param file   The file.
+	 * @param offset The number of bytes preceding the elements.
+	 * @param a      The elements.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static void write(Path file, int offset, int[] a) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(offset + a.length * Integer.BYTES)
+				.order(ByteOrder.LITTLE_ENDIAN);
+		b.position(offset);
+		b.asIntBuffer().put(a);
+		Files.write(file, b.array());
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * SegmentTreeTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumSegmentTree} against {@link BruteForce}: the maximum
+ * sum of all the elements and of random segments after random updates, and
+ * the rejection of invalid indices.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class SegmentTreeTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(41);
+		for (int t = 0; t < 60; t++) {
+			int[] a = BruteForce.random(r, 1 + r.nextInt(40), 20);
+			MaxSumSegmentTree tree = new MaxSumSegmentTree(a.clone());
+			check(tree.size() == a.length, "MaxSumSegmentTree.size");
+			check(tree.maxSum() == BruteForce.maxSum(a)[0], "MaxSumSegmentTree.maxSum on "
+					+ Arrays.toString(a));
+			for (int u = 0; u < 40; u++) {
+				int i = r.nextInt(a.length);
+				a[i] = r.nextInt(41) - 20;
+				tree.update(i, a[i]);
+				check(tree.get(i) == a[i], "MaxSumSegmentTree.get after update");
+				check(tree.maxSum() == BruteForce.maxSum(a)[0], "MaxSumSegmentTree.maxSum on "
+						+ Arrays.toString(a));
+				int lo = r.nextInt(a.length);
+				int hi = lo + r.nextInt(a.length - lo);
+				long expected = BruteForce.maxSum(Arrays.copyOfRange(a, lo, hi + 1))[0];
+				check(tree.query(lo, hi) == expected, "MaxSumSegmentTree.query(" + lo + ", " + hi
+						+ ") on " + Arrays.toString(a));
+			}
+		}
+		check(new MaxSumSegmentTree(new int[0]).maxSum() == 0, "empty MaxSumSegmentTree");
+		MaxSumSegmentTree tree = new MaxSumSegmentTree(new int[] {1, -2, 3});
+		try {
+			tree.update(3, 0);
+			check(false, "MaxSumSegmentTree accepted index 3 of 3 elements");
+		}
+		catch (IndexOutOfBoundsException e) {
+			// Expected
+		}
+		try {
+			tree.query(2, 1);
+			check(false, "MaxSumSegmentTree accepted a query with lo > hi");
+		}
+		catch (IllegalArgumentException e) {
+			// Expected
+		}
+		System.out.println("SegmentTreeTest: passed");
+	}
+}
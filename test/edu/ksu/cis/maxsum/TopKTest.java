@@ -0,0 +1,134 @@
+/*
+ * TopKTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumTopK} against brute force: the k largest
+ * subsequence sums against all positive sums in the order reported, and
+ * the k largest sums of disjoint subsequences against a greedy search.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class TopKTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(61);
+		topK(r);
+		topKDisjoint(r);
+		try {
+			MaxSumTopK.topK(new int[3], -1);
+			check(false, "MaxSumTopK.topK accepted a negative k");
+		}
+		catch (IllegalArgumentException e) {
+			// Expected
+		}
+		System.out.println("TopKTest: passed");
+	}
+
+	/**
+	 * Checks the k largest subsequence sums against all positive sums sorted
+	 * by sum, then end, then start in reverse.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void topK(Random r) {
+		for (int t = 0; t < 100; t++) {
+			int[] a = t % 4 == 0 ? BruteForce.extreme(r, r.nextInt(25))
+					: BruteForce.random(r, r.nextInt(25), 10);
+			ArrayList<long[]> all = new ArrayList<long[]>();
+			for (int end = 1; end <= a.length; end++) {
+				for (int start = end - 1; start >= 0; start--) {
+					long s = BruteForce.sum(a, start, end);
+					if (s > 0) {
+						all.add(new long[] {s, start, end});
+					}
+				}
+			}
+			all.sort(new ResultOrder());
+			int k = 1 + r.nextInt(all.size() + 3);
+			MaxSumResult[] results = MaxSumTopK.topK(a, k);
+			String name = "MaxSumTopK.topK(" + Arrays.toString(a) + ", " + k + ")";
+			check(results.length == Math.min(k, all.size()), name + ": wrong number of results");
+			for (int i = 0; i < results.length; i++) {
+				long[] e = all.get(i);
+				check(results[i].getSum() == e[0] && results[i].getStart() == e[1]
+						&& results[i].getEnd() == e[2], name + ": result " + i + " is "
+						+ results[i] + ", expected " + Arrays.toString(e));
+			}
+		}
+	}
+
+	/**
+	 * Checks the k largest sums of disjoint subsequences against a greedy
+	 * brute-force search that repeatedly chooses the best subsequence
+	 * overlapping none already chosen.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void topKDisjoint(Random r) {
+		for (int t = 0; t < 100; t++) {
+			int[] a = t % 4 == 0 ? BruteForce.extreme(r, r.nextInt(40))
+					: BruteForce.random(r, r.nextInt(40), 10);
+			int k = 1 + r.nextInt(10);
+			boolean[] used = new boolean[a.length];
+			ArrayList<long[]> expected = new ArrayList<long[]>();
+			// Invariant: expected holds the subsequences chosen so far, which
+			//            are the elements marked in used
+			while (expected.size() < k) {
+				long[] best = null;
+				for (int end = 1; end <= a.length; end++) {
+					for (int start = end - 1; start >= 0 && !used[start]; start--) {
+						long s = BruteForce.sum(a, start, end);
+						if (s > 0 && (best == null || s > best[0])) {
+							best = new long[] {s, start, end};
+						}
+					}
+				}
+				if (best == null) break;
+				expected.add(best);
+				Arrays.fill(used, (int) best[1], (int) best[2], true);
+			}
+			expected.sort(new ResultOrder());
+			MaxSumResult[] results = MaxSumTopK.topKDisjoint(a, k);
+			String name = "MaxSumTopK.topKDisjoint(" + Arrays.toString(a) + ", " + k + ")";
+			check(results.length == expected.size(), name + ": wrong number of results");
+			for (int i = 0; i < results.length; i++) {
+				long[] e = expected.get(i);
+				check(results[i].getSum() == e[0] && results[i].getStart() == e[1]
+						&& results[i].getEnd() == e[2], name + ": result " + i + " is "
+						+ results[i] + ", expected " + Arrays.toString(e));
+			}
+		}
+	}
+
+	/**
+	 * The order in which MaxSumTopK reports results given as {sum, start,
+	 * end}: by sum in decreasing order, then by end, then by start in
+	 * decreasing order.
+	 */
+	private static class ResultOrder implements Comparator<long[]> {
+
+		public int compare(long[] x, long[] y) {
+			if (x[0] != y[0]) return Long.compare(y[0], x[0]);
+			else if (x[2] != y[2]) return Long.compare(x[2], y[2]);
+			else return Long.compare(y[1], x[1]);
+		}
+	}
+}
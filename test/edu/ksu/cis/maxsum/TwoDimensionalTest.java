@@ -0,0 +1,102 @@
+/*
+ * TwoDimensionalTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSum2D} against a brute-force search over all
+ * submatrices, for matrices given as rows or in row-major order.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class TwoDimensionalTest {
+
+	/**
+	 * The pool used by the parallel algorithms.
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(59);
+		twoDimensional(r);
+		POOL.shutdown();
+		System.out.println("TwoDimensionalTest: passed");
+	}
+
+	/**
+	 * Checks the maximum submatrix sums, given as rows or in row-major
+	 * order, against a brute-force search over all submatrices, and checks
+	 * that the submatrix located has the sum.
+	 *
+	 * @param r The random number generator.
+	 */
+	private static void twoDimensional(Random r) {
+		MaxSum2D alg = new MaxSum2D(POOL);
+		for (int t = 0; t < 60; t++) {
+			int rows = r.nextInt(9);
+			int cols = r.nextInt(9);
+			int[][] m = new int[rows][];
+			int[] flat = new int[rows * cols];
+			for (int i = 0; i < rows; i++) {
+				m[i] = t % 5 == 0 ? BruteForce.extreme(r, cols) : BruteForce.random(r, cols, 10);
+				System.arraycopy(m[i], 0, flat, i * cols, cols);
+			}
+			long expected = 0;
+			for (int top = 0; top < rows; top++) {
+				for (int bottom = top + 1; bottom <= rows; bottom++) {
+					for (int left = 0; left < cols; left++) {
+						for (int right = left + 1; right <= cols; right++) {
+							expected = Math.max(expected, sum(m, top, bottom, left, right));
+						}
+					}
+				}
+			}
+			String name = "MaxSum2D on a " + rows + " x " + cols + " matrix "
+					+ Arrays.deepToString(m);
+			MaxSumRectangle[] results = {alg.maxSum(m), alg.maxSum(flat, rows, cols)};
+			for (MaxSumRectangle rect : results) {
+				check(rect.getSum() == expected, name + ": wrong sum " + rect);
+				check(0 <= rect.getTop() && rect.getTop() <= rect.getBottom()
+						&& rect.getBottom() <= rows && 0 <= rect.getLeft()
+						&& rect.getLeft() <= rect.getRight() && rect.getRight() <= cols,
+						name + ": " + rect + " is not a submatrix");
+				check(sum(m, rect.getTop(), rect.getBottom(), rect.getLeft(), rect.getRight())
+						== expected, name + ": " + rect + " does not have the sum");
+			}
+		}
+	}
+
+	/**
+	 * Returns the sum of the submatrix of m in rows top..bottom-1 and
+	 * columns left..right-1.
+	 *
+	 * @param m      The matrix.
+	 * @param top    The index of the first row.
+	 * @param bottom One more than the index of the last row.
+	 * @param left   The index of the first column.
+	 * @param right  One more than the index of the last column.
+	 * @return       The sum.
+	 */
+	private static long sum(int[][] m, int top, int bottom, int left, int right) {
+		long s = 0;
+		for (int i = top; i < bottom; i++) {
+			s += BruteForce.sum(m[i], left, right);
+		}
+		return s;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * WindowTest.java       October 17, 2026
+ *
+ * Copyright (c) 2026, Rod Howell, all rights reserved.
+ */
+package edu.ksu.cis.maxsum;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.ksu.cis.maxsum.BruteForce.check;
+
+/**
+ * Tests of {@link MaxSumWindow} against {@link BruteForce}: after each
+ * element of a stream is added, the maximum sum must be that of the last w
+ * elements, and the window must hold exactly those elements.
+ *
+ * @author Rod Howell
+ *         (<a href="mailto:rhowell@ksu.edu">rhowell@ksu.edu</a>)
+ *
+ */
+public class WindowTest {
+
+	/**
+	 * Runs the tests.
+	 *
+	 * @param args The command-line arguments (ignored).
+	 */
+	public static void main(String[] args) {
+		Random r = new Random(43);
+		for (int t = 0; t < 40; t++) {
+			int w = 1 + r.nextInt(12);
+			int[] stream = BruteForce.random(r, 100, 15);
+			MaxSumWindow win = new MaxSumWindow(w);
+			check(win.windowSize() == w, "MaxSumWindow.windowSize");
+			for (int i = 0; i < stream.length; i++) {
+				int[] last = Arrays.copyOfRange(stream, Math.max(0, i + 1 - w), i + 1);
+				String name = "MaxSumWindow(" + w + ") on " + Arrays.toString(last);
+				check(win.add(stream[i]) == BruteForce.maxSum(last)[0], name);
+				check(win.maxSum() == BruteForce.maxSum(last)[0], name + ": maxSum");
+				check(win.size() == last.length, name + ": size");
+				int[] copy = new int[win.size()];
+				win.copyTo(copy);
+				check(Arrays.equals(copy, last), name + ": copyTo");
+			}
+			win.clear();
+			check(win.size() == 0 && win.maxSum() == 0, "MaxSumWindow.clear");
+		}
+		System.out.println("WindowTest: passed");
+	}
+}